@@ -0,0 +1,56 @@
+package tv.systems.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.whispersystems.curve25519.Curve25519;
+import org.whispersystems.curve25519.PreparedPrivateKey;
+import org.whispersystems.curve25519.java.ge_scalarmult_base_wide;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Key generation and prepared-key signing, both one fixed-base multiplication, with the ref10 tables (window 0)
+// and the wide-window tables of ge_scalarmult_base_wide.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseWindowBenchmark {
+
+    @Param({"0", "4", "5", "6"})
+    public int window;
+
+    private Curve25519 curve;
+    private PreparedPrivateKey privateKey;
+    private byte[] message;
+
+    @Setup
+    public void setup() {
+        ge_scalarmult_base_wide.setWindow(window);
+        curve = Curve25519.getInstance(Curve25519.JAVA);
+        privateKey = curve.preparePrivateKey(curve.generateKeyPair().getPrivateKey());
+        message = new byte[100];
+        new Random(100).nextBytes(message);
+    }
+
+    @Benchmark
+    public Object generateKeyPair() {
+        return curve.generateKeyPair();
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return curve.calculateSignature(privateKey, message);
+    }
+}
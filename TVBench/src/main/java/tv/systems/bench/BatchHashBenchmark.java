@@ -0,0 +1,71 @@
+package tv.systems.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tv.systems.utils.Hash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Batch hashing with and without the jdk.incubator.vector lane engine; needs a JDK 17+ runtime.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchHashBenchmark {
+
+    @Param({"256"})
+    public int count;
+
+    @Param({"32", "100", "300"})
+    public int length;
+
+    private List<byte[]> messages;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(count ^ length);
+        messages = new ArrayList<byte[]>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] message = new byte[length];
+            random.nextBytes(message);
+            messages.add(message);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dtv.systems.hash.lanes=false"})
+    public byte[] secureHashScalar() {
+        return Hash.secureHashBatch(messages);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public byte[] secureHashLanes() {
+        return Hash.secureHashBatch(messages);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dtv.systems.hash.lanes=false"})
+    public byte[] blake2bScalar() {
+        return Hash.blake2bBatch(messages);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public byte[] blake2bLanes() {
+        return Hash.blake2bBatch(messages);
+    }
+}
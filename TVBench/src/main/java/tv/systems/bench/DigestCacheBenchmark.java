@@ -0,0 +1,66 @@
+package tv.systems.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tv.systems.utils.Hash;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// secureHash with per-thread digests against the shared pool, from long-lived threads and from a fresh
+// thread per call (the case the pool is for: no ThreadLocal survives, so every call builds new digests).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestCacheBenchmark {
+
+    @Param({"THREAD_LOCAL", "POOL"})
+    public Hash.DigestCache cache;
+
+    private byte[] message;
+
+    @Setup
+    public void setup() {
+        Hash.setDigestCache(cache);
+        message = new byte[100];
+        new Random(37).nextBytes(message);
+    }
+
+    @Benchmark
+    public byte[] sameThread() {
+        return Hash.secureHash(message);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] fourThreads() {
+        return Hash.secureHash(message);
+    }
+
+    @Benchmark
+    public byte[] freshThread() throws InterruptedException {
+        final byte[][] result = new byte[1][];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                result[0] = Hash.secureHash(message);
+            }
+        });
+        thread.start();
+        thread.join();
+        return result[0];
+    }
+}
@@ -0,0 +1,56 @@
+package tv.systems.bench;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tv.systems.utils.Keccak256Digest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// The dedicated Keccak-256 digest against the generic BouncyCastle KeccakDigest it replaced.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeccakBenchmark {
+
+    @Param({"32", "135", "136", "1024"})
+    public int length;
+
+    private byte[] message;
+    private final byte[] out = new byte[32];
+    private final KeccakDigest generic = new KeccakDigest(256);
+    private final Keccak256Digest dedicated = new Keccak256Digest();
+
+    @Setup
+    public void setup() {
+        message = new byte[length];
+        new Random(length).nextBytes(message);
+    }
+
+    @Benchmark
+    public byte[] bouncyCastle() {
+        generic.update(message, 0, message.length);
+        generic.doFinal(out, 0);
+        return out;
+    }
+
+    @Benchmark
+    public byte[] dedicated() {
+        dedicated.update(message, 0, message.length);
+        dedicated.doFinal(out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,58 @@
+package tv.systems.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.whispersystems.curve25519.Curve25519;
+import org.whispersystems.curve25519.Curve25519KeyPair;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Signing and verifying on the ten-limb ref10 field ("java") against the five 51-bit limb one ("java64").
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignatureBenchmark {
+
+    @Param({"java", "java64"})
+    public String provider;
+
+    private Curve25519 curve;
+    private byte[] privateKey;
+    private byte[] publicKey;
+    private byte[] message;
+    private byte[] signature;
+
+    @Setup
+    public void setup() {
+        curve = Curve25519.getInstance(provider);
+        Curve25519KeyPair keyPair = curve.generateKeyPair();
+        privateKey = keyPair.getPrivateKey();
+        publicKey = keyPair.getPublicKey();
+        message = new byte[100];
+        new Random(100).nextBytes(message);
+        signature = curve.calculateSignature(privateKey, message);
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return curve.calculateSignature(privateKey, message);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return curve.verifySignature(publicKey, message, signature);
+    }
+}
@@ -0,0 +1,144 @@
+package org.whispersystems.curve25519;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * A {@link SecureRandomProvider} that keeps one long-lived {@link SecureRandom} per thread
+ * instead of constructing (and seeding) a new one for every request.
+ *
+ * Random bytes are drawn from the generator in blocks of {@code bufferSize} bytes and handed
+ * out from that per-thread buffer, so signing many messages costs one generator call per block.
+ * Bytes are cleared from the buffer as soon as they have been handed out. After
+ * {@code reseedInterval} bytes a thread replaces its generator with a freshly seeded one.
+ */
+public class BufferedSecureRandomProvider implements SecureRandomProvider {
+
+  public static final int DEFAULT_BUFFER_SIZE     = 1024;
+  public static final int DEFAULT_RESEED_INTERVAL = 1 << 20;
+
+  private final int                 bufferSize;
+  private final long                reseedInterval;
+  private final ThreadLocal<State>  state = new ThreadLocal<State>();
+
+  public BufferedSecureRandomProvider() {
+    this(DEFAULT_BUFFER_SIZE, DEFAULT_RESEED_INTERVAL);
+  }
+
+  /**
+   * @param bufferSize The number of random bytes generated at once; 0 disables buffering.
+   * @param reseedInterval The number of bytes a generator produces before it is replaced.
+   */
+  public BufferedSecureRandomProvider(int bufferSize, long reseedInterval) {
+    if (bufferSize < 0) {
+      throw new IllegalArgumentException("Buffer size must not be negative");
+    }
+
+    if (reseedInterval <= 0) {
+      throw new IllegalArgumentException("Reseed interval must be positive");
+    }
+
+    this.bufferSize     = bufferSize;
+    this.reseedInterval = reseedInterval;
+  }
+
+  @Override
+  public void nextBytes(byte[] output) {
+    nextBytes(output, 0, output.length);
+  }
+
+  /**
+   * Fills {@code output[offset, offset + length)} with random bytes, e.g. the nonces of a whole
+   * batch of signatures at once.
+   */
+  public void nextBytes(byte[] output, int offset, int length) {
+    if (offset < 0 || length < 0 || output.length - offset < length) {
+      throw new IllegalArgumentException("Invalid output range");
+    }
+
+    State state = state();
+
+    while (length > 0) {
+      if (state.available == 0) {
+        if (length >= bufferSize && offset == 0 && length == output.length) {
+          state.generate(output);
+          return;
+        }
+
+        if (length >= bufferSize) {
+          byte[] direct = new byte[length];
+          state.generate(direct);
+          System.arraycopy(direct, 0, output, offset, length);
+          Arrays.fill(direct, (byte)0);
+          return;
+        }
+
+        state.generate(state.buffer);
+        state.available = bufferSize;
+      }
+
+      int start = bufferSize - state.available;
+      int chunk = Math.min(length, state.available);
+
+      System.arraycopy(state.buffer, start, output, offset, chunk);
+      Arrays.fill(state.buffer, start, start + chunk, (byte)0);
+
+      state.available -= chunk;
+      offset          += chunk;
+      length          -= chunk;
+    }
+  }
+
+  @Override
+  public int nextInt(int maxValue) {
+    State state = state();
+    state.reseedIfNeeded(4);
+    return state.random.nextInt(maxValue);
+  }
+
+  private State state() {
+    State current = state.get();
+
+    if (current == null) {
+      current = new State(new byte[bufferSize], reseedInterval);
+      state.set(current);
+    }
+
+    return current;
+  }
+
+  /**
+   * Creates the generator for a thread, at first use and on every reseed.
+   */
+  protected SecureRandom newSecureRandom() {
+    return new SecureRandom();
+  }
+
+  private class State {
+    private final byte[] buffer;
+    private final long   reseedInterval;
+
+    private SecureRandom random = newSecureRandom();
+    private long         generated;
+    private int          available;
+
+    State(byte[] buffer, long reseedInterval) {
+      this.buffer         = buffer;
+      this.reseedInterval = reseedInterval;
+    }
+
+    void generate(byte[] output) {
+      reseedIfNeeded(output.length);
+      random.nextBytes(output);
+    }
+
+    void reseedIfNeeded(int length) {
+      if (generated + length > reseedInterval) {
+        random    = newSecureRandom();
+        generated = 0;
+      }
+
+      generated += length;
+    }
+  }
+}
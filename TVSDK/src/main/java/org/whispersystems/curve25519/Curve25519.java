@@ -6,6 +6,8 @@
 
 package org.whispersystems.curve25519;
 
+import org.whispersystems.curve25519.java.Sha512;
+
 /**
  * A Curve25519 interface for generating keys, calculating agreements, creating signatures,
  * and verifying signatures.
@@ -16,6 +18,7 @@ public class Curve25519 {
 
   public static final String NATIVE = "native";
   public static final String JAVA   = "java";
+  public static final String JAVA64 = "java64";
   public static final String J2ME   = "j2me";
   public static final String BEST   = "best";
 
@@ -28,11 +31,28 @@ public class Curve25519 {
   {
     if      (NATIVE.equals(type)) return new Curve25519(constructNativeProvider(random));
     else if (JAVA.equals(type))   return new Curve25519(constructJavaProvider(random));
+    else if (JAVA64.equals(type)) return new Curve25519(constructJava64Provider(random));
     else if (J2ME.equals(type))   return new Curve25519(constructJ2meProvider(random));
     else if (BEST.equals(type))   return new Curve25519(constructOpportunisticProvider(random));
     else                          throw new NoSuchProviderException(type);
   }
 
+  /**
+   * Like {@link #getInstance(String, SecureRandomProvider)}, but with the SHA-512 implementation
+   * used for signatures replaced by {@code sha512} (ignored by the native provider).
+   */
+  public static Curve25519 getInstance(String type, SecureRandomProvider random, Sha512 sha512)
+      throws NoSuchProviderException
+  {
+    Curve25519 curve25519 = getInstance(type, random);
+
+    if (sha512 != null) {
+      curve25519.provider.setSha512Provider(sha512);
+    }
+
+    return curve25519;
+  }
+
   private final Curve25519Provider provider;
 
   private Curve25519(Curve25519Provider provider) {
@@ -97,6 +117,39 @@ public class Curve25519 {
     return provider.calculateSignature(random, privateKey, message);
   }
 
+  /**
+   * Prepare a Curve25519 private key for creating many signatures with
+   * {@link #calculateSignature(PreparedPrivateKey, byte[])}.
+   *
+   * @param privateKey The private Curve25519 key.
+   * @return The prepared private key.
+   */
+  public PreparedPrivateKey preparePrivateKey(byte[] privateKey) {
+    if (privateKey == null || privateKey.length != 32) {
+      throw new IllegalArgumentException("Invalid private key length!");
+    }
+
+    return new PreparedPrivateKey(privateKey);
+  }
+
+  /**
+   * Calculates a Curve25519 signature with a prepared private key.  The signature verifies the
+   * same as one from {@link #calculateSignature(byte[], byte[])} with the key the prepared key
+   * was made from.
+   *
+   * @param privateKey The prepared private key to create the signature with.
+   * @param message The message to sign.
+   * @return A 64-byte signature.
+   */
+  public byte[] calculateSignature(PreparedPrivateKey privateKey, byte[] message) {
+    if (privateKey == null) {
+      throw new IllegalArgumentException("Invalid private key length!");
+    }
+
+    byte[] random = provider.getRandom(64);
+    return provider.calculateSignature(random, privateKey, message);
+  }
+
   /**
    * Verify a Curve25519 signature.
    *
@@ -117,6 +170,93 @@ public class Curve25519 {
     return provider.verifySignature(publicKey, message, signature);
   }
 
+  /**
+   * Prepare a Curve25519 public key for verifying many signatures with
+   * {@link #verifySignature(PreparedPublicKey, byte[], byte[])}.
+   *
+   * @param publicKey The Curve25519 public key.
+   * @return The prepared public key.
+   */
+  public PreparedPublicKey preparePublicKey(byte[] publicKey) {
+    if (publicKey == null || publicKey.length != 32) {
+      throw new IllegalArgumentException("Invalid public key!");
+    }
+
+    return new PreparedPublicKey(publicKey);
+  }
+
+  /**
+   * Verify a Curve25519 signature against a prepared public key.  The result is the same as
+   * {@link #verifySignature(byte[], byte[], byte[])} with the key the prepared key was made from.
+   *
+   * @param publicKey The prepared public key the signature belongs to.
+   * @param message The message that was signed.
+   * @param signature The signature to verify.
+   * @return true if valid, false if not.
+   */
+  public boolean verifySignature(PreparedPublicKey publicKey, byte[] message, byte[] signature) {
+    if (publicKey == null) {
+      throw new IllegalArgumentException("Invalid public key!");
+    }
+
+    if (message == null || signature == null || signature.length != 64) {
+      return false;
+    }
+
+    return provider.verifySignature(publicKey, message, signature);
+  }
+
+  /**
+   * Verify many Curve25519 signatures at once.
+   *
+   * Each signature gets the same result as from {@link #verifySignature}, whatever the size of the
+   * batch.  The Java providers spread large batches over the common fork-join pool.
+   *
+   * @param publicKeys The Curve25519 public keys the signatures belong to.
+   * @param messages The messages that were signed.
+   * @param signatures The signatures to verify.
+   * @return for each index, true if that signature is valid, false if not.
+   */
+  public boolean[] verifySignatures(byte[][] publicKeys, byte[][] messages, byte[][] signatures) {
+    if (publicKeys == null || messages == null || signatures == null ||
+        publicKeys.length != messages.length || publicKeys.length != signatures.length)
+    {
+      throw new IllegalArgumentException("Keys, messages and signatures must have the same length!");
+    }
+
+    int[] wellFormed = new int[signatures.length];
+    int   count      = 0;
+
+    for (int i = 0; i < signatures.length; i++) {
+      if (publicKeys[i] == null || publicKeys[i].length != 32) {
+        throw new IllegalArgumentException("Invalid public key!");
+      }
+
+      if (messages[i] != null && signatures[i] != null && signatures[i].length == 64) {
+        wellFormed[count++] = i;
+      }
+    }
+
+    byte[][] checkedKeys       = new byte[count][];
+    byte[][] checkedMessages   = new byte[count][];
+    byte[][] checkedSignatures = new byte[count][];
+
+    for (int i = 0; i < count; i++) {
+      checkedKeys[i]       = publicKeys[wellFormed[i]];
+      checkedMessages[i]   = messages[wellFormed[i]];
+      checkedSignatures[i] = signatures[wellFormed[i]];
+    }
+
+    boolean[] checked = provider.verifySignatures(checkedKeys, checkedMessages, checkedSignatures);
+    boolean[] valid   = new boolean[signatures.length];
+
+    for (int i = 0; i < count; i++) {
+      valid[wellFormed[i]] = checked[i];
+    }
+
+    return valid;
+  }
+
   /**
    * Calculates a Unique Curve25519 signature.
    *
@@ -164,6 +304,10 @@ public class Curve25519 {
     return constructClass("JavaCurve25519Provider", random);
   }
 
+  private static Curve25519Provider constructJava64Provider(SecureRandomProvider random) throws NoSuchProviderException {
+    return constructClass("Java64Curve25519Provider", random);
+  }
+
   private static Curve25519Provider constructJ2meProvider(SecureRandomProvider random) throws NoSuchProviderException {
     return constructClass("J2meCurve25519Provider", random);
   }
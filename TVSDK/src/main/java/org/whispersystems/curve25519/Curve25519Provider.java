@@ -6,6 +6,8 @@
 
 package org.whispersystems.curve25519;
 
+import org.whispersystems.curve25519.java.Sha512;
+
 interface Curve25519Provider {
 
   static final int PRIVATE_KEY_LEN = 32;
@@ -17,7 +19,10 @@ interface Curve25519Provider {
   byte[] generatePrivateKey(byte[] random);
 
   byte[] calculateSignature(byte[] random, byte[] privateKey, byte[] message);
+  byte[] calculateSignature(byte[] random, PreparedPrivateKey privateKey, byte[] message);
   boolean verifySignature(byte[] publicKey, byte[] message, byte[] signature);
+  boolean verifySignature(PreparedPublicKey publicKey, byte[] message, byte[] signature);
+  boolean[] verifySignatures(byte[][] publicKeys, byte[][] messages, byte[][] signatures);
   byte[] calculateVrfSignature(byte[] random, byte[] privateKey, byte[] message);
   byte[] verifyVrfSignature(byte[] publicKey, byte[] message, byte[] signature)
       throws VrfSignatureVerificationFailedException;
@@ -26,4 +31,6 @@ interface Curve25519Provider {
 
   void setRandomProvider(SecureRandomProvider provider);
 
+  void setSha512Provider(Sha512 provider);
+
 }
@@ -0,0 +1,186 @@
+package org.whispersystems.curve25519;
+
+import org.whispersystems.curve25519.java.curve_sigs;
+import org.whispersystems.curve25519.java.fe_copy;
+import org.whispersystems.curve25519.java.fe_neg;
+import org.whispersystems.curve25519.java.ge51;
+import org.whispersystems.curve25519.java.ge_frombytes;
+import org.whispersystems.curve25519.java.ge_p3;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache of Curve25519 public keys converted to Ed25519 and decoded to points, so
+ * that repeated verifications against the same key skip the field inversion and the point
+ * decompression.
+ *
+ * Lookups take no lock. Eviction is approximately least-recently-used: once the cache grows
+ * past its capacity, one thread sweeps it, dropping keys that have not been looked up since
+ * the previous sweep and giving the rest a second chance.
+ */
+class EdwardsKeyCache {
+
+  static final int DEFAULT_CAPACITY = 4096;
+
+  private final ConcurrentHashMap<Key, Entry> entries;
+  private final int                           capacity;
+  private final int                           sweepTarget;
+  private final ReentrantLock                 sweepLock = new ReentrantLock();
+
+  /* looked up with a per-thread key over the caller's array, so hits allocate nothing */
+  private static final ThreadLocal<Key> PROBE = new ThreadLocal<Key>() {
+    @Override
+    protected Key initialValue() {
+      return new Key();
+    }
+  };
+
+  EdwardsKeyCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+
+    this.entries     = new ConcurrentHashMap<Key, Entry>(Math.min(capacity, DEFAULT_CAPACITY));
+    this.capacity    = capacity;
+    /* sweep an eighth below capacity, so that a full cache is not swept on every miss */
+    this.sweepTarget = capacity - capacity / 8;
+  }
+
+  Entry get(byte[] publicKey) {
+    Key   probe = PROBE.get().wrap(publicKey);
+    Entry entry = entries.get(probe);
+
+    probe.wrap(null);
+
+    if (entry != null) {
+      if (!entry.referenced) {
+        entry.referenced = true;
+      }
+
+      return entry;
+    }
+
+    entry = new Entry(publicKey);
+
+    Entry raced = entries.putIfAbsent(new Key().wrap(publicKey.clone()), entry);
+
+    if (raced != null) {
+      return raced;
+    }
+
+    if (entries.size() > capacity) {
+      sweep();
+    }
+
+    return entry;
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /* Another thread already sweeping will bring the size down, so never wait for it. */
+  private void sweep() {
+    if (!sweepLock.tryLock()) {
+      return;
+    }
+
+    try {
+      /* The first pass clears the flags it passes over, so the second can always evict. */
+      for (int pass = 0; pass < 2 && entries.size() > sweepTarget; pass++) {
+        Iterator<Entry> iterator = entries.values().iterator();
+
+        while (iterator.hasNext() && entries.size() > sweepTarget) {
+          Entry entry = iterator.next();
+
+          if (entry.referenced) {
+            entry.referenced = false;
+          } else {
+            iterator.remove();
+          }
+        }
+      }
+    } finally {
+      sweepLock.unlock();
+    }
+  }
+
+  static class Entry {
+    /* the Ed25519 public key with its sign bit cleared */
+    final byte[] edPublicKey = new byte[32];
+
+    /* set by every cache hit and cleared by a sweep; unset entries are evicted first */
+    volatile boolean referenced;
+
+    /* -A as decoded by ge_frombytes_negate_vartime for sign bit 0 and 1, null if the key does not decode */
+    private final ge_p3[] minusPoint = new ge_p3[2];
+
+    Entry(byte[] publicKey) {
+      curve_sigs.curve25519_pubkey_to_ed(edPublicKey, publicKey);
+
+      ge_p3 point = new ge_p3();
+
+      if (ge_frombytes.ge_frombytes_negate_vartime(point, edPublicKey) == 0) {
+        /* The other sign bit decodes to the negated x coordinate, or to the same point if x is zero. */
+        ge_p3 negated = new ge_p3();
+
+        fe_neg.fe_neg(negated.X, point.X);
+        fe_copy.fe_copy(negated.Y, point.Y);
+        fe_copy.fe_copy(negated.Z, point.Z);
+        fe_neg.fe_neg(negated.T, point.T);
+
+        minusPoint[0] = point;
+        minusPoint[1] = negated;
+      }
+    }
+
+    /* minusPoint on 51-bit limbs for the Java64 provider, converted on first use */
+    private volatile ge51.p3[] minusPoint51;
+
+    ge_p3 minusPoint(byte signatureLastByte) {
+      return minusPoint[(signatureLastByte >>> 7) & 1];
+    }
+
+    ge51.p3 minusPoint51(byte signatureLastByte) {
+      ge51.p3[] points = minusPoint51;
+
+      if (points == null) {
+        points = new ge51.p3[2];
+
+        for (int i = 0; i < 2; i++) {
+          if (minusPoint[i] != null) {
+            points[i] = ge51.p3_from(minusPoint[i]);
+          }
+        }
+
+        minusPoint51 = points;
+      }
+
+      return points[(signatureLastByte >>> 7) & 1];
+    }
+  }
+
+  private static class Key {
+    private byte[] publicKey;
+    private int    hashCode;
+
+    Key wrap(byte[] publicKey) {
+      this.publicKey = publicKey;
+      this.hashCode  = Arrays.hashCode(publicKey);
+      return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key && Arrays.equals(publicKey, ((Key)other).publicKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
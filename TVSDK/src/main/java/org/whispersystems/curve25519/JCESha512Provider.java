@@ -8,19 +8,33 @@ package org.whispersystems.curve25519;
 
 import org.whispersystems.curve25519.java.Sha512;
 
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 public class JCESha512Provider implements Sha512 {
+
+  private static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+    @Override
+    protected MessageDigest initialValue() {
+      try {
+        return MessageDigest.getInstance("SHA-512");
+      } catch (NoSuchAlgorithmException e) {
+        throw new AssertionError(e);
+      }
+    }
+  };
+
   @Override
   public void calculateDigest(byte[] out, byte[] in, long length) {
+    MessageDigest messageDigest = DIGEST.get();
     try {
-      MessageDigest messageDigest = MessageDigest.getInstance("SHA-512");
       messageDigest.update(in, 0, (int)length);
-      byte[] digest = messageDigest.digest();
-      System.arraycopy(digest, 0, out, 0, digest.length);
-    } catch (NoSuchAlgorithmException e) {
+      messageDigest.digest(out, 0, 64);
+    } catch (DigestException e) {
       throw new AssertionError(e);
+    } finally {
+      messageDigest.reset();
     }
   }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2014-2016 Open Whisper Systems
+ *
+ * Licensed according to the LICENSE file in this repository.
+ */
+package org.whispersystems.curve25519;
+
+import org.whispersystems.curve25519.java.SignatureContext;
+import org.whispersystems.curve25519.java.curve_sigs51;
+
+/**
+ * The pure-Java provider with key generation, agreement, signing and verification done on
+ * 51-bit limbs (see {@link org.whispersystems.curve25519.java.fe51}).  It gives the same results
+ * as {@link JavaCurve25519Provider} and is faster on JVMs with Math.multiplyHigh (Java 9 and
+ * later).  Verification shares the Java provider's cache of decoded keys; prepared keys and
+ * batch verification use the shared code of the Java provider.
+ */
+public class Java64Curve25519Provider extends JavaCurve25519Provider {
+
+  protected Java64Curve25519Provider() {
+    super();
+  }
+
+  @Override
+  public byte[] calculateAgreement(byte[] ourPrivate, byte[] theirPublic) {
+    byte[] agreement = new byte[32];
+    curve_sigs51.crypto_scalarmult(agreement, ourPrivate, theirPublic);
+
+    return agreement;
+  }
+
+  @Override
+  public byte[] generatePublicKey(byte[] privateKey) {
+    byte[] publicKey = new byte[32];
+    curve_sigs51.curve25519_keygen(publicKey, privateKey);
+
+    return publicKey;
+  }
+
+  @Override
+  public byte[] calculateSignature(byte[] random, byte[] privateKey, byte[] message) {
+    byte[] result = new byte[64];
+
+    if (curve_sigs51.curve25519_sign(getSha512Provider(), result, privateKey, message, message.length, random) != 0) {
+      throw new IllegalArgumentException("Message exceeds max length!");
+    }
+
+    return result;
+  }
+
+  @Override
+  public byte[] calculateSignature(byte[] random, PreparedPrivateKey privateKey, byte[] message) {
+    byte[] result = new byte[64];
+
+    if (curve_sigs51.curve25519_sign_prepared(getSha512Provider(), result, privateKey.privateKey(),
+                                              privateKey.edPublicKey(), message, message.length, random,
+                                              SignatureContext.get()) != 0)
+    {
+      throw new IllegalArgumentException("Message exceeds max length!");
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean verifySignature(byte[] publicKey, byte[] message, byte[] signature) {
+    EdwardsKeyCache.Entry key = keyCache().get(publicKey);
+
+    return curve_sigs51.curve25519_verify_decoded(getSha512Provider(), signature, key.edPublicKey,
+                                                  key.minusPoint51(signature[63]), message, message.length) == 0;
+  }
+
+}
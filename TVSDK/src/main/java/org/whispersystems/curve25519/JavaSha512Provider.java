@@ -0,0 +1,25 @@
+package org.whispersystems.curve25519;
+
+import org.bouncycastle.crypto.digests.SHA512Digest;
+import org.whispersystems.curve25519.java.Sha512;
+
+/**
+ * A {@link Sha512} backed by the bundled pure-Java SHA-512, with one digest per thread.
+ */
+public class JavaSha512Provider implements Sha512 {
+
+  private static final ThreadLocal<SHA512Digest> DIGEST = new ThreadLocal<SHA512Digest>() {
+    @Override
+    protected SHA512Digest initialValue() {
+      return new SHA512Digest();
+    }
+  };
+
+  @Override
+  public void calculateDigest(byte[] out, byte[] in, long length) {
+    SHA512Digest digest = DIGEST.get();
+    digest.reset();
+    digest.update(in, 0, (int)length);
+    digest.doFinal(out, 0);
+  }
+}
@@ -6,6 +6,8 @@
 
 package org.whispersystems.curve25519;
 
+import org.whispersystems.curve25519.java.Sha512;
+
 class NativeCurve25519Provider implements Curve25519Provider {
 
   private static boolean   libraryPresent         = false;
@@ -57,6 +59,11 @@ class NativeCurve25519Provider implements Curve25519Provider {
     this.secureRandomProvider = provider;
   }
 
+  @Override
+  public void setSha512Provider(Sha512 provider) {
+    // The native library hashes internally.
+  }
+
   @Override
   public native byte[] calculateAgreement(byte[] ourPrivate, byte[] theirPublic);
 
@@ -69,9 +76,30 @@ class NativeCurve25519Provider implements Curve25519Provider {
   @Override
   public native byte[] calculateSignature(byte[] random, byte[] privateKey, byte[] message);
 
+  @Override
+  public byte[] calculateSignature(byte[] random, PreparedPrivateKey privateKey, byte[] message) {
+    return calculateSignature(random, privateKey.privateKey(), message);
+  }
+
   @Override
   public native boolean verifySignature(byte[] publicKey, byte[] message, byte[] signature);
 
+  @Override
+  public boolean verifySignature(PreparedPublicKey publicKey, byte[] message, byte[] signature) {
+    return verifySignature(publicKey.publicKey(), message, signature);
+  }
+
+  @Override
+  public boolean[] verifySignatures(byte[][] publicKeys, byte[][] messages, byte[][] signatures) {
+    boolean[] valid = new boolean[signatures.length];
+
+    for (int i = 0; i < signatures.length; i++) {
+      valid[i] = verifySignature(publicKeys[i], messages[i], signatures[i]);
+    }
+
+    return valid;
+  }
+
   @Override
   public native byte[] calculateVrfSignature(byte[] random, byte[] privateKey, byte[] message);
 
@@ -6,6 +6,9 @@
 
 package org.whispersystems.curve25519;
 
+import org.whispersystems.curve25519.java.Sha512;
+import org.whispersystems.curve25519.java.fe51;
+
 public class OpportunisticCurve25519Provider implements Curve25519Provider {
 
   private Curve25519Provider delegate;
@@ -14,10 +17,14 @@ public class OpportunisticCurve25519Provider implements Curve25519Provider {
     try {
       delegate = new NativeCurve25519Provider();
     } catch (NoSuchProviderException e) {
-      delegate = new JavaCurve25519Provider();
+      delegate = fe51.INTRINSIC ? new Java64Curve25519Provider() : new JavaCurve25519Provider();
     }
   }
 
+  Curve25519Provider delegate() {
+    return delegate;
+  }
+
   @Override
   public boolean isNative() {
     return delegate.isNative();
@@ -53,16 +60,36 @@ public class OpportunisticCurve25519Provider implements Curve25519Provider {
     delegate.setRandomProvider(provider);
   }
 
+  @Override
+  public void setSha512Provider(Sha512 provider) {
+    delegate.setSha512Provider(provider);
+  }
+
   @Override
   public byte[] calculateSignature(byte[] random, byte[] privateKey, byte[] message) {
     return delegate.calculateSignature(random, privateKey, message);
   }
 
+  @Override
+  public byte[] calculateSignature(byte[] random, PreparedPrivateKey privateKey, byte[] message) {
+    return delegate.calculateSignature(random, privateKey, message);
+  }
+
   @Override
   public boolean verifySignature(byte[] publicKey, byte[] message, byte[] signature) {
     return delegate.verifySignature(publicKey, message, signature);
   }
 
+  @Override
+  public boolean verifySignature(PreparedPublicKey publicKey, byte[] message, byte[] signature) {
+    return delegate.verifySignature(publicKey, message, signature);
+  }
+
+  @Override
+  public boolean[] verifySignatures(byte[][] publicKeys, byte[][] messages, byte[][] signatures) {
+    return delegate.verifySignatures(publicKeys, messages, signatures);
+  }
+
   @Override
   public byte[] calculateVrfSignature(byte[] random, byte[] privateKey, byte[] message) {
     return delegate.calculateVrfSignature(random, privateKey, message);
@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2014-2016 Open Whisper Systems
+ *
+ * Licensed according to the LICENSE file in this repository.
+ */
+
+package org.whispersystems.curve25519;
+
+import org.whispersystems.curve25519.java.curve_sigs;
+
+/**
+ * A Curve25519 private key prepared for creating many signatures.
+ *
+ * Every signature needs the Ed25519 public key of the private key, which the Java providers
+ * otherwise compute with a fixed-base multiplication on each call; a prepared key computes it
+ * on first use and keeps it, so signing needs one fixed-base multiplication instead of two.
+ * A prepared key holds the private key and is safe to share between threads.
+ */
+public class PreparedPrivateKey {
+
+  private final byte[] privateKey;
+
+  /* the encoded Ed25519 public key, sign bit included */
+  private volatile byte[] edPublicKey;
+
+  PreparedPrivateKey(byte[] privateKey) {
+    this.privateKey = privateKey.clone();
+  }
+
+  /**
+   * @return The Curve25519 private key.
+   */
+  public byte[] getPrivateKey() {
+    return privateKey.clone();
+  }
+
+  byte[] privateKey() {
+    return privateKey;
+  }
+
+  byte[] edPublicKey() {
+    byte[] key = edPublicKey;
+
+    if (key == null) {
+      key = new byte[32];
+      curve_sigs.curve25519_privkey_to_ed(key, privateKey);
+      edPublicKey = key;
+    }
+
+    return key;
+  }
+}
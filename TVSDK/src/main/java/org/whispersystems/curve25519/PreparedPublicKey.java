@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2014-2016 Open Whisper Systems
+ *
+ * Licensed according to the LICENSE file in this repository.
+ */
+
+package org.whispersystems.curve25519;
+
+import org.whispersystems.curve25519.java.ge_p3;
+import org.whispersystems.curve25519.java.ge_prepared;
+
+/**
+ * A Curve25519 public key prepared for verifying many signatures.
+ *
+ * The Java provider keeps wider tables of precomputed multiples of the key, built on first
+ * use for each sign bit, so that each verification needs about half the point doublings
+ * and fewer additions.  A prepared key takes about 16 KiB per sign bit and is worth it for
+ * keys that verify many signatures; it is safe to share between threads.
+ */
+public class PreparedPublicKey {
+
+  private final byte[] publicKey;
+
+  private volatile EdwardsKeyCache.Entry decoded;
+  private volatile ge_prepared[]         tables = new ge_prepared[2];
+
+  PreparedPublicKey(byte[] publicKey) {
+    this.publicKey = publicKey.clone();
+  }
+
+  /**
+   * @return The Curve25519 public key.
+   */
+  public byte[] getPublicKey() {
+    return publicKey.clone();
+  }
+
+  byte[] publicKey() {
+    return publicKey;
+  }
+
+  EdwardsKeyCache.Entry decoded() {
+    EdwardsKeyCache.Entry entry = decoded;
+
+    if (entry == null) {
+      entry   = new EdwardsKeyCache.Entry(publicKey);
+      decoded = entry;
+    }
+
+    return entry;
+  }
+
+  /* The tables for -A with the sign bit in signatureLastByte, null if the key does not decode. */
+  ge_prepared minusPoint(byte signatureLastByte) {
+    int         sign     = (signatureLastByte >>> 7) & 1;
+    ge_prepared prepared = tables[sign];
+
+    if (prepared == null) {
+      ge_p3 point = decoded().minusPoint(signatureLastByte);
+
+      if (point == null) {
+        return null;
+      }
+
+      prepared = new ge_prepared(point);
+
+      ge_prepared[] updated = tables.clone();
+      updated[sign] = prepared;
+      tables        = updated;
+    }
+
+    return prepared;
+  }
+}
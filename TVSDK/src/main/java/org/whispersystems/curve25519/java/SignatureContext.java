@@ -0,0 +1,123 @@
+package org.whispersystems.curve25519.java;
+
+/*
+The scratch state of one signing or verification: the working buffers
+around the message and every temporary field element, point and byte
+array the functions below them need, for both engines.  The functions
+that take a context use only their own fields of it, so the same context
+serves a whole call tree; once the message buffers have grown to the
+longest message seen, up to 64 KiB, signing and verifying allocate
+nothing.
+
+A context must not be used by two threads at once; get() hands out one
+per thread.
+*/
+public final class SignatureContext {
+
+  private static final ThreadLocal<SignatureContext> CONTEXT = new ThreadLocal<SignatureContext>();
+
+  public static SignatureContext get()
+  {
+    SignatureContext context = CONTEXT.get();
+    if (context == null) {
+      context = new SignatureContext();
+      CONTEXT.set(context);
+    }
+    return context;
+  }
+
+  /* message buffers, grown on demand up to MAX_KEPT_BUFFER; longer messages
+     get a buffer of their own that is dropped after the call, so one huge
+     message does not stay pinned to the thread */
+  static final int MAX_KEPT_BUFFER = 64 * 1024;
+
+  private byte[] buffer1 = new byte[256];
+  private byte[] buffer2 = new byte[256];
+
+  byte[] buffer1(int length)
+  {
+    if (buffer1.length >= length) return buffer1;
+    if (length > MAX_KEPT_BUFFER) return new byte[length];
+    buffer1 = new byte[Math.min(Math.max(length, 2 * buffer1.length), MAX_KEPT_BUFFER)];
+    return buffer1;
+  }
+
+  byte[] buffer2(int length)
+  {
+    if (buffer2.length >= length) return buffer2;
+    if (length > MAX_KEPT_BUFFER) return new byte[length];
+    buffer2 = new byte[Math.min(Math.max(length, 2 * buffer2.length), MAX_KEPT_BUFFER)];
+    return buffer2;
+  }
+
+  /* fe_isnegative, fe_isnonzero */
+  final byte[] bytes = new byte[32];
+
+  /* ge_add, ge_sub, ge_madd, ge_msub, ge_p2_dbl */
+  final int[] t0 = new int[10];
+  /* ge_p3_dbl */
+  final ge_p2 dbl = new ge_p2();
+  /* fe_invert, fe_pow22523 */
+  final int[] inv0 = new int[10], inv1 = new int[10], inv2 = new int[10], inv3 = new int[10];
+  /* ge_tobytes, ge_p3_tobytes */
+  final int[] recip = new int[10], x = new int[10], y = new int[10];
+  /* ge_frombytes_negate_vartime */
+  final int[] u = new int[10], v = new int[10], v3 = new int[10], vxx = new int[10], check = new int[10];
+  /* curve25519_verify */
+  final int[] mont_x = new int[10], mont_x_minus_one = new int[10], mont_x_plus_one = new int[10],
+              inv_mont_x_plus_one = new int[10], one = new int[10], ed_y = new int[10];
+
+  /* ge_scalarmult_base */
+  final byte[] e = new byte[64];
+  final ge_p1p1 smb_r = new ge_p1p1();
+  final ge_p2 smb_s = new ge_p2();
+  final ge_precomp smb_t = new ge_precomp();
+  final ge_precomp smb_minust = new ge_precomp();
+
+  /* ge_double_scalarmult_vartime, ge_double_scalarmult_prepared_vartime */
+  final byte[] aslide = new byte[256], bslide = new byte[256];
+  final byte[] alo = new byte[129], ahi = new byte[129], blo = new byte[129], bhi = new byte[129];
+  final ge_cached[] Ai = new ge_cached[8];
+  final ge_p1p1 dsm_t = new ge_p1p1();
+  final ge_p3 dsm_u = new ge_p3();
+  final ge_p3 dsm_A2 = new ge_p3();
+
+  /* curve25519_sign, crypto_sign_modified */
+  final byte[] ed_pubkey = new byte[32];
+  final byte[] nonce = new byte[64], hram = new byte[64], S = new byte[32];
+  final ge_p3 sign_point = new ge_p3();
+
+  /* curve25519_verify, crypto_sign_open */
+  final byte[] ed_pubkey_signed = new byte[32];
+  final byte[] pkcopy = new byte[32], rcopy = new byte[32], scopy = new byte[32], rcheck = new byte[32];
+  final byte[] h = new byte[64];
+  final ge_p2 open_R = new ge_p2();
+  final ge_p3 open_A = new ge_p3();
+
+  /* the same for the fe51 engine */
+  final long[] l_t0 = new long[5];
+  final long[] l_inv0 = new long[5], l_inv1 = new long[5], l_inv2 = new long[5], l_inv3 = new long[5];
+  final long[] l_recip = new long[5], l_x = new long[5], l_y = new long[5];
+  final long[] l_u = new long[5], l_v = new long[5], l_v3 = new long[5], l_vxx = new long[5], l_check = new long[5];
+  final long[] l_mont_x = new long[5], l_mont_x_minus_one = new long[5], l_mont_x_plus_one = new long[5],
+               l_inv_mont_x_plus_one = new long[5], l_one = new long[5], l_ed_y = new long[5];
+  final ge51.p1p1 l_smb_r = new ge51.p1p1();
+  final ge51.p2 l_smb_s = new ge51.p2();
+  final ge51.precomp l_smb_t = new ge51.precomp();
+  final ge51.precomp l_smb_minust = new ge51.precomp();
+  final ge51.cached[] l_Ai = new ge51.cached[8];
+  final ge51.p1p1 l_dsm_t = new ge51.p1p1();
+  final ge51.p3 l_dsm_u = new ge51.p3();
+  final ge51.p3 l_dsm_A2 = new ge51.p3();
+  final ge51.p3 l_sign_point = new ge51.p3();
+  final ge51.p2 l_open_R = new ge51.p2();
+  final ge51.p3 l_open_A = new ge51.p3();
+
+  public SignatureContext()
+  {
+    for (int i = 0;i < 8;++i) {
+      Ai[i] = new ge_cached();
+      l_Ai[i] = new ge51.cached();
+    }
+  }
+}
@@ -35,35 +35,113 @@ public class curve_sigs {
       fe_tobytes.fe_tobytes(curve25519_pubkey_out, mont_x);
     }
 
+    /* curve25519_keygen for the count keys from index first of the flat
+       arrays privkeys_in and pubkeys_out (32 bytes per key).  The divisions
+       share one fe_invert (fe_batch_invert). */
+    public static void curve25519_keygen_batch(byte[] curve25519_pubkeys_out,
+                           byte[] curve25519_privkeys_in,
+                           int first, int count)
+    {
+      SignatureContext ctx = SignatureContext.get();
+      ge_p3 ed = new ge_p3(); /* Ed25519 pubkey point */
+      byte[] privkey = new byte[32];
+      int[][] ed_y_plus_one = new int[count][10];
+      int[][] one_minus_ed_y = new int[count][10];
+      int[] mont_x = new int[10];
+      byte[] pubkey = new byte[32];
+      int i;
+
+      for (i = 0; i < count; i++) {
+        System.arraycopy(curve25519_privkeys_in, (first + i) * 32, privkey, 0, 32);
+        ge_scalarmult_base.ge_scalarmult_base(ed, privkey, ctx);
+        fe_add.fe_add(ed_y_plus_one[i], ed.Y, ed.Z);
+        fe_sub.fe_sub(one_minus_ed_y[i], ed.Z, ed.Y);
+      }
+      Arrays.fill(privkey, (byte)0);
+
+      fe_batch_invert.fe_batch_invert(one_minus_ed_y, one_minus_ed_y, count);
+
+      for (i = 0; i < count; i++) {
+        fe_mul.fe_mul(mont_x, ed_y_plus_one[i], one_minus_ed_y[i]);
+        fe_tobytes.fe_tobytes(pubkey, mont_x);
+        System.arraycopy(pubkey, 0, curve25519_pubkeys_out, (first + i) * 32, 32);
+      }
+    }
+
     public static int curve25519_sign(Sha512 sha512provider, byte[] signature_out,
                         byte[] curve25519_privkey,
                         byte[] msg, int msg_len,
                         byte[] random)
     {
-      ge_p3 ed_pubkey_point = new ge_p3(); /* Ed25519 pubkey point */
-      byte[] ed_pubkey = new byte[32]; /* Ed25519 encoded pubkey */
-      byte[] sigbuf = new byte[msg_len + 128]; /* working buffer */
-      byte sign_bit = 0;
+      return curve25519_sign(sha512provider, signature_out, curve25519_privkey, msg, msg_len, random,
+                             SignatureContext.get());
+    }
+
+    public static int curve25519_sign(Sha512 sha512provider, byte[] signature_out,
+                        byte[] curve25519_privkey,
+                        byte[] msg, int msg_len,
+                        byte[] random, SignatureContext ctx)
+    {
+      ge_p3 ed_pubkey_point = ctx.sign_point; /* Ed25519 pubkey point */
+      byte[] ed_pubkey = ctx.ed_pubkey; /* Ed25519 encoded pubkey */
 
       /* Convert the Curve25519 privkey to an Ed25519 public key */
+      ge_scalarmult_base.ge_scalarmult_base(ed_pubkey_point, curve25519_privkey, ctx);
+      ge_p3_tobytes.ge_p3_tobytes(ed_pubkey, ed_pubkey_point, ctx);
+
+      return curve25519_sign_prepared(sha512provider, signature_out, curve25519_privkey, ed_pubkey,
+                                      msg, msg_len, random, ctx);
+    }
+
+    /* Converts a Curve25519 private key into the encoded Ed25519 public key
+       it signs for, sign bit included (see curve25519_sign). */
+    public static void curve25519_privkey_to_ed(byte[] ed_pubkey_out,
+                                                byte[] curve25519_privkey)
+    {
+      ge_p3 ed_pubkey_point = new ge_p3();
+
       ge_scalarmult_base.ge_scalarmult_base(ed_pubkey_point, curve25519_privkey);
-      ge_p3_tobytes.ge_p3_tobytes(ed_pubkey, ed_pubkey_point);
-      sign_bit = (byte)(ed_pubkey[31] & 0x80);
+      ge_p3_tobytes.ge_p3_tobytes(ed_pubkey_out, ed_pubkey_point);
+    }
+
+    /* Same as curve25519_sign, for a private key whose Ed25519 public key
+       is already known (ed_pubkey, from curve25519_privkey_to_ed). */
+    public static int curve25519_sign_prepared(Sha512 sha512provider, byte[] signature_out,
+                        byte[] curve25519_privkey, byte[] ed_pubkey,
+                        byte[] msg, int msg_len,
+                        byte[] random)
+    {
+      return curve25519_sign_prepared(sha512provider, signature_out, curve25519_privkey, ed_pubkey,
+                                      msg, msg_len, random, SignatureContext.get());
+    }
+
+    public static int curve25519_sign_prepared(Sha512 sha512provider, byte[] signature_out,
+                        byte[] curve25519_privkey, byte[] ed_pubkey,
+                        byte[] msg, int msg_len,
+                        byte[] random, SignatureContext ctx)
+    {
+      byte[] sigbuf = ctx.buffer1(msg_len + 128); /* working buffer */
+      byte sign_bit = (byte)(ed_pubkey[31] & 0x80);
 
       /* Perform an Ed25519 signature with explicit private key */
       sign_modified.crypto_sign_modified(sha512provider, sigbuf, msg, msg_len, curve25519_privkey,
-                                         ed_pubkey, random);
+                                         ed_pubkey, random, ctx);
       System.arraycopy(sigbuf, 0, signature_out, 0, 64);
 
+      /* sigbuf outlives the call and held the private key and the random suffix */
+      for (int i = 0; i < msg_len + 128; i++)
+        sigbuf[i] = 0;
+
       /* Encode the sign bit into signature (in unused high bit of S) */
        signature_out[63] &= 0x7F; /* bit should be zero already, but just in case */
        signature_out[63] |= sign_bit;
        return 0;
     }
 
-    public static int curve25519_verify(Sha512 sha512provider, byte[] signature,
-                          byte[] curve25519_pubkey,
-                          byte[] msg, int msg_len)
+    /* Converts a Curve25519 public key into the Ed25519 public key it
+       corresponds to, with the sign bit cleared (see curve25519_verify). */
+    public static void curve25519_pubkey_to_ed(byte[] ed_pubkey_out,
+                                               byte[] curve25519_pubkey)
     {
       int[] mont_x = new int[10];
       int[] mont_x_minus_one = new int[10];
@@ -71,10 +149,99 @@ public class curve_sigs {
       int[] inv_mont_x_plus_one = new int[10];
       int[] one = new int[10];
       int[] ed_y = new int[10];
-      byte[] ed_pubkey = new byte[32];
+
+      fe_frombytes.fe_frombytes(mont_x, curve25519_pubkey);
+      fe_1.fe_1(one);
+      fe_sub.fe_sub(mont_x_minus_one, mont_x, one);
+      fe_add.fe_add(mont_x_plus_one, mont_x, one);
+      fe_invert.fe_invert(inv_mont_x_plus_one, mont_x_plus_one);
+      fe_mul.fe_mul(ed_y, mont_x_minus_one, inv_mont_x_plus_one);
+      fe_tobytes.fe_tobytes(ed_pubkey_out, ed_y);
+      ed_pubkey_out[31] &= 0x7F;
+    }
+
+    /* Same as curve25519_verify, for a public key that has already been
+       converted by curve25519_pubkey_to_ed (ed_pubkey, sign bit cleared) and
+       decoded with ge_frombytes_negate_vartime for the sign bit in
+       signature[63] (minus_ed_point, null if it does not decode). */
+    public static int curve25519_verify_decoded(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge_p3 minus_ed_point,
+                          byte[] msg, int msg_len)
+    {
+      return curve25519_verify_decoded(sha512provider, signature, ed_pubkey, minus_ed_point, msg, msg_len,
+                                       SignatureContext.get());
+    }
+
+    public static int curve25519_verify_decoded(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge_p3 minus_ed_point,
+                          byte[] msg, int msg_len, SignatureContext ctx)
+    {
+      if (minus_ed_point == null) return -1;
+      return curve25519_verify_with(sha512provider, signature, ed_pubkey, minus_ed_point, null, msg, msg_len, ctx);
+    }
+
+    /* Same as curve25519_verify_decoded, with the decoded point given by its
+       ge_prepared tables (null if it does not decode). */
+    public static int curve25519_verify_prepared(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge_prepared minus_ed_point,
+                          byte[] msg, int msg_len)
+    {
+      return curve25519_verify_prepared(sha512provider, signature, ed_pubkey, minus_ed_point, msg, msg_len,
+                                        SignatureContext.get());
+    }
+
+    public static int curve25519_verify_prepared(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge_prepared minus_ed_point,
+                          byte[] msg, int msg_len, SignatureContext ctx)
+    {
+      if (minus_ed_point == null) return -1;
+      return curve25519_verify_with(sha512provider, signature, ed_pubkey, null, minus_ed_point, msg, msg_len, ctx);
+    }
+
+    private static int curve25519_verify_with(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge_p3 minus_ed_point, ge_prepared prepared,
+                          byte[] msg, int msg_len, SignatureContext ctx)
+    {
+      byte[] ed_pubkey_signed = ctx.ed_pubkey_signed;
       long some_retval = 0;
-      byte[] verifybuf = new byte[msg_len + 64]; /* working buffer */
-      byte[] verifybuf2 = new byte[msg_len + 64]; /* working buffer #2 */
+      byte[] verifybuf = ctx.buffer1(msg_len + 64); /* working buffer */
+      byte[] verifybuf2 = ctx.buffer2(msg_len + 64); /* working buffer #2 */
+
+      System.arraycopy(ed_pubkey, 0, ed_pubkey_signed, 0, 32);
+      ed_pubkey_signed[31] |= (signature[63] & 0x80);
+      System.arraycopy(signature, 0, verifybuf, 0, 64);
+      verifybuf[63] &= 0x7F;
+
+      System.arraycopy(msg, 0, verifybuf, 64, msg_len);
+
+      if (prepared != null)
+        return open.crypto_sign_open_prepared(sha512provider, verifybuf2, some_retval, verifybuf, 64 + msg_len,
+                                              ed_pubkey_signed, prepared, ctx);
+      return open.crypto_sign_open_decoded(sha512provider, verifybuf2, some_retval, verifybuf, 64 + msg_len,
+                                           ed_pubkey_signed, minus_ed_point, ctx);
+    }
+
+    public static int curve25519_verify(Sha512 sha512provider, byte[] signature,
+                          byte[] curve25519_pubkey,
+                          byte[] msg, int msg_len)
+    {
+      return curve25519_verify(sha512provider, signature, curve25519_pubkey, msg, msg_len, SignatureContext.get());
+    }
+
+    public static int curve25519_verify(Sha512 sha512provider, byte[] signature,
+                          byte[] curve25519_pubkey,
+                          byte[] msg, int msg_len, SignatureContext ctx)
+    {
+      int[] mont_x = ctx.mont_x;
+      int[] mont_x_minus_one = ctx.mont_x_minus_one;
+      int[] mont_x_plus_one = ctx.mont_x_plus_one;
+      int[] inv_mont_x_plus_one = ctx.inv_mont_x_plus_one;
+      int[] one = ctx.one;
+      int[] ed_y = ctx.ed_y;
+      byte[] ed_pubkey = ctx.ed_pubkey_signed;
+      long some_retval = 0;
+      byte[] verifybuf = ctx.buffer1(msg_len + 64); /* working buffer */
+      byte[] verifybuf2 = ctx.buffer2(msg_len + 64); /* working buffer #2 */
 
       /* Convert the Curve25519 public key into an Ed25519 public key.  In
          particular, convert Curve25519's "montgomery" x-coordinate into an
@@ -91,7 +258,7 @@ public class curve_sigs {
       fe_1.fe_1(one);
       fe_sub.fe_sub(mont_x_minus_one, mont_x, one);
       fe_add.fe_add(mont_x_plus_one, mont_x, one);
-      fe_invert.fe_invert(inv_mont_x_plus_one, mont_x_plus_one);
+      fe_invert.fe_invert(inv_mont_x_plus_one, mont_x_plus_one, ctx.inv0, ctx.inv1, ctx.inv2, ctx.inv3);
       fe_mul.fe_mul(ed_y, mont_x_minus_one, inv_mont_x_plus_one);
       fe_tobytes.fe_tobytes(ed_pubkey, ed_y);
 
@@ -101,7 +268,7 @@ public class curve_sigs {
       System.arraycopy(signature, 0, verifybuf, 0, 64);
       verifybuf[63] &= 0x7F;
 
-      System.arraycopy(msg, 0, verifybuf, 64, (int)msg_len);
+      System.arraycopy(msg, 0, verifybuf, 64, msg_len);
 
       /* Then perform a normal Ed25519 verification, return 0 on success */
       /* The below call has a strange API: */
@@ -109,6 +276,6 @@ public class curve_sigs {
       /* verifybuf2 = java to next call gets a copy of verifybuf, S gets
          replaced with pubkey for hashing, then the whole thing gets zeroized
          (if bad sig), or contains a copy of msg (good sig) */
-      return open.crypto_sign_open(sha512provider, verifybuf2, some_retval, verifybuf, 64 + msg_len, ed_pubkey);
+      return open.crypto_sign_open(sha512provider, verifybuf2, some_retval, verifybuf, 64 + msg_len, ed_pubkey, ctx);
     }
 }
@@ -0,0 +1,276 @@
+package org.whispersystems.curve25519.java;
+
+public class curve_sigs51 {
+
+/*
+curve_sigs, sign_modified, open and scalarmult on the fe51/ge51 engine:
+the same inputs give the same outputs, only the field arithmetic differs.
+*/
+
+    public static void curve25519_keygen(byte[] curve25519_pubkey_out,
+                           byte[] curve25519_privkey_in)
+    {
+      ge51.p3 ed = new ge51.p3(); /* Ed25519 pubkey point */
+      long[] ed_y_plus_one = new long[5];
+      long[] one_minus_ed_y = new long[5];
+      long[] inv_one_minus_ed_y = new long[5];
+      long[] mont_x = new long[5];
+
+      /* mont_x = (ed_y + ed_z) / (ed_z - ed_y), see curve_sigs */
+      ge51.ge_scalarmult_base(ed, curve25519_privkey_in);
+      fe51.fe_add(ed_y_plus_one, ed.Y, ed.Z);
+      fe51.fe_sub(one_minus_ed_y, ed.Z, ed.Y);
+      fe51.fe_invert(inv_one_minus_ed_y, one_minus_ed_y);
+      fe51.fe_mul(mont_x, ed_y_plus_one, inv_one_minus_ed_y);
+      fe51.fe_tobytes(curve25519_pubkey_out, mont_x);
+    }
+
+    public static int curve25519_sign(Sha512 sha512provider, byte[] signature_out,
+                        byte[] curve25519_privkey,
+                        byte[] msg, int msg_len,
+                        byte[] random)
+    {
+      return curve25519_sign(sha512provider, signature_out, curve25519_privkey, msg, msg_len, random,
+                             SignatureContext.get());
+    }
+
+    public static int curve25519_sign(Sha512 sha512provider, byte[] signature_out,
+                        byte[] curve25519_privkey,
+                        byte[] msg, int msg_len,
+                        byte[] random, SignatureContext ctx)
+    {
+      ge51.p3 ed_pubkey_point = ctx.l_sign_point; /* Ed25519 pubkey point */
+      byte[] ed_pubkey = ctx.ed_pubkey; /* Ed25519 encoded pubkey */
+
+      /* Convert the Curve25519 privkey to an Ed25519 public key */
+      ge51.ge_scalarmult_base(ed_pubkey_point, curve25519_privkey, ctx);
+      ge51.ge_p3_tobytes(ed_pubkey, ed_pubkey_point, ctx);
+
+      return curve25519_sign_prepared(sha512provider, signature_out, curve25519_privkey, ed_pubkey,
+                                      msg, msg_len, random, ctx);
+    }
+
+    /* As curve_sigs.curve25519_sign_prepared */
+    public static int curve25519_sign_prepared(Sha512 sha512provider, byte[] signature_out,
+                        byte[] curve25519_privkey, byte[] ed_pubkey,
+                        byte[] msg, int msg_len,
+                        byte[] random, SignatureContext ctx)
+    {
+      byte[] sigbuf = ctx.buffer1(msg_len + 128); /* working buffer */
+      byte sign_bit = (byte)(ed_pubkey[31] & 0x80);
+
+      /* Perform an Ed25519 signature with explicit private key */
+      crypto_sign_modified(sha512provider, sigbuf, msg, msg_len, curve25519_privkey,
+                           ed_pubkey, random, ctx);
+      System.arraycopy(sigbuf, 0, signature_out, 0, 64);
+
+      /* sigbuf outlives the call and held the private key and the random suffix */
+      for (int i = 0; i < msg_len + 128; i++)
+        sigbuf[i] = 0;
+
+      /* Encode the sign bit into signature (in unused high bit of S) */
+      signature_out[63] &= 0x7F; /* bit should be zero already, but just in case */
+      signature_out[63] |= sign_bit;
+      return 0;
+    }
+
+    public static int curve25519_verify(Sha512 sha512provider, byte[] signature,
+                          byte[] curve25519_pubkey,
+                          byte[] msg, int msg_len)
+    {
+      return curve25519_verify(sha512provider, signature, curve25519_pubkey, msg, msg_len, SignatureContext.get());
+    }
+
+    public static int curve25519_verify(Sha512 sha512provider, byte[] signature,
+                          byte[] curve25519_pubkey,
+                          byte[] msg, int msg_len, SignatureContext ctx)
+    {
+      long[] mont_x = ctx.l_mont_x;
+      long[] mont_x_minus_one = ctx.l_mont_x_minus_one;
+      long[] mont_x_plus_one = ctx.l_mont_x_plus_one;
+      long[] inv_mont_x_plus_one = ctx.l_inv_mont_x_plus_one;
+      long[] one = ctx.l_one;
+      long[] ed_y = ctx.l_ed_y;
+      byte[] ed_pubkey = ctx.ed_pubkey_signed;
+      byte[] verifybuf = ctx.buffer1(msg_len + 64); /* working buffer */
+      byte[] verifybuf2 = ctx.buffer2(msg_len + 64); /* working buffer #2 */
+
+      /* ed_y = (mont_x - 1) / (mont_x + 1), see curve_sigs */
+      fe51.fe_frombytes(mont_x, curve25519_pubkey);
+      fe51.fe_1(one);
+      fe51.fe_sub(mont_x_minus_one, mont_x, one);
+      fe51.fe_add(mont_x_plus_one, mont_x, one);
+      fe51.fe_invert(inv_mont_x_plus_one, mont_x_plus_one, ctx.l_inv0, ctx.l_inv1, ctx.l_inv2, ctx.l_inv3);
+      fe51.fe_mul(ed_y, mont_x_minus_one, inv_mont_x_plus_one);
+      fe51.fe_tobytes(ed_pubkey, ed_y);
+
+      /* Copy the sign bit, and remove it from signature */
+      ed_pubkey[31] &= 0x7F;  /* bit should be zero already, but just in case */
+      ed_pubkey[31] |= (signature[63] & 0x80);
+      System.arraycopy(signature, 0, verifybuf, 0, 64);
+      verifybuf[63] &= 0x7F;
+
+      System.arraycopy(msg, 0, verifybuf, 64, msg_len);
+
+      return crypto_sign_open(sha512provider, verifybuf2, verifybuf, 64 + msg_len, ed_pubkey, null, ctx);
+    }
+
+    /* As curve_sigs.curve25519_verify_decoded */
+    public static int curve25519_verify_decoded(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge51.p3 minus_ed_point,
+                          byte[] msg, int msg_len)
+    {
+      return curve25519_verify_decoded(sha512provider, signature, ed_pubkey, minus_ed_point, msg, msg_len,
+                                       SignatureContext.get());
+    }
+
+    public static int curve25519_verify_decoded(Sha512 sha512provider, byte[] signature,
+                          byte[] ed_pubkey, ge51.p3 minus_ed_point,
+                          byte[] msg, int msg_len, SignatureContext ctx)
+    {
+      byte[] ed_pubkey_signed = ctx.ed_pubkey_signed;
+      byte[] verifybuf = ctx.buffer1(msg_len + 64); /* working buffer */
+      byte[] verifybuf2 = ctx.buffer2(msg_len + 64); /* working buffer #2 */
+
+      if (minus_ed_point == null) return -1;
+
+      System.arraycopy(ed_pubkey, 0, ed_pubkey_signed, 0, 32);
+      ed_pubkey_signed[31] |= (signature[63] & 0x80);
+      System.arraycopy(signature, 0, verifybuf, 0, 64);
+      verifybuf[63] &= 0x7F;
+
+      System.arraycopy(msg, 0, verifybuf, 64, msg_len);
+
+      return crypto_sign_open(sha512provider, verifybuf2, verifybuf, 64 + msg_len, ed_pubkey_signed,
+                              minus_ed_point, ctx);
+    }
+
+    /* As sign_modified.crypto_sign_modified */
+    private static int crypto_sign_modified(Sha512 sha512provider, byte[] sm,
+                                            byte[] m, long mlen,
+                                            byte[] sk, byte[] pk,
+                                            byte[] random, SignatureContext ctx)
+    {
+      byte[] nonce = ctx.nonce;
+      byte[] hram = ctx.hram;
+      byte[] S = ctx.S;
+      ge51.p3 R = ctx.l_sign_point;
+      int count;
+
+      System.arraycopy(m, 0, sm, 64, (int)mlen);
+      System.arraycopy(sk, 0, sm, 32, 32);
+
+      sm[0] = (byte)0xFE;
+      for (count = 1; count < 32; count++)
+        sm[count] = (byte)0xFF;
+
+      System.arraycopy(random, 0, sm, (int)(mlen + 64), 64);
+
+      sha512provider.calculateDigest(nonce,sm,mlen + 128);
+      System.arraycopy(pk, 0, sm, 32, 32);
+
+      sc_reduce.sc_reduce(nonce);
+      ge51.ge_scalarmult_base(R,nonce,ctx);
+      ge51.ge_p3_tobytes(sm,R,ctx);
+
+      sha512provider.calculateDigest(hram,sm,mlen + 64);
+      sc_reduce.sc_reduce(hram);
+      sc_muladd.sc_muladd(S,hram,sk,nonce);
+      System.arraycopy(S, 0, sm, 32, 32);
+
+      /* the nonce is as secret as the private key */
+      Arrays.fill(nonce, (byte)0);
+
+      return 0;
+    }
+
+    /* As open.crypto_sign_open, or open.crypto_sign_open_decoded when -pk is given as A */
+    private static int crypto_sign_open(Sha512 sha512provider, byte[] m,
+                                        byte[] sm, long smlen,
+                                        byte[] pk, ge51.p3 A, SignatureContext ctx)
+    {
+      byte[] rcopy = ctx.rcopy;
+      byte[] scopy = ctx.scopy;
+      byte[] h = ctx.h;
+      byte[] rcheck = ctx.rcheck;
+      ge51.p2 R = ctx.l_open_R;
+
+      if (smlen < 64) return -1;
+      if ((sm[63] & 224) != 0) return -1;
+      if (A == null) {
+        A = ctx.l_open_A;
+        if (ge51.ge_frombytes_negate_vartime(A,pk,ctx) != 0) return -1;
+      }
+
+      System.arraycopy(sm, 0, rcopy, 0, 32);
+      System.arraycopy(sm, 32, scopy, 0, 32);
+
+      System.arraycopy(sm, 0, m, 0, (int)smlen);
+      System.arraycopy(pk, 0, m, 32, 32);
+      sha512provider.calculateDigest(h,m,smlen);
+      sc_reduce.sc_reduce(h);
+
+      ge51.ge_double_scalarmult_vartime(R,h,A,scopy,ctx);
+      ge51.ge_tobytes(rcheck,R,ctx);
+      return crypto_verify_32.crypto_verify_32(rcheck,rcopy) == 0 ? 0 : -1;
+    }
+
+    /* As scalarmult.crypto_scalarmult: the Montgomery ladder */
+    public static int crypto_scalarmult(byte[] q,
+                                        byte[] n,
+                                        byte[] p)
+    {
+      long[] x1 = new long[5];
+      long[] x2 = new long[5];
+      long[] z2 = new long[5];
+      long[] x3 = new long[5];
+      long[] z3 = new long[5];
+      long[] tmp0 = new long[5];
+      long[] tmp1 = new long[5];
+      int pos;
+      int swap;
+      int b;
+
+      fe51.fe_frombytes(x1,p);
+      fe51.fe_1(x2);
+      fe51.fe_0(z2);
+      fe51.fe_copy(x3,x1);
+      fe51.fe_1(z3);
+
+      swap = 0;
+      for (pos = 254;pos >= 0;--pos) {
+        b = n[pos / 8] >>> (pos & 7);
+        b &= 1;
+        swap ^= b;
+        fe51.fe_cswap(x2,x3,swap);
+        fe51.fe_cswap(z2,z3,swap);
+        swap = b;
+
+        fe51.fe_sub(tmp0,x3,z3);
+        fe51.fe_sub(tmp1,x2,z2);
+        fe51.fe_add(x2,x2,z2);
+        fe51.fe_add(z2,x3,z3);
+        fe51.fe_mul(z3,tmp0,x2);
+        fe51.fe_mul(z2,z2,tmp1);
+        fe51.fe_sq(tmp0,tmp1);
+        fe51.fe_sq(tmp1,x2);
+        fe51.fe_add(x3,z3,z2);
+        fe51.fe_sub(z2,z3,z2);
+        fe51.fe_mul(x2,tmp1,tmp0);
+        fe51.fe_sub(tmp1,tmp1,tmp0);
+        fe51.fe_sq(z2,z2);
+        fe51.fe_mul121666(z3,tmp1);
+        fe51.fe_sq(x3,x3);
+        fe51.fe_add(tmp0,tmp0,z3);
+        fe51.fe_mul(z3,x1,z2);
+        fe51.fe_mul(z2,tmp1,tmp0);
+      }
+      fe51.fe_cswap(x2,x3,swap);
+      fe51.fe_cswap(z2,z3,swap);
+
+      fe51.fe_invert(z2,z2);
+      fe51.fe_mul(x2,x2,z2);
+      fe51.fe_tobytes(q,x2);
+      return 0;
+    }
+}
@@ -0,0 +1,461 @@
+package org.whispersystems.curve25519.java;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+public class fe51 {
+
+/*
+Field arithmetic mod 2^255 - 19 on five unsigned 51-bit limbs in long[5]:
+h = h[0] + 2^51*h[1] + 2^102*h[2] + 2^153*h[3] + 2^204*h[4].
+
+The same operations as the fe_* routines, which use ten 25.5-bit limbs.
+A limb product needs up to 106 bits, so every product is taken as its low
+64 bits plus mulhi() (the high 64 bits) and split at bit 51 on the spot.
+
+Every function here leaves its output carried, with each limb below
+2^51 + 2^13, which is what all of them accept as input.  Outputs may
+overlap inputs.
+*/
+
+static final long MASK = (1L << 51) - 1;
+
+/* 2*p, limb by limb */
+private static final long P2_0 = 0xFFFFFFFFFFFDAL;
+private static final long P2_N = 0xFFFFFFFFFFFFEL;
+
+/*
+High 64 bits of the 128-bit product of x and y.  Math.multiplyHigh, a
+single instruction on 64-bit JVMs, only exists from Java 9 on, so it is
+looked up at run time; a call through a constant MethodHandle is
+compiled to a direct call.  Older JVMs get mulhi_java.
+*/
+private static final MethodHandle MULTIPLY_HIGH;
+
+/* true if products use Math.multiplyHigh */
+public static final boolean INTRINSIC;
+
+static {
+  MethodHandle multiplyHigh = find(Math.class,"multiplyHigh");
+  INTRINSIC = multiplyHigh != null;
+  MULTIPLY_HIGH = INTRINSIC ? multiplyHigh : find(fe51.class,"mulhi_java");
+}
+
+private static MethodHandle find(Class<?> c,String name)
+{
+  try {
+    return MethodHandles.lookup().findStatic(c,name,MethodType.methodType(long.class,long.class,long.class));
+  } catch (NoSuchMethodException e) {
+    return null;
+  } catch (IllegalAccessException e) {
+    return null;
+  }
+}
+
+static long mulhi(long x,long y)
+{
+  try {
+    return (long) MULTIPLY_HIGH.invokeExact(x,y);
+  } catch (Throwable e) {
+    throw new AssertionError(e);
+  }
+}
+
+/* x and y are non-negative here */
+static long mulhi_java(long x,long y)
+{
+  long x1 = x >> 32;
+  long x2 = x & 0xFFFFFFFFL;
+  long y1 = y >> 32;
+  long y2 = y & 0xFFFFFFFFL;
+  long z2 = x2 * y2;
+  long t = x1 * y2 + (z2 >>> 32);
+  long z1 = t & 0xFFFFFFFFL;
+  long z0 = t >> 32;
+  z1 += x2 * y1;
+  return x1 * y1 + z0 + (z1 >> 32);
+}
+
+public static void fe_0(long[] h)
+{
+  h[0] = 0; h[1] = 0; h[2] = 0; h[3] = 0; h[4] = 0;
+}
+
+public static void fe_1(long[] h)
+{
+  h[0] = 1; h[1] = 0; h[2] = 0; h[3] = 0; h[4] = 0;
+}
+
+public static void fe_copy(long[] h,long[] f)
+{
+  h[0] = f[0]; h[1] = f[1]; h[2] = f[2]; h[3] = f[3]; h[4] = f[4];
+}
+
+/* limbs below 2^51*19 in, limbs below 2^51 + 2^13 out */
+private static void carry(long[] h,long h0,long h1,long h2,long h3,long h4)
+{
+  h1 += h0 >>> 51; h0 &= MASK;
+  h2 += h1 >>> 51; h1 &= MASK;
+  h3 += h2 >>> 51; h2 &= MASK;
+  h4 += h3 >>> 51; h3 &= MASK;
+  h0 += 19 * (h4 >>> 51); h4 &= MASK;
+  h[0] = h0; h[1] = h1; h[2] = h2; h[3] = h3; h[4] = h4;
+}
+
+public static void fe_add(long[] h,long[] f,long[] g)
+{
+  carry(h,f[0] + g[0],f[1] + g[1],f[2] + g[2],f[3] + g[3],f[4] + g[4]);
+}
+
+public static void fe_sub(long[] h,long[] f,long[] g)
+{
+  carry(h,f[0] + P2_0 - g[0],f[1] + P2_N - g[1],f[2] + P2_N - g[2],
+          f[3] + P2_N - g[3],f[4] + P2_N - g[4]);
+}
+
+public static void fe_neg(long[] h,long[] f)
+{
+  carry(h,P2_0 - f[0],P2_N - f[1],P2_N - f[2],P2_N - f[3],P2_N - f[4]);
+}
+
+/*
+Replace (f,g) with (g,f) if b == 1;
+replace (f,g) with (f,g) if b == 0.
+
+Preconditions: b in {0,1}.
+*/
+public static void fe_cswap(long[] f,long[] g,int b)
+{
+  long mask = -(long)b;
+  long x;
+  x = (f[0] ^ g[0]) & mask; f[0] ^= x; g[0] ^= x;
+  x = (f[1] ^ g[1]) & mask; f[1] ^= x; g[1] ^= x;
+  x = (f[2] ^ g[2]) & mask; f[2] ^= x; g[2] ^= x;
+  x = (f[3] ^ g[3]) & mask; f[3] ^= x; g[3] ^= x;
+  x = (f[4] ^ g[4]) & mask; f[4] ^= x; g[4] ^= x;
+}
+
+/*
+Replace (f,g) with (g,g) if b == 1;
+replace (f,g) with (f,g) if b == 0.
+
+Preconditions: b in {0,1}.
+*/
+public static void fe_cmov(long[] f,long[] g,int b)
+{
+  long mask = -(long)b;
+  f[0] ^= (f[0] ^ g[0]) & mask;
+  f[1] ^= (f[1] ^ g[1]) & mask;
+  f[2] ^= (f[2] ^ g[2]) & mask;
+  f[3] ^= (f[3] ^ g[3]) & mask;
+  f[4] ^= (f[4] ^ g[4]) & mask;
+}
+
+/*
+h = f * g
+
+Each output limb is a sum of five products.  The low 51 bits of the
+products are summed in r (below 2^54) and the rest in c (below 2^58),
+which then carries into the next limb.
+*/
+public static void fe_mul(long[] h,long[] f,long[] g)
+{
+  long f0 = f[0], f1 = f[1], f2 = f[2], f3 = f[3], f4 = f[4];
+  long g0 = g[0], g1 = g[1], g2 = g[2], g3 = g[3], g4 = g[4];
+  long g1_19 = 19 * g1;
+  long g2_19 = 19 * g2;
+  long g3_19 = 19 * g3;
+  long g4_19 = 19 * g4;
+  long lo, r0, r1, r2, r3, r4, c0, c1, c2, c3, c4;
+
+  lo = f0 * g0;    r0  = lo & MASK; c0  = (mulhi(f0,g0) << 13)    | (lo >>> 51);
+  lo = f1 * g4_19; r0 += lo & MASK; c0 += (mulhi(f1,g4_19) << 13) | (lo >>> 51);
+  lo = f2 * g3_19; r0 += lo & MASK; c0 += (mulhi(f2,g3_19) << 13) | (lo >>> 51);
+  lo = f3 * g2_19; r0 += lo & MASK; c0 += (mulhi(f3,g2_19) << 13) | (lo >>> 51);
+  lo = f4 * g1_19; r0 += lo & MASK; c0 += (mulhi(f4,g1_19) << 13) | (lo >>> 51);
+
+  lo = f0 * g1;    r1  = lo & MASK; c1  = (mulhi(f0,g1) << 13)    | (lo >>> 51);
+  lo = f1 * g0;    r1 += lo & MASK; c1 += (mulhi(f1,g0) << 13)    | (lo >>> 51);
+  lo = f2 * g4_19; r1 += lo & MASK; c1 += (mulhi(f2,g4_19) << 13) | (lo >>> 51);
+  lo = f3 * g3_19; r1 += lo & MASK; c1 += (mulhi(f3,g3_19) << 13) | (lo >>> 51);
+  lo = f4 * g2_19; r1 += lo & MASK; c1 += (mulhi(f4,g2_19) << 13) | (lo >>> 51);
+
+  lo = f0 * g2;    r2  = lo & MASK; c2  = (mulhi(f0,g2) << 13)    | (lo >>> 51);
+  lo = f1 * g1;    r2 += lo & MASK; c2 += (mulhi(f1,g1) << 13)    | (lo >>> 51);
+  lo = f2 * g0;    r2 += lo & MASK; c2 += (mulhi(f2,g0) << 13)    | (lo >>> 51);
+  lo = f3 * g4_19; r2 += lo & MASK; c2 += (mulhi(f3,g4_19) << 13) | (lo >>> 51);
+  lo = f4 * g3_19; r2 += lo & MASK; c2 += (mulhi(f4,g3_19) << 13) | (lo >>> 51);
+
+  lo = f0 * g3;    r3  = lo & MASK; c3  = (mulhi(f0,g3) << 13)    | (lo >>> 51);
+  lo = f1 * g2;    r3 += lo & MASK; c3 += (mulhi(f1,g2) << 13)    | (lo >>> 51);
+  lo = f2 * g1;    r3 += lo & MASK; c3 += (mulhi(f2,g1) << 13)    | (lo >>> 51);
+  lo = f3 * g0;    r3 += lo & MASK; c3 += (mulhi(f3,g0) << 13)    | (lo >>> 51);
+  lo = f4 * g4_19; r3 += lo & MASK; c3 += (mulhi(f4,g4_19) << 13) | (lo >>> 51);
+
+  lo = f0 * g4;    r4  = lo & MASK; c4  = (mulhi(f0,g4) << 13)    | (lo >>> 51);
+  lo = f1 * g3;    r4 += lo & MASK; c4 += (mulhi(f1,g3) << 13)    | (lo >>> 51);
+  lo = f2 * g2;    r4 += lo & MASK; c4 += (mulhi(f2,g2) << 13)    | (lo >>> 51);
+  lo = f3 * g1;    r4 += lo & MASK; c4 += (mulhi(f3,g1) << 13)    | (lo >>> 51);
+  lo = f4 * g0;    r4 += lo & MASK; c4 += (mulhi(f4,g0) << 13)    | (lo >>> 51);
+
+  reduce(h,r0,r1,r2,r3,r4,c0,c1,c2,c3,c4);
+}
+
+/*
+h = f * f
+
+Can overlap h with f.
+*/
+public static void fe_sq(long[] h,long[] f)
+{
+  long f0 = f[0], f1 = f[1], f2 = f[2], f3 = f[3], f4 = f[4];
+  long f0_2 = 2 * f0;
+  long f1_2 = 2 * f1;
+  long f3_19 = 19 * f3;
+  long f4_19 = 19 * f4;
+  long f3_38 = 2 * f3_19;
+  long f4_38 = 2 * f4_19;
+  long lo, r0, r1, r2, r3, r4, c0, c1, c2, c3, c4;
+
+  lo = f0 * f0;      r0  = lo & MASK; c0  = (mulhi(f0,f0) << 13)      | (lo >>> 51);
+  lo = f1 * f4_38;   r0 += lo & MASK; c0 += (mulhi(f1,f4_38) << 13)   | (lo >>> 51);
+  lo = f2 * f3_38;   r0 += lo & MASK; c0 += (mulhi(f2,f3_38) << 13)   | (lo >>> 51);
+
+  lo = f0_2 * f1;    r1  = lo & MASK; c1  = (mulhi(f0_2,f1) << 13)    | (lo >>> 51);
+  lo = f2 * f4_38;   r1 += lo & MASK; c1 += (mulhi(f2,f4_38) << 13)   | (lo >>> 51);
+  lo = f3 * f3_19;   r1 += lo & MASK; c1 += (mulhi(f3,f3_19) << 13)   | (lo >>> 51);
+
+  lo = f0_2 * f2;    r2  = lo & MASK; c2  = (mulhi(f0_2,f2) << 13)    | (lo >>> 51);
+  lo = f1 * f1;      r2 += lo & MASK; c2 += (mulhi(f1,f1) << 13)      | (lo >>> 51);
+  lo = f3 * f4_38;   r2 += lo & MASK; c2 += (mulhi(f3,f4_38) << 13)   | (lo >>> 51);
+
+  lo = f0_2 * f3;    r3  = lo & MASK; c3  = (mulhi(f0_2,f3) << 13)    | (lo >>> 51);
+  lo = f1_2 * f2;    r3 += lo & MASK; c3 += (mulhi(f1_2,f2) << 13)    | (lo >>> 51);
+  lo = f4 * f4_19;   r3 += lo & MASK; c3 += (mulhi(f4,f4_19) << 13)   | (lo >>> 51);
+
+  lo = f0_2 * f4;    r4  = lo & MASK; c4  = (mulhi(f0_2,f4) << 13)    | (lo >>> 51);
+  lo = f1_2 * f3;    r4 += lo & MASK; c4 += (mulhi(f1_2,f3) << 13)    | (lo >>> 51);
+  lo = f2 * f2;      r4 += lo & MASK; c4 += (mulhi(f2,f2) << 13)      | (lo >>> 51);
+
+  reduce(h,r0,r1,r2,r3,r4,c0,c1,c2,c3,c4);
+}
+
+/*
+h = 2 * f * f
+
+Can overlap h with f.
+*/
+public static void fe_sq2(long[] h,long[] f)
+{
+  fe_sq(h,f);
+  fe_add(h,h,h);
+}
+
+/* h = r + 2^51 * c, limb by limb, with c4 wrapping around times 19 */
+private static void reduce(long[] h,long r0,long r1,long r2,long r3,long r4,
+                           long c0,long c1,long c2,long c3,long c4)
+{
+  r1 += c0 + (r0 >>> 51); r0 &= MASK;
+  r2 += c1 + (r1 >>> 51); r1 &= MASK;
+  r3 += c2 + (r2 >>> 51); r2 &= MASK;
+  r4 += c3 + (r3 >>> 51); r3 &= MASK;
+  r0 += 19 * (c4 + (r4 >>> 51)); r4 &= MASK;
+  r1 += r0 >>> 51; r0 &= MASK;
+  h[0] = r0; h[1] = r1; h[2] = r2; h[3] = r3; h[4] = r4;
+}
+
+/*
+h = f * 121666
+*/
+public static void fe_mul121666(long[] h,long[] f)
+{
+  long lo, r0, r1, r2, r3, r4, c0, c1, c2, c3, c4;
+
+  lo = f[0] * 121666; r0 = lo & MASK; c0 = (mulhi(f[0],121666) << 13) | (lo >>> 51);
+  lo = f[1] * 121666; r1 = lo & MASK; c1 = (mulhi(f[1],121666) << 13) | (lo >>> 51);
+  lo = f[2] * 121666; r2 = lo & MASK; c2 = (mulhi(f[2],121666) << 13) | (lo >>> 51);
+  lo = f[3] * 121666; r3 = lo & MASK; c3 = (mulhi(f[3],121666) << 13) | (lo >>> 51);
+  lo = f[4] * 121666; r4 = lo & MASK; c4 = (mulhi(f[4],121666) << 13) | (lo >>> 51);
+
+  reduce(h,r0,r1,r2,r3,r4,c0,c1,c2,c3,c4);
+}
+
+private static long load_64(byte[] in,int index)
+{
+  long result;
+  result  = (long) in[index] & 0xFF;
+  result |= ((long) in[index + 1] & 0xFF) << 8;
+  result |= ((long) in[index + 2] & 0xFF) << 16;
+  result |= ((long) in[index + 3] & 0xFF) << 24;
+  result |= ((long) in[index + 4] & 0xFF) << 32;
+  result |= ((long) in[index + 5] & 0xFF) << 40;
+  result |= ((long) in[index + 6] & 0xFF) << 48;
+  result |= ((long) in[index + 7] & 0xFF) << 56;
+  return result;
+}
+
+private static void store_64(byte[] out,int index,long v)
+{
+  for (int i = 0;i < 8;++i) {
+    out[index + i] = (byte) (v >>> (8 * i));
+  }
+}
+
+/*
+Ignores top bit of s, like fe_frombytes.
+*/
+public static void fe_frombytes(long[] h,byte[] s)
+{
+  h[0] = load_64(s,0) & MASK;
+  h[1] = (load_64(s,6) >>> 3) & MASK;
+  h[2] = (load_64(s,12) >>> 6) & MASK;
+  h[3] = (load_64(s,19) >>> 1) & MASK;
+  h[4] = (load_64(s,24) >>> 12) & MASK;
+}
+
+/*
+Writes the unique representative of h mod p, like fe_tobytes.
+*/
+public static void fe_tobytes(byte[] s,long[] f)
+{
+  long h0 = f[0], h1 = f[1], h2 = f[2], h3 = f[3], h4 = f[4], q;
+
+  /* as carry() */
+  h1 += h0 >>> 51; h0 &= MASK;
+  h2 += h1 >>> 51; h1 &= MASK;
+  h3 += h2 >>> 51; h2 &= MASK;
+  h4 += h3 >>> 51; h3 &= MASK;
+  h0 += 19 * (h4 >>> 51); h4 &= MASK;
+
+  /* now h < 2*p; q = 1 if h >= p, 0 otherwise */
+  q = (h0 + 19) >>> 51;
+  q = (h1 + q) >>> 51;
+  q = (h2 + q) >>> 51;
+  q = (h3 + q) >>> 51;
+  q = (h4 + q) >>> 51;
+
+  h0 += 19 * q;
+  h1 += h0 >>> 51; h0 &= MASK;
+  h2 += h1 >>> 51; h1 &= MASK;
+  h3 += h2 >>> 51; h2 &= MASK;
+  h4 += h3 >>> 51; h3 &= MASK;
+  h4 &= MASK;
+
+  store_64(s,0,h0 | (h1 << 51));
+  store_64(s,8,(h1 >>> 13) | (h2 << 38));
+  store_64(s,16,(h2 >>> 26) | (h3 << 25));
+  store_64(s,24,(h3 >>> 39) | (h4 << 12));
+}
+
+/*
+return 1 if f is in {1,3,5,...,q-2}
+return 0 if f is in {0,2,4,...,q-1}
+*/
+public static int fe_isnegative(long[] f)
+{
+  return fe_isnegative(f,new byte[32]);
+}
+
+/* s is scratch */
+public static int fe_isnegative(long[] f,byte[] s)
+{
+  fe_tobytes(s,f);
+  return s[0] & 1;
+}
+
+/*
+return 0 if f == 0, nonzero otherwise, like fe_isnonzero
+*/
+public static int fe_isnonzero(long[] f)
+{
+  return fe_isnonzero(f,new byte[32]);
+}
+
+/* s is scratch */
+public static int fe_isnonzero(long[] f,byte[] s)
+{
+  fe_tobytes(s,f);
+  return crypto_verify_32.crypto_verify_32(s,fe_isnonzero.zero);
+}
+
+/* Converts a ten-limb constant, as used by the fe_* routines. */
+public static long[] fe_from_fe(int[] f)
+{
+  byte[] s = new byte[32];
+  long[] h = new long[5];
+  fe_tobytes.fe_tobytes(s,f);
+  fe_frombytes(h,s);
+  return h;
+}
+
+public static void fe_invert(long[] out,long[] z)
+{
+  fe_invert(out,z,new long[5],new long[5],new long[5],new long[5]);
+}
+
+/* t0, t1, t2, t3 are scratch */
+public static void fe_invert(long[] out,long[] z,long[] t0,long[] t1,long[] t2,long[] t3)
+{
+  int i;
+
+  fe_sq(t0,z);
+  fe_sq(t1,t0); fe_sq(t1,t1);
+  fe_mul(t1,z,t1);
+  fe_mul(t0,t0,t1);
+  fe_sq(t2,t0);
+  fe_mul(t1,t1,t2);
+  fe_sq(t2,t1); for (i = 1;i < 5;++i) fe_sq(t2,t2);
+  fe_mul(t1,t2,t1);
+  fe_sq(t2,t1); for (i = 1;i < 10;++i) fe_sq(t2,t2);
+  fe_mul(t2,t2,t1);
+  fe_sq(t3,t2); for (i = 1;i < 20;++i) fe_sq(t3,t3);
+  fe_mul(t2,t3,t2);
+  fe_sq(t2,t2); for (i = 1;i < 10;++i) fe_sq(t2,t2);
+  fe_mul(t1,t2,t1);
+  fe_sq(t2,t1); for (i = 1;i < 50;++i) fe_sq(t2,t2);
+  fe_mul(t2,t2,t1);
+  fe_sq(t3,t2); for (i = 1;i < 100;++i) fe_sq(t3,t3);
+  fe_mul(t2,t3,t2);
+  fe_sq(t2,t2); for (i = 1;i < 50;++i) fe_sq(t2,t2);
+  fe_mul(t1,t2,t1);
+  fe_sq(t1,t1); for (i = 1;i < 5;++i) fe_sq(t1,t1);
+  fe_mul(out,t1,t0);
+}
+
+public static void fe_pow22523(long[] out,long[] z)
+{
+  fe_pow22523(out,z,new long[5],new long[5],new long[5]);
+}
+
+/* t0, t1, t2 are scratch */
+public static void fe_pow22523(long[] out,long[] z,long[] t0,long[] t1,long[] t2)
+{
+  int i;
+
+  fe_sq(t0,z);
+  fe_sq(t1,t0); fe_sq(t1,t1);
+  fe_mul(t1,z,t1);
+  fe_mul(t0,t0,t1);
+  fe_sq(t0,t0);
+  fe_mul(t0,t1,t0);
+  fe_sq(t1,t0); for (i = 1;i < 5;++i) fe_sq(t1,t1);
+  fe_mul(t0,t1,t0);
+  fe_sq(t1,t0); for (i = 1;i < 10;++i) fe_sq(t1,t1);
+  fe_mul(t1,t1,t0);
+  fe_sq(t2,t1); for (i = 1;i < 20;++i) fe_sq(t2,t2);
+  fe_mul(t1,t2,t1);
+  fe_sq(t1,t1); for (i = 1;i < 10;++i) fe_sq(t1,t1);
+  fe_mul(t0,t1,t0);
+  fe_sq(t1,t0); for (i = 1;i < 50;++i) fe_sq(t1,t1);
+  fe_mul(t1,t1,t0);
+  fe_sq(t2,t1); for (i = 1;i < 100;++i) fe_sq(t2,t2);
+  fe_mul(t1,t2,t1);
+  fe_sq(t1,t1); for (i = 1;i < 50;++i) fe_sq(t1,t1);
+  fe_mul(t0,t1,t0);
+  fe_sq(t0,t0); fe_sq(t0,t0);
+  fe_mul(out,t0,z);
+}
+
+
+}
@@ -0,0 +1,42 @@
+package org.whispersystems.curve25519.java;
+
+public class fe_batch_invert {
+
+/*
+out[i] = 1/z[i] for i = 0..n-1 with a single fe_invert (Montgomery's trick).
+Like fe_invert, a zero input gives a zero output; it does not spoil the others.
+out and z may be the same array.
+*/
+
+public static void fe_batch_invert(int[][] out,int[][] z,int n)
+{
+  int[][] prefix = new int[n][10];
+  int[] acc = new int[10];
+  int[] inv = new int[10];
+  int[] t = new int[10];
+  boolean[] zero = new boolean[n];
+  int i;
+
+  fe_1.fe_1(acc);
+  for (i = 0;i < n;++i) {
+    fe_copy.fe_copy(prefix[i],acc);
+    zero[i] = fe_isnonzero.fe_isnonzero(z[i]) == 0;
+    if (!zero[i]) fe_mul.fe_mul(acc,acc,z[i]);
+  }
+
+  fe_invert.fe_invert(inv,acc);
+
+  for (i = n - 1;i >= 0;--i) {
+    if (zero[i]) {
+      fe_0.fe_0(out[i]);
+      continue;
+    }
+    /* inv = 1/(z[0]*...*z[i]); prefix[i] = z[0]*...*z[i-1] */
+    fe_mul.fe_mul(t,inv,prefix[i]);
+    fe_mul.fe_mul(inv,inv,z[i]);
+    fe_copy.fe_copy(out[i],t);
+  }
+}
+
+
+}
@@ -7,10 +7,13 @@ public class fe_invert {
 @SuppressWarnings("all")
 public static void fe_invert(int[] out,int[] z)
 {
-  int[] t0 = new int[10];
-  int[] t1 = new int[10];
-  int[] t2 = new int[10];
-  int[] t3 = new int[10];
+  fe_invert(out,z,new int[10],new int[10],new int[10],new int[10]);
+}
+
+/* t0, t1, t2, t3 are scratch */
+@SuppressWarnings("all")
+public static void fe_invert(int[] out,int[] z,int[] t0,int[] t1,int[] t2,int[] t3)
+{
   int i;
 
 //CONVERT #include "pow225521.h"
@@ -15,7 +15,12 @@ Preconditions:
 @SuppressWarnings("all")
 public static int fe_isnegative(int[] f)
 {
-  byte[] s = new byte[32];
+  return fe_isnegative(f,new byte[32]);
+}
+
+/* s is scratch */
+public static int fe_isnegative(int[] f,byte[] s)
+{
   fe_tobytes.fe_tobytes(s,f);
   return s[0] & 1;
 }
@@ -18,7 +18,12 @@ static final byte[] zero = new byte[32];
 @SuppressWarnings("all")
 public static int fe_isnonzero(int[] f)
 {
-  byte[] s = new byte[32];
+  return fe_isnonzero(f,new byte[32]);
+}
+
+/* s is scratch */
+public static int fe_isnonzero(int[] f,byte[] s)
+{
   fe_tobytes.fe_tobytes(s,f);
   return crypto_verify_32.crypto_verify_32(s,zero);
 }
@@ -7,9 +7,13 @@ public class fe_pow22523 {
 @SuppressWarnings("all")
 public static void fe_pow22523(int[] out,int[] z)
 {
-  int[] t0 = new int[10];
-  int[] t1 = new int[10];
-  int[] t2 = new int[10];
+  fe_pow22523(out,z,new int[10],new int[10],new int[10]);
+}
+
+/* t0, t1, t2 are scratch */
+@SuppressWarnings("all")
+public static void fe_pow22523(int[] out,int[] z,int[] t0,int[] t1,int[] t2)
+{
   int i;
 
 //CONVERT #include "pow22523.h"
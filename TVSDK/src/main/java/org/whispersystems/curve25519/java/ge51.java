@@ -0,0 +1,534 @@
+package org.whispersystems.curve25519.java;
+
+public class ge51 {
+
+/*
+The ge_* group operations on fe51 field elements: the same point
+representations, formulas and tables, with long[5] coordinates.
+
+ge_p2 (projective): (X:Y:Z) satisfying x=X/Z, y=Y/Z
+ge_p3 (extended): (X:Y:Z:T) satisfying x=X/Z, y=Y/Z, XY=ZT
+ge_p1p1 (completed): ((X:Z),(Y:T)) satisfying x=X/Z, y=Y/T
+ge_precomp (Duif): (y+x,y-x,2dxy)
+*/
+
+public static class p2 {
+  public long[] X = new long[5];
+  public long[] Y = new long[5];
+  public long[] Z = new long[5];
+}
+
+public static class p3 {
+  public long[] X = new long[5];
+  public long[] Y = new long[5];
+  public long[] Z = new long[5];
+  public long[] T = new long[5];
+}
+
+public static class p1p1 {
+  public long[] X = new long[5];
+  public long[] Y = new long[5];
+  public long[] Z = new long[5];
+  public long[] T = new long[5];
+}
+
+public static class precomp {
+  public long[] yplusx = new long[5];
+  public long[] yminusx = new long[5];
+  public long[] xy2d = new long[5];
+}
+
+public static class cached {
+  public long[] YplusX = new long[5];
+  public long[] YminusX = new long[5];
+  public long[] Z = new long[5];
+  public long[] T2d = new long[5];
+}
+
+static final long[] d = fe51.fe_from_fe(ge_frombytes.d);
+static final long[] d2 = fe51.fe_from_fe(ge_p3_to_cached.d2);
+static final long[] sqrtm1 = fe51.fe_from_fe(ge_frombytes.sqrtm1);
+
+/* ge_precomp_base.base converted and kept flat: base[i][j] starts at (8 * i + j) * ENTRY */
+static final long[] base = table_from(ge_precomp_base.base);
+
+/* ge_precomp_base.Bi, converted */
+static final precomp[] Bi = new precomp[8];
+static {
+  for (int i = 0;i < 8;++i) Bi[i] = precomp_from(ge_precomp_base.Bi[i]);
+}
+
+private static precomp precomp_from(ge_precomp p)
+{
+  precomp r = new precomp();
+  r.yplusx = fe51.fe_from_fe(p.yplusx);
+  r.yminusx = fe51.fe_from_fe(p.yminusx);
+  r.xy2d = fe51.fe_from_fe(p.xy2d);
+  return r;
+}
+
+/* Converts a flat table of ge_precomp_base.ENTRY limbs per entry to ENTRY limbs per entry. */
+static long[] table_from(int[] table)
+{
+  int entries = table.length / ge_precomp_base.ENTRY;
+  long[] out = new long[entries * ENTRY];
+  int[] f = new int[10];
+  for (int i = 0;i < entries * 3;++i) {
+    System.arraycopy(table,i * 10,f,0,10);
+    System.arraycopy(fe51.fe_from_fe(f),0,out,i * 5,5);
+  }
+  return out;
+}
+
+/* Converts a point decoded by the ge_* routines. */
+public static p3 p3_from(ge_p3 p)
+{
+  p3 r = new p3();
+  r.X = fe51.fe_from_fe(p.X);
+  r.Y = fe51.fe_from_fe(p.Y);
+  r.Z = fe51.fe_from_fe(p.Z);
+  r.T = fe51.fe_from_fe(p.T);
+  return r;
+}
+
+public static void ge_p2_0(p2 h)
+{
+  fe51.fe_0(h.X);
+  fe51.fe_1(h.Y);
+  fe51.fe_1(h.Z);
+}
+
+public static void ge_p3_0(p3 h)
+{
+  fe51.fe_0(h.X);
+  fe51.fe_1(h.Y);
+  fe51.fe_1(h.Z);
+  fe51.fe_0(h.T);
+}
+
+static void ge_precomp_0(precomp h)
+{
+  fe51.fe_1(h.yplusx);
+  fe51.fe_1(h.yminusx);
+  fe51.fe_0(h.xy2d);
+}
+
+/*
+r = p
+*/
+public static void ge_p1p1_to_p2(p2 r,p1p1 p)
+{
+  fe51.fe_mul(r.X,p.X,p.T);
+  fe51.fe_mul(r.Y,p.Y,p.Z);
+  fe51.fe_mul(r.Z,p.Z,p.T);
+}
+
+/*
+r = p
+*/
+public static void ge_p1p1_to_p3(p3 r,p1p1 p)
+{
+  fe51.fe_mul(r.X,p.X,p.T);
+  fe51.fe_mul(r.Y,p.Y,p.Z);
+  fe51.fe_mul(r.Z,p.Z,p.T);
+  fe51.fe_mul(r.T,p.X,p.Y);
+}
+
+/*
+r = p
+*/
+public static void ge_p3_to_cached(cached r,p3 p)
+{
+  fe51.fe_add(r.YplusX,p.Y,p.X);
+  fe51.fe_sub(r.YminusX,p.Y,p.X);
+  fe51.fe_copy(r.Z,p.Z);
+  fe51.fe_mul(r.T2d,p.T,d2);
+}
+
+/*
+r = 2 * p
+*/
+public static void ge_p2_dbl(p1p1 r,long[] X,long[] Y,long[] Z)
+{
+  ge_p2_dbl(r,X,Y,Z,new long[5]);
+}
+
+/* t0 is scratch */
+public static void ge_p2_dbl(p1p1 r,long[] X,long[] Y,long[] Z,long[] t0)
+{
+  fe51.fe_sq(r.X,X);
+  fe51.fe_sq(r.Z,Y);
+  fe51.fe_sq2(r.T,Z);
+  fe51.fe_add(r.Y,X,Y);
+  fe51.fe_sq(t0,r.Y);
+  fe51.fe_add(r.Y,r.Z,r.X);
+  fe51.fe_sub(r.Z,r.Z,r.X);
+  fe51.fe_sub(r.X,t0,r.Y);
+  fe51.fe_sub(r.T,r.T,r.Z);
+}
+
+public static void ge_p2_dbl(p1p1 r,p2 p)
+{
+  ge_p2_dbl(r,p.X,p.Y,p.Z);
+}
+
+public static void ge_p2_dbl(p1p1 r,p2 p,long[] t0)
+{
+  ge_p2_dbl(r,p.X,p.Y,p.Z,t0);
+}
+
+/*
+r = 2 * p
+*/
+public static void ge_p3_dbl(p1p1 r,p3 p)
+{
+  ge_p2_dbl(r,p.X,p.Y,p.Z);
+}
+
+public static void ge_p3_dbl(p1p1 r,p3 p,long[] t0)
+{
+  ge_p2_dbl(r,p.X,p.Y,p.Z,t0);
+}
+
+/*
+r = p + q
+*/
+public static void ge_add(p1p1 r,p3 p,cached q)
+{
+  ge_add(r,p,q,new long[5]);
+}
+
+/* t0 is scratch */
+public static void ge_add(p1p1 r,p3 p,cached q,long[] t0)
+{
+  fe51.fe_add(r.X,p.Y,p.X);
+  fe51.fe_sub(r.Y,p.Y,p.X);
+  fe51.fe_mul(r.Z,r.X,q.YplusX);
+  fe51.fe_mul(r.Y,r.Y,q.YminusX);
+  fe51.fe_mul(r.T,q.T2d,p.T);
+  fe51.fe_mul(r.X,p.Z,q.Z);
+  fe51.fe_add(t0,r.X,r.X);
+  fe51.fe_sub(r.X,r.Z,r.Y);
+  fe51.fe_add(r.Y,r.Z,r.Y);
+  fe51.fe_add(r.Z,t0,r.T);
+  fe51.fe_sub(r.T,t0,r.T);
+}
+
+/*
+r = p - q
+*/
+public static void ge_sub(p1p1 r,p3 p,cached q)
+{
+  ge_sub(r,p,q,new long[5]);
+}
+
+/* t0 is scratch */
+public static void ge_sub(p1p1 r,p3 p,cached q,long[] t0)
+{
+  fe51.fe_add(r.X,p.Y,p.X);
+  fe51.fe_sub(r.Y,p.Y,p.X);
+  fe51.fe_mul(r.Z,r.X,q.YminusX);
+  fe51.fe_mul(r.Y,r.Y,q.YplusX);
+  fe51.fe_mul(r.T,q.T2d,p.T);
+  fe51.fe_mul(r.X,p.Z,q.Z);
+  fe51.fe_add(t0,r.X,r.X);
+  fe51.fe_sub(r.X,r.Z,r.Y);
+  fe51.fe_add(r.Y,r.Z,r.Y);
+  fe51.fe_sub(r.Z,t0,r.T);
+  fe51.fe_add(r.T,t0,r.T);
+}
+
+/*
+r = p + q
+*/
+public static void ge_madd(p1p1 r,p3 p,precomp q)
+{
+  ge_madd(r,p,q,new long[5]);
+}
+
+/* t0 is scratch */
+public static void ge_madd(p1p1 r,p3 p,precomp q,long[] t0)
+{
+  fe51.fe_add(r.X,p.Y,p.X);
+  fe51.fe_sub(r.Y,p.Y,p.X);
+  fe51.fe_mul(r.Z,r.X,q.yplusx);
+  fe51.fe_mul(r.Y,r.Y,q.yminusx);
+  fe51.fe_mul(r.T,q.xy2d,p.T);
+  fe51.fe_add(t0,p.Z,p.Z);
+  fe51.fe_sub(r.X,r.Z,r.Y);
+  fe51.fe_add(r.Y,r.Z,r.Y);
+  fe51.fe_add(r.Z,t0,r.T);
+  fe51.fe_sub(r.T,t0,r.T);
+}
+
+/*
+r = p - q
+*/
+public static void ge_msub(p1p1 r,p3 p,precomp q)
+{
+  ge_msub(r,p,q,new long[5]);
+}
+
+/* t0 is scratch */
+public static void ge_msub(p1p1 r,p3 p,precomp q,long[] t0)
+{
+  fe51.fe_add(r.X,p.Y,p.X);
+  fe51.fe_sub(r.Y,p.Y,p.X);
+  fe51.fe_mul(r.Z,r.X,q.yminusx);
+  fe51.fe_mul(r.Y,r.Y,q.yplusx);
+  fe51.fe_mul(r.T,q.xy2d,p.T);
+  fe51.fe_add(t0,p.Z,p.Z);
+  fe51.fe_sub(r.X,r.Z,r.Y);
+  fe51.fe_add(r.Y,r.Z,r.Y);
+  fe51.fe_sub(r.Z,t0,r.T);
+  fe51.fe_add(r.T,t0,r.T);
+}
+
+public static void ge_tobytes(byte[] s,long[] X,long[] Y,long[] Z,SignatureContext ctx)
+{
+  long[] recip = ctx.l_recip;
+  long[] x = ctx.l_x;
+  long[] y = ctx.l_y;
+
+  fe51.fe_invert(recip,Z,ctx.l_inv0,ctx.l_inv1,ctx.l_inv2,ctx.l_inv3);
+  fe51.fe_mul(x,X,recip);
+  fe51.fe_mul(y,Y,recip);
+  fe51.fe_tobytes(s,y);
+  s[31] ^= fe51.fe_isnegative(x,ctx.bytes) << 7;
+}
+
+public static void ge_tobytes(byte[] s,p2 h)
+{
+  ge_tobytes(s,h.X,h.Y,h.Z,SignatureContext.get());
+}
+
+public static void ge_tobytes(byte[] s,p2 h,SignatureContext ctx)
+{
+  ge_tobytes(s,h.X,h.Y,h.Z,ctx);
+}
+
+public static void ge_p3_tobytes(byte[] s,p3 h)
+{
+  ge_tobytes(s,h.X,h.Y,h.Z,SignatureContext.get());
+}
+
+public static void ge_p3_tobytes(byte[] s,p3 h,SignatureContext ctx)
+{
+  ge_tobytes(s,h.X,h.Y,h.Z,ctx);
+}
+
+public static int ge_frombytes_negate_vartime(p3 h,byte[] s)
+{
+  return ge_frombytes_negate_vartime(h,s,SignatureContext.get());
+}
+
+public static int ge_frombytes_negate_vartime(p3 h,byte[] s,SignatureContext ctx)
+{
+  long[] u = ctx.l_u;
+  long[] v = ctx.l_v;
+  long[] v3 = ctx.l_v3;
+  long[] vxx = ctx.l_vxx;
+  long[] check = ctx.l_check;
+
+  fe51.fe_frombytes(h.Y,s);
+  fe51.fe_1(h.Z);
+  fe51.fe_sq(u,h.Y);
+  fe51.fe_mul(v,u,d);
+  fe51.fe_sub(u,u,h.Z);       /* u = y^2-1 */
+  fe51.fe_add(v,v,h.Z);       /* v = dy^2+1 */
+
+  fe51.fe_sq(v3,v);
+  fe51.fe_mul(v3,v3,v);        /* v3 = v^3 */
+  fe51.fe_sq(h.X,v3);
+  fe51.fe_mul(h.X,h.X,v);
+  fe51.fe_mul(h.X,h.X,u);    /* x = uv^7 */
+
+  fe51.fe_pow22523(h.X,h.X,ctx.l_inv0,ctx.l_inv1,ctx.l_inv2); /* x = (uv^7)^((q-5)/8) */
+  fe51.fe_mul(h.X,h.X,v3);
+  fe51.fe_mul(h.X,h.X,u);    /* x = uv^3(uv^7)^((q-5)/8) */
+
+  fe51.fe_sq(vxx,h.X);
+  fe51.fe_mul(vxx,vxx,v);
+  fe51.fe_sub(check,vxx,u);    /* vx^2-u */
+  if (fe51.fe_isnonzero(check,ctx.bytes) != 0) {
+    fe51.fe_add(check,vxx,u);  /* vx^2+u */
+    if (fe51.fe_isnonzero(check,ctx.bytes) != 0) return -1;
+    fe51.fe_mul(h.X,h.X,sqrtm1);
+  }
+
+  if (fe51.fe_isnegative(h.X,ctx.bytes) == ((s[31] >>> 7) & 0x01)) {
+    fe51.fe_neg(h.X,h.X);
+  }
+
+  fe51.fe_mul(h.T,h.X,h.Y);
+  return 0;
+}
+
+static void cmov(precomp t,precomp u,int b)
+{
+  fe51.fe_cmov(t.yplusx,u.yplusx,b);
+  fe51.fe_cmov(t.yminusx,u.yminusx,b);
+  fe51.fe_cmov(t.xy2d,u.xy2d,b);
+}
+
+/* limbs of one flat table entry: yplusx, yminusx, xy2d */
+static final int ENTRY = 15;
+
+/* t = entry index of table if b == 1, constant time; b is 0 or 1 */
+static void cmov(precomp t,long[] table,int index,int b)
+{
+  long mask = -b;
+  int o = index * ENTRY;
+  for (int k = 0;k < 5;++k) {
+    t.yplusx[k] ^= (t.yplusx[k] ^ table[o + k]) & mask;
+    t.yminusx[k] ^= (t.yminusx[k] ^ table[o + 5 + k]) & mask;
+    t.xy2d[k] ^= (t.xy2d[k] ^ table[o + 10 + k]) & mask;
+  }
+}
+
+/* t = b * P where entry j of the count entries at first is (j + 1) * P, reading every entry */
+static void select(precomp t,precomp minust,long[] table,int first,int count,byte b)
+{
+  int bnegative = ge_scalarmult_base.negative(b);
+  int babs = b - (((-bnegative) & b) << 1);
+
+  ge_precomp_0(t);
+  for (int i = 0;i < count;++i) {
+    cmov(t,table,first + i,ge_scalarmult_base.equal((byte)babs,(byte)(i + 1)));
+  }
+  fe51.fe_copy(minust.yplusx,t.yminusx);
+  fe51.fe_copy(minust.yminusx,t.yplusx);
+  fe51.fe_neg(minust.xy2d,t.xy2d);
+  cmov(t,minust,bnegative);
+}
+
+static void select(precomp t,precomp minust,int pos,byte b)
+{
+  select(t,minust,base,pos * 8,8,b);
+}
+
+/*
+h = a * B, like ge_scalarmult_base
+
+Preconditions:
+  a[31] <= 127
+*/
+public static void ge_scalarmult_base(p3 h,byte[] a)
+{
+  ge_scalarmult_base(h,a,SignatureContext.get());
+}
+
+public static void ge_scalarmult_base(p3 h,byte[] a,SignatureContext ctx)
+{
+  byte[] e = ctx.e;
+  byte carry;
+  p1p1 r = ctx.l_smb_r;
+  p2 s = ctx.l_smb_s;
+  precomp t = ctx.l_smb_t;
+  precomp minust = ctx.l_smb_minust;
+  long[] t0 = ctx.l_t0;
+  int i;
+
+  /* the wider tables of ge_scalarmult_base_wide, if selected */
+  ge_scalarmult_base_wide wide = ge_scalarmult_base_wide.selected();
+  if (wide != null) {
+    wide.ge_scalarmult_base(h,a,ctx);
+    return;
+  }
+
+  for (i = 0;i < 32;++i) {
+    e[2 * i + 0] = (byte)((a[i] >>> 0) & 15);
+    e[2 * i + 1] = (byte)((a[i] >>> 4) & 15);
+  }
+  /* each e[i] is between 0 and 15 */
+  /* e[63] is between 0 and 7 */
+
+  carry = 0;
+  for (i = 0;i < 63;++i) {
+    e[i] += carry;
+    carry = (byte)(e[i] + 8);
+    carry >>= 4;
+    e[i] -= carry << 4;
+  }
+  e[63] += carry;
+  /* each e[i] is between -8 and 8 */
+
+  ge_p3_0(h);
+  for (i = 1;i < 64;i += 2) {
+    select(t,minust,i / 2,e[i]);
+    ge_madd(r,h,t,t0); ge_p1p1_to_p3(h,r);
+  }
+
+  ge_p3_dbl(r,h,t0); ge_p1p1_to_p2(s,r);
+  ge_p2_dbl(r,s,t0); ge_p1p1_to_p2(s,r);
+  ge_p2_dbl(r,s,t0); ge_p1p1_to_p2(s,r);
+  ge_p2_dbl(r,s,t0); ge_p1p1_to_p3(h,r);
+
+  for (i = 0;i < 64;i += 2) {
+    select(t,minust,i / 2,e[i]);
+    ge_madd(r,h,t,t0); ge_p1p1_to_p3(h,r);
+  }
+
+  /* e holds the digits of a, which is secret */
+  for (i = 0;i < 64;++i) e[i] = 0;
+}
+
+/*
+r = a * A + b * B, like ge_double_scalarmult_vartime
+*/
+public static void ge_double_scalarmult_vartime(p2 r,byte[] a,p3 A,byte[] b)
+{
+  ge_double_scalarmult_vartime(r,a,A,b,SignatureContext.get());
+}
+
+public static void ge_double_scalarmult_vartime(p2 r,byte[] a,p3 A,byte[] b,SignatureContext ctx)
+{
+  byte[] aslide = ctx.aslide;
+  byte[] bslide = ctx.bslide;
+  cached[] Ai = ctx.l_Ai; /* A,3A,5A,7A,9A,11A,13A,15A */
+  p1p1 t = ctx.l_dsm_t;
+  p3 u = ctx.l_dsm_u;
+  p3 A2 = ctx.l_dsm_A2;
+  long[] t0 = ctx.l_t0;
+  int i;
+
+  ge_double_scalarmult.slide(aslide,a);
+  ge_double_scalarmult.slide(bslide,b);
+
+  ge_p3_to_cached(Ai[0],A);
+  ge_p3_dbl(t,A,t0); ge_p1p1_to_p3(A2,t);
+  for (i = 0;i < 7;++i) {
+    ge_add(t,A2,Ai[i],t0); ge_p1p1_to_p3(u,t); ge_p3_to_cached(Ai[i + 1],u);
+  }
+
+  ge_p2_0(r);
+
+  for (i = 255;i >= 0;--i) {
+    if (aslide[i] != 0 || bslide[i] != 0) break;
+  }
+
+  for (;i >= 0;--i) {
+    ge_p2_dbl(t,r,t0);
+
+    if (aslide[i] > 0) {
+      ge_p1p1_to_p3(u,t);
+      ge_add(t,u,Ai[aslide[i]/2],t0);
+    } else if (aslide[i] < 0) {
+      ge_p1p1_to_p3(u,t);
+      ge_sub(t,u,Ai[(-aslide[i])/2],t0);
+    }
+
+    if (bslide[i] > 0) {
+      ge_p1p1_to_p3(u,t);
+      ge_madd(t,u,Bi[bslide[i]/2],t0);
+    } else if (bslide[i] < 0) {
+      ge_p1p1_to_p3(u,t);
+      ge_msub(t,u,Bi[(-bslide[i])/2],t0);
+    }
+
+    ge_p1p1_to_p2(r,t);
+  }
+}
+
+
+}
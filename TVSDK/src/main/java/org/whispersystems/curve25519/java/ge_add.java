@@ -11,7 +11,13 @@ r = p + q
 @SuppressWarnings("all")
 public static void ge_add(ge_p1p1 r,ge_p3 p,ge_cached q)
 {
-  int[] t0 = new int[10];
+  ge_add(r,p,q,new int[10]);
+}
+
+/* t0 is scratch */
+@SuppressWarnings("all")
+public static void ge_add(ge_p1p1 r,ge_p3 p,ge_cached q,int[] t0)
+{
 //CONVERT #include "ge_add.h"
 
 /* qhasm: enter ge_add */
@@ -0,0 +1,117 @@
+package org.whispersystems.curve25519.java;
+
+public class ge_double_scalarmult_prepared {
+
+/*
+Odd multiples B, 3B, ..., 127B of the base point and of 2^128 B, built once.
+*/
+static final ge_precomp[] B;
+static final ge_precomp[] B128;
+static {
+  ge_prepared prepared = new ge_prepared(base_point());
+  B = prepared.A;
+  B128 = prepared.A128;
+}
+
+private static ge_p3 base_point()
+{
+  byte[] one = new byte[32];
+  ge_p3 p = new ge_p3();
+  one[0] = 1;
+  ge_scalarmult_base.ge_scalarmult_base(p, one, new SignatureContext());
+  return p;
+}
+
+/*
+Width-w signed sliding window recoding of bits [start, start+128) of a:
+r[i] is zero or odd with |r[i]| < 2^(w-1), and the 128-bit value equals
+sum r[i]*2^i for i = 0..128.
+*/
+static void slide(byte[] r, byte[] a, int start, int w)
+{
+  int max = (1 << (w - 1)) - 1;
+  int i, b, k;
+
+  for (i = 0;i < 128;++i) {
+    int bit = start + i;
+    r[i] = (byte)(1 & (a[bit >> 3] >>> (bit & 7)));
+  }
+  r[128] = 0;
+
+  for (i = 0;i < 129;++i)
+    if (r[i] != 0) {
+      for (b = 1;b < w && i + b < 129;++b) {
+        if (r[i + b] != 0) {
+          if (r[i] + (r[i + b] << b) <= max) {
+            r[i] += r[i + b] << b; r[i + b] = 0;
+          } else if (r[i] - (r[i + b] << b) >= -max) {
+            r[i] -= r[i + b] << b;
+            for (k = i + b;k < 129;++k) {
+              if (r[k] == 0) {
+                r[k] = 1;
+                break;
+              }
+              r[k] = 0;
+            }
+          } else
+            break;
+        }
+      }
+    }
+}
+
+private static void add(ge_p1p1 t, ge_p3 u, ge_precomp[] table, byte digit, int[] t0)
+{
+  if (digit > 0) {
+    ge_p1p1_to_p3.ge_p1p1_to_p3(u,t);
+    ge_madd.ge_madd(t,u,table[digit/2],t0);
+  } else if (digit < 0) {
+    ge_p1p1_to_p3.ge_p1p1_to_p3(u,t);
+    ge_msub.ge_msub(t,u,table[(-digit)/2],t0);
+  }
+}
+
+/*
+r = a * A + b * B, like ge_double_scalarmult_vartime, for an A given by its
+ge_prepared tables.  Both scalars are split at bit 128 so that one chain of
+129 doublings serves all four halves, and every half uses width-8 windows.
+*/
+public static void ge_double_scalarmult_prepared_vartime(ge_p2 r,byte[] a,ge_prepared A,byte[] b)
+{
+  ge_double_scalarmult_prepared_vartime(r,a,A,b,SignatureContext.get());
+}
+
+public static void ge_double_scalarmult_prepared_vartime(ge_p2 r,byte[] a,ge_prepared A,byte[] b,SignatureContext ctx)
+{
+  byte[] alo = ctx.alo;
+  byte[] ahi = ctx.ahi;
+  byte[] blo = ctx.blo;
+  byte[] bhi = ctx.bhi;
+  ge_p1p1 t = ctx.dsm_t;
+  ge_p3 u = ctx.dsm_u;
+  int[] t0 = ctx.t0;
+  int i;
+
+  slide(alo,a,0,ge_prepared.WINDOW);
+  slide(ahi,a,128,ge_prepared.WINDOW);
+  slide(blo,b,0,ge_prepared.WINDOW);
+  slide(bhi,b,128,ge_prepared.WINDOW);
+
+  ge_p2_0.ge_p2_0(r);
+
+  for (i = 128;i >= 0;--i) {
+    if (alo[i] != 0 || ahi[i] != 0 || blo[i] != 0 || bhi[i] != 0) break;
+  }
+
+  for (;i >= 0;--i) {
+    ge_p2_dbl.ge_p2_dbl(t,r,t0);
+    add(t,u,A.A,alo[i],t0);
+    add(t,u,A.A128,ahi[i],t0);
+    add(t,u,B,blo[i],t0);
+    add(t,u,B128,bhi[i],t0);
+    ge_p1p1_to_p2.ge_p1p1_to_p2(r,t);
+  }
+}
+
+
+}
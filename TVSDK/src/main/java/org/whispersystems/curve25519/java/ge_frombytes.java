@@ -16,11 +16,16 @@ static int[] sqrtm1 = {
 
 public static int ge_frombytes_negate_vartime(ge_p3 h,byte[] s)
 {
-  int[] u = new int[10];
-  int[] v = new int[10];
-  int[] v3 = new int[10];
-  int[] vxx = new int[10];
-  int[] check = new int[10];
+  return ge_frombytes_negate_vartime(h,s,SignatureContext.get());
+}
+
+public static int ge_frombytes_negate_vartime(ge_p3 h,byte[] s,SignatureContext ctx)
+{
+  int[] u = ctx.u;
+  int[] v = ctx.v;
+  int[] v3 = ctx.v3;
+  int[] vxx = ctx.vxx;
+  int[] check = ctx.check;
 
   fe_frombytes.fe_frombytes(h.Y,s);
   fe_1.fe_1(h.Z);
@@ -35,20 +40,20 @@ public static int ge_frombytes_negate_vartime(ge_p3 h,byte[] s)
   fe_mul.fe_mul(h.X,h.X,v);
   fe_mul.fe_mul(h.X,h.X,u);    /* x = uv^7 */
 
-  fe_pow22523.fe_pow22523(h.X,h.X); /* x = (uv^7)^((q-5)/8) */
+  fe_pow22523.fe_pow22523(h.X,h.X,ctx.inv0,ctx.inv1,ctx.inv2); /* x = (uv^7)^((q-5)/8) */
   fe_mul.fe_mul(h.X,h.X,v3);
   fe_mul.fe_mul(h.X,h.X,u);    /* x = uv^3(uv^7)^((q-5)/8) */
 
   fe_sq.fe_sq(vxx,h.X);
   fe_mul.fe_mul(vxx,vxx,v);
   fe_sub.fe_sub(check,vxx,u);    /* vx^2-u */
-  if (fe_isnonzero.fe_isnonzero(check) != 0) {
+  if (fe_isnonzero.fe_isnonzero(check,ctx.bytes) != 0) {
     fe_add.fe_add(check,vxx,u);  /* vx^2+u */
-    if (fe_isnonzero.fe_isnonzero(check) != 0) return -1;
+    if (fe_isnonzero.fe_isnonzero(check,ctx.bytes) != 0) return -1;
     fe_mul.fe_mul(h.X,h.X,sqrtm1);
   }
 
-  if (fe_isnegative.fe_isnegative(h.X) == ((s[31] >>> 7) & 0x01)) {
+  if (fe_isnegative.fe_isnegative(h.X,ctx.bytes) == ((s[31] >>> 7) & 0x01)) {
     fe_neg.fe_neg(h.X,h.X);
     }
 
@@ -11,7 +11,13 @@ r = 2 * p
 @SuppressWarnings("all")
 public static void ge_p2_dbl(ge_p1p1 r,ge_p2 p)
 {
-  int[] t0 = new int[10];
+  ge_p2_dbl(r,p,new int[10]);
+}
+
+/* t0 is scratch */
+@SuppressWarnings("all")
+public static void ge_p2_dbl(ge_p1p1 r,ge_p2 p,int[] t0)
+{
 //CONVERT #include "ge_p2_dbl.h"
 
 /* qhasm: enter ge_p2_dbl */
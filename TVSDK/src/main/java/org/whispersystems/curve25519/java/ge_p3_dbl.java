@@ -16,5 +16,11 @@ public static void ge_p3_dbl(ge_p1p1 r,ge_p3 p)
   ge_p2_dbl.ge_p2_dbl(r,q);
 }
 
+public static void ge_p3_dbl(ge_p1p1 r,ge_p3 p,SignatureContext ctx)
+{
+  ge_p3_to_p2.ge_p3_to_p2(ctx.dbl,p);
+  ge_p2_dbl.ge_p2_dbl(r,ctx.dbl,ctx.t0);
+}
+
 
 }
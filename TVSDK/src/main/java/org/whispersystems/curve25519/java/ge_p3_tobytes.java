@@ -7,15 +7,20 @@ public class ge_p3_tobytes {
 @SuppressWarnings("all")
 public static void ge_p3_tobytes(byte[] s,ge_p3 h)
 {
-  int[] recip = new int[10];
-  int[] x = new int[10];
-  int[] y = new int[10];
+  ge_p3_tobytes(s,h,SignatureContext.get());
+}
+
+public static void ge_p3_tobytes(byte[] s,ge_p3 h,SignatureContext ctx)
+{
+  int[] recip = ctx.recip;
+  int[] x = ctx.x;
+  int[] y = ctx.y;
 
-  fe_invert.fe_invert(recip,h.Z);
+  fe_invert.fe_invert(recip,h.Z,ctx.inv0,ctx.inv1,ctx.inv2,ctx.inv3);
   fe_mul.fe_mul(x,h.X,recip);
   fe_mul.fe_mul(y,h.Y,recip);
   fe_tobytes.fe_tobytes(s,y);
-  s[31] ^= fe_isnegative.fe_isnegative(x) << 7;
+  s[31] ^= fe_isnegative.fe_isnegative(x,ctx.bytes) << 7;
 }
 
 
@@ -0,0 +1,504 @@
+package org.whispersystems.curve25519.java;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+public class ge_precomp_base {
+
+/*
+base.h and the Bi table of ge_double_scalarmult as one flat int[], decoded
+on first use from the Base64 constant TABLES at the end of this file
+rather than built entry by entry by class initializers.  TABLES holds the
+32 * 8 entries base[i][j] = (j+1)*256^i*B followed by the 8 entries
+Bi[i] = (2i+1)*B, each as the 30 limbs of yplusx, yminusx, xy2d in
+big-endian order.
+*/
+
+  static final int ENTRY = 30;
+  static final int BASE_ENTRIES = 32 * 8;
+  static final int BI_ENTRIES = 8;
+
+  /* base[i][j] starts at (8 * i + j) * ENTRY */
+  static final int[] base;
+  static final ge_precomp[] Bi;
+
+  /* the class is being initialized, so the loops stay on locals */
+  static {
+    int[] table = decode(BASE_ENTRIES + BI_ENTRIES);
+    ge_precomp[] bi = new ge_precomp[BI_ENTRIES];
+
+    for (int i = 0;i < BI_ENTRIES;++i) {
+      int o = (BASE_ENTRIES + i) * ENTRY;
+      bi[i] = new ge_precomp(Arrays.copyOfRange(table,o,o + 10),
+                             Arrays.copyOfRange(table,o + 10,o + 20),
+                             Arrays.copyOfRange(table,o + 20,o + 30));
+    }
+
+    base = Arrays.copyOf(table,BASE_ENTRIES * ENTRY);
+    Bi = bi;
+  }
+
+  private static int[] decode(int entries)
+  {
+    byte[] in = Base64.getDecoder().decode(TABLES);
+    int[] out = new int[entries * ENTRY];
+
+    for (int i = 0,o = 0;i < out.length;++i,o += 4)
+      out[i] = (in[o] << 24) | ((in[o + 1] & 0xff) << 16) | ((in[o + 2] & 0xff) << 8) | (in[o + 3] & 0xff);
+    return out;
+  }
+
+  /* t = entry index of table if b == 1, constant time; b is 0 or 1 */
+  static void cmov(ge_precomp t,int[] table,int index,int b)
+  {
+    int mask = -b;
+    int o = index * ENTRY;
+    for (int k = 0;k < 10;++k) {
+      t.yplusx[k] ^= (t.yplusx[k] ^ table[o + k]) & mask;
+      t.yminusx[k] ^= (t.yminusx[k] ^ table[o + 10 + k]) & mask;
+      t.xy2d[k] ^= (t.xy2d[k] ^ table[o + 20 + k]) & mask;
+    }
+  }
+
+  private static final String TABLES =
+    "AYw7hf8k8b0BwyX4ADfcYP8+TLcAPULDAaRMMv9MpOH/oz1MAB8+df9AkVEADkF2/9ZzogAuigb/9OZ8AI+KCgDCGjQATPS4" +
+    "ASmPgf8T9L7/eqp7AESBYgCT1Xn/HmVWAJtnof9DWYwBvuXvALULQ/6J8Mb/vEXu/zxx6v85/yX+trJFALPQgP59Gnb/1gcD" +
+    "/00y8f/Fy1X/+ofT/2QwGf601bsAaVgRAZ7RUwBicwX+PK4E/243q/8RtdkAqrwU/mackv+u1lcBm3pyAKos6QHvCH8A6uzW" +
+    "ANsFr/89ajH/0EIG/25qAv8T6lH/wGvXAO6XQ/9sKhMBcVXl/4dEMgAJahH/AWcyAagBUP8emCMBuagQ/+hZOAD80mUAR/op" +
+    "/0+qzP/vLg4A701Q/0vWvQD5jRH/TFAmAHVVvgCq5FYB0Nic/6TPw/9MQpb/EOGvAWJQjQDy20wAcqLGAJjaLv7xK5v/aKCb" +
+    "/vwJsgDUbmQApwUO/6Pv6QGdlxz/CpJl/kae/gDk+UcAMh5Y/6A6RAFoGL//gUKB/1UywP+KswgAyfomAKBQcwBx5oMAk1h9" +
+    "AMdEWgCeTP0Adv8cAP76cQAuS0IAK9rmAbp45QArRJQB7nyI/8Vru//2NVT//nQzAKW7MwCvEQIBoFRCAB469/41QSMAv+xF" +
+    "AfWGLQDde6P/FG4gAKUXNABH1roAYLDpATbv8gCKWTn/VABTAGSgiP54jlwAvnxo/z6xtQBVKfoBKoKYAPb8YP4/l5cAPoXv" +
+    "AJw4IP+9py0Bs4WOANNWg/6Ws7v/Dqr6/xVxRP87ut4B8QdCAEgGRf5snFYAWac3/ts0bf8XsA3/aizE/0eV7/99jKQAAa2f" +
+    "AOcpMwAhPpEBXW+KAEVTuQAuc5D/EJdhABrkGADi2TH+6ktx/wyZwf9gMLYAGg0O/vnDgAA7wUX+USWEADxqfQGp8NYAQuOk" +
+    "AE6j0gCXNCUAGk1j/9Wc7gHRwNUAVC5JASlBFABPzjb+koPJ/xhvqv4yIbH/yyarAHT3TgCZ3dEBsoCFABksOgE7J8kA/BO9" +
+    "AdLlMQB1u3UBuLO1ANtyAACTXjAAOCn1/swNfQB3rfT+IN0sABTqVAHGoPn/6n7sAN0+j//WWYH+BYs3/78URAGyzA4A2cMj" +
+    "Ac4zLwCl9ib+BhvOACRXnv+SNNn/13t9/x88VQAHDav+WPXaADwj/P+g1jcAOGWF/hMg4ADqQJMBopEaAH12cgD6/Pj/xF5l" +
+    "/uKNxgC2KjP+CQyH/9KsbQHC7MUAmkHx/y+cMP83Q5n+IqXaALO0SgFHQtoAY3pY/9u11P/nKlwAmgDv/7dN9QGqUV4A2NUS" +
+    "AEddqwD4XjT+oZcS/0LRxf4P9K4AtzCi/vA9MQDDXbYBBuTH/xEFyP/tLYkABJRs/+1PWv9NPycBz1I1/3YWjgES6GUAQxpc" +
+    "/1jIBf+KqCEASOGV/xvRAgGo9Sz/Ee3c/mnTHgDd7o3+9VCAAA7+bwG+X94A8Qnf/9RMkv9ozWwAmXU/ADBFkABv5CP/wSHA" +
+    "/r7WcACXmHMAWGYXAPhKM/6Px+L/ZaLMAb1h0AASaPX/HvbmAEWUF/40WG7/WbXi/lov0P9QoXIA+HQh/1eYswGxkEX/Gu5Y" +
+    "AXEgOgBFTQH/NHk7AFPumADBCDT/6SfnAIoixwCtRN7+8jlb/3/S3P72B8AAuyOXAKXswwDOXW8BhffU/9GFmgAK55sAJk5A" +
+    "AWT5ev9hEx4B+Vs+AE2F+P6oP8UAUgp0/nHsuP/Cy9T+/GQ9/8oFJP+ZW3cAHU+B/qtnZ/9v1+0ARTXYABfw7//dlcIA3uEm" +
+    "/rT/6P+FUnYBsdE5AIXoi/4usJ4ALnPCAeX3WAC/Zxz+r97dACzrlf4Z5JcAZ2naANJVjv++gZX+XkHV/+CGdQB1xlIA3N2d" +
+    "ACRlowAlcsX+pqxoAAC2C/+8SFH/ELxhAAoGRf+Rk8cBcwkI/6/WQQDRrdkApn9Q/gTl9/98t6f+zBxa//A7rwH4KQv/Myhs" +
+    "/sOxkAB++pYBQVuK/948eADvwfX/vdYdABkCgACimlABa9xN/0rN6v9npjYACUh0/y9e5P8ZyB7/WdYj/4ywPf+j4lMArIJL" +
+    "ABEmgP+YiV8Bn3zXAABdT/6dUpT/+4LD/0zKKADgfvv+PmOd/+EHzwDDRGD/nbqM/+cTgwD+gCr+Pds0AEjLZv8LB40A1aS6" +
+    "AHd6HwCR8oX/6PzQ/7bVW/76BI8AStf5AW8epQDfCasBInvl/xqCXAEtm03/HIvDAE7gOwD3EYgAIHls/736T/7842AAPvEm" +
+    "/32uPv9db5sBzuYK/yjFYf45MQAADfpB/5b7Ev/Sbdz+pq4FAL2BLP+TI+v/jfcl/wSNSAD/a2cABFr3ACosNQDwHgIAPzsE" +
+    "ACROWAC0p3H/wUe+/6SexwCsCDoADCFNAAM/Qf8hTZkBZv6s/wTd5AH+Hlf/VimS/u/Miv8RjWwAh/K7AH/Q0v4OLUQAPmBJ" +
+    "/xg8Uf8kBqoAGvkDAG3VI/82gRb/4SMV/zg96gAG2ToAWHyPAEJ+7P+3JtH/Bu4iAGaRrgDTFl/+mQ/E/+hULgGSInX/Svrn" +
+    "AWSGG//Du1wAcMaqACoceABDRtEAH1EdAWSoHQCgrakAdSNr/ztgPgFFDFH/vu+HABL83P863KP/vImJAG1mUwBMBmD/0t7q" +
+    "Ac2uuf/VnjwA1vENAIyBrADyaF0A+5zAAB51KwCeUeEA2uh/AMsc4v+XG+n/BSt1/y8O8gAGFCH+LPuJ//UfG/591rcAlXko" +
+    "/9WeugDjCFn+AFhFAOGHywDLrskAuEeT/il5EgBOBV7+8NbgALQFJAHnh/sA1Iqj/nT50gC7gVj+MQgT/5AOPgDTTJ8AUjPW" +
+    "/uR1bf/L32cBD/xL/9xHmgFbDRf/YKiNAIW2tQA3M/r+1OrqAJ4/rwE08Cf/JL2eAVUo1f/3tCABGmYT/2EYVADeFUX/eouU" +
+    "AevV3AD/y+gAkzl5AJoH4wGTFjUA4QFI/jCGUv+dPFMAqUiRAO9nIgAv6cb/BBN0/wlquABTgbcB5rAkAEhnIgCGotsAnir1" +
+    "/mCVIACQLKX+SO/KAAWW1wEkQioAr9eE/1auVv+cxRr+h+gxAFK2ZwGwgP0AerKZAAr69QCyGOwAhGqJACkdKP+YHjIAJml8" +
+    "AEu/5gCqK4//FIMs/xcNLAGb/+3/ZG2f/xi1cABs3GgAg9M3/9UMY/+Rl5gAnwXuAAibYQBRbCEAZwMB/yJtPgC0m/r/w0cg" +
+    "AZFGJgD1X58BZeVFAPAciAAZ4E//eW5OAHyo+AD3gLv+65MCAIQLTwEMOkb/owi1/4WJT/8LqiX/VfON/9fnsP+klsz/J9fv" +
+    "/pxXLv9YowgA6CKs/2YsQv4pNhv/V2PsAal7KQArcjQAKIZ1ABqGm/5bz+f/JoQj/n1mE/+F4yT/cQN2AHwNHQFKYJj/zpJY" +
+    "/ty/p/9YEqIAF2S2ADR1HwFqLlEABwIMAclQRQCs9tEBjTAMAFjT4ACf4nQAgmJ6AersQf8J4uEBe+LPADvWWQFYh3D/y/Ra" +
+    "ASYLMQC6bIEBD3BZ/8wuZf4tzH//3f9P/xJJM/9lKn8AyhXxAAfjoADsMmn/xTRPAdDKaAAQD7T/TsVlAMtNYgHxuSkAfMEj" +
+    "/xebIwDANc8Bo30L/7me+QAwgwT/b10VAed5Pf8kyEX/uTC5/xXub/8ZMif/o9dj/x7UV/8Fk6QBIwaA/27fbACyTMIAtGVK" +
+    "ADAv8/8rGa4B/a1S/8ByNgBbNyj/sGzXAAc4CwBM6eD+ymLRAH0Z8v5dwSwAsQjLABOwh//VR3ABsDvOABpDBP7Vjw7/0Dcq" +
+    "AHhDPACjFcEAc6RjAHYUCv7e1Jz/2QegAUz1cgB7O3X+VsKwALAP1f7Pzk4AO4HVARb76f+YN2D/D//s/1RZxQCFlV0AcaCu" +
+    "/6lj6gBYdJj/U6SQ/8YdX/8PLyL/hnhjAMHsBf9+9/kAHruT/3XmMv/b2Wz/plGj/qkZSP9PeZv+WZscABF+BwEhQZMA/eov" +
+    "ABIzGv/HU2kA5sSjAKT4cQDa/uL/y9G9/t73pAClI/8B87wEAEezf//+7SUA8Lpk/kc5Bf9JSGf+URL0/4TS5f+0Bu7/ruUL" +
+    "AcDd4wAcMRH+xNej/wR2CQBH8DP/bYFxAOfwTAB/sbwBLEd9APOvGv4ZqV4AHeYbAXeLD/+6qqj/TMWsALxL/ADEfIn/YBZI" +
+    "AfmXLQBkkdz/n8BAAOLveACSsoEAfcAAAOqK6wCSnbf/wMdT/0isuACA4Un/+gZNAENBugDP9mj/iiC8APIY2v5RikP/eYHt" +
+    "AZbPFP8QxykAgBQGAAV2n/+PELUADybc/pNAFwANGkkBOeRXAIB8zADfGCsAx2Pb/xRLFgB+GxMA1z6dAOYdbgH/p7MAvvw2" +
+    "/rbM3f9BnrMAA51RAJ/awgAA36r/IAvgAGLFJgAlpKgBB1gXAG66pACGJGAA5fLqABN5+v9w/vIBXi8D/wbvCf6ZhlH/qP3W" +
+    "AOB8QwBKX/X+LB4c/9xtAQBZWbIATCT8/y7GGABvTUz/iOqGAB1eJ//qSLn/h0RG/gdm5wCM500BOi+n/3ZhlAHhGxD/j86m" +
+    "/9aybgCig7QB4Y2P/07aDQEhmXIAzGhiAXVyrwBLzqcBU8TKAENAOgFvL4r/gPfE/uDgiQDPcJ4B/2SaAGslhv9PgMb/m9F/" +
+    "/rn+owDzDjz+cNsfAEHZHf50Dcj/xDx7/rg74ADEWfL+SxB7AM4QlQEw/kX/33TnAUGg0QBiUMj+uMIlACI/lP9B8Iv/hJDZ" +
+    "/i0mOADSeMf/prFsAATeoP53ftz/oGulAfjcUgCIr/H/F42QAFSKqf9OiaD/UHbi/4QbNP+LYD8AJ/qYAA+bvP6WM+j/6A8o" +
+    "/wnl8P8br4kBYUlLAAvU2gGiBYcA1blr/2v5AgBG8igAGcjbAA2dGf9QUkP/F/nEAJUUkQCSSDIBlExeAEH7GAAXwB//ydS4" +
+    "AaLpewBIrff+21eiAFmGfv4MC58AHWmmAeQbSf+3eHEBbaNC/wuP1AGo558AWoD//joOOf8KNFkBowj9/9KRAAFVgQoAG7Uu" +
+    "/qCIZ//RvH4AbyMi/xjb1/7WC9QAdgVl/4XF6P9tp9//VlDtAF6LRgG/wZ7/Mw+bAHO+D//Ph04BGwr5AOl9tf4NrF//odWq" +
+    "/4rsJ/9XXV8AX4C+AM4PfQCflqb/ng/j/3iezgCAjSoBeLJlAINtnP4sDtr/zqj3ABxw1P/kEXABJRBaAGzexf9Tz/7/81oJ" +
+    "AKz08/9zWBoAenTNAMHmvwELZLT/YCXZAJxOmv8f6uv/srLOAPvAlQCH+rYAaRb2/23BfP+V0gIAqhGp/25gAAEICXX/KHsy" +
+    "AGO9wQCg4yL+RlAwAOwz0/71ei0ACK4s/+klrQCrQZ7/10V6/wJQWv5gaoMAh3Lj/ncxzf9APrD/ETNS//MU8f4IDYL/89mA" +
+    "/gEbogDxdlr/9sb2/3YQNwCdn8gAARGjAHlrjP92oVUAlQAmAO4vnAGmpgn/tWJLABlKMgAvD0IAn+GL/44DTAC47g7/Nc8L" +
+    "AbrAt/+uIKsB3Uy/ANuq9/4yrBkA6QnZ/0R+ywAwXLcBt6d/AP4xQQF/PxD/qhX+/n/gO/8/MBb+gk4bAB3DKP5whPoAkMsj" +
+    "AKipaP8e/c/+JihoAFjkXv+AEM7/ejfUAOoW3wB/xd8BtbX9AHZmkf8kmez/SNnU/hgmFAA+PooABIyY/2Pc5v/UFQEA58mU" +
+    "/gl79ADSqwD/JToz/w7/Af6Rt/QApvIAAIRKFgAp2Hn+csNf/5cYhf/n4pz/TQX3/nOU9v9RXOH+9lDe/1l7qgCNx0r/CBQd" +
+    "/0aIigBcS13+MZPdAOJ+NAAXfOUAtQkuATRAzQAc/oMA1J6XAE5AgwCrGc4Ai+YA/m79vwCn92cBKChA//GlKv7kSzv/vfN8" +
+    "/7JcxP9WjIIBOFmN/wXGk/6e+MsAjaKQAOKsC/8VKoL/j6cB/yQkkP6kWDAA3KqoANZHYgBP0FsByUyf/9Yqpv8A/0X/fYAG" +
+    "AIwBvv/aU5IBSO7XADV/ev+ldL3/QghU/9AD1gCFbtUBLKjDAEXnnv7IQKIAaDpb/rs6tgCI5Pn+TIbLAOndY/7W/ksAmkVQ" +
+    "/viYQP/KiOz+mWmdABSvlf8TIxYA6Xl8/sb6ugCL5YT/rlCJAER9pf6UypAA+O/rAHa4h/8RXmX+Rkh6AJKCRQH43n//dn9F" +
+    "/tdSHv8TSrz+wqfl/0IZdf446kEAnBbV/l07l/8bHC3/pH66AO8GIAFjcn//AjTb/qZgY/9+vj4BqN5sAK7iSwDH4ub/2nU8" +
+    "ART4/ADMvNb+hsIf/8BFe/4krakAW2I3/mYq3wBmAYkAGVqd/0B67wDpBvz/FDYHAK50Uv82JYcAfboP/69w4//htGT/9O0q" +
+    "/uKt9AAhEvj/lmOr/zLrSv4gUnUA7ahqAdBtzwC6CeT+qTyHAI9cs/9oqvT/fC3rALpjRgC3iXUA1x/gAGQJKAFfEBoAV9lE" +
+    "/xSXCP86ZBoBy6WwAEZ2NP7+IAf/9f70/8KQp/8XcX0AtXmwANFUiP8eBooAHDBZ/w6bIQCa8BkBbc2N/z5zRv5rKBT/x5qK" +
+    "/+LfXgAmq53+GbGj/wN2LQEX3g7/Ub7RAeh7dv9l1Q3+ezd7AKX2G/9MYzL/INaM/0NBYQAcDBgBTlauAGD3QABDh6D/8zdC" +
+    "/2DMk/8hBhoBUzNi/9DVmf82uAIAC9oZ/vZDMf9IlRIASBkNANZPKgEmBCr/kIsbABe7lQCEpBL+uFT1/2jGeABg2n7/6nU4" +
+    "/tYdDf8KL0T+hJqnAMYmmP9ZskL/qy7I/1NjDf/9u9IBKi2qAHzRigCNotYAnOYM/nAkZgBDkwP/e9c0/zar6QA+iWL/J9r3" +
+    "AOza5wB/v/cAVJLD/1ywpf9e1BMA40oRAZkoWP8Bk8b+9UPO/9oD8P/VjT0Aardh/uvowwCaVl/+zTDR//HRdgHfePAAnx3V" +
+    "/5N/owBd2g3+RBhV/1AURgGMBb3//mFS/79jY/+FVIT/dNprAC56cAAgEWn/P6DCASfeRABc/dj/zWmxAMPJlf8L4SoAc6Io" +
+    "AFEHCQDb2qX+ABa0//ySHQHhz5IAYIe0AHCjH//bC7H+wQyFADJOKwF5cUH/Btk7ARhebgBvrHAAYA8HAHtVJP8VlkcAvEnQ" +
+    "AacLwAAi9dUAXOYJ/yeOogAbWtcAWWFiANNPXgDwnVoBftxfAOKwZv7gHiQAfx8jAXPo5wCCU1X/9UnS/3KPLwDFQUT/Pkg7" +
+    "/q2Ft/92eV3/UbE7/61F6gCxgM0AM/TcAdH0Gv9N3kn+YAijANOVlgHL/p4Ai382ADvgof8WbQT/LSre/2aS0AC7juz/9c0y" +
+    "/llKCgCOTzD/gkzeAD+mHv8NDOwA9LgxAGZxuwD9Zdr+tjmZACqWIAGSxhkAOPHtAAVEjP+spFv+upFOAM00QwGBz9sAEXNt" +
+    "ATqPNv94+BUAHv+z/0Lswf8H/wH/MMD9AdlFE/8A1gMBkmVA/yN93/+zSesA4qf5AQqv4QA6omEBq3Bq/wWsVP+yjIUAjvWG" +
+    "/31aYf+5y7r/F03fAGpcwP9zxg8A+JjZ/3iyqwA1huQBwTawADX7+gFkCtUAasci/vQfl/9X4Kz/F+0O/xpV/f90J38AZGis" +
+    "/0YO+/+K0NQA+tP9AKUxsP97TA//oNolARCHXP9yfgr/4AVGAI359wE8FET/vdLxAbvZwwBxA5cArlyX/7I+5wDht9v/IRcX" +
+    "AFC1zf/4uDn/AbRD/117Wv+iACf/NPhgAIxCVP/kfyIBB4rCALxupgGbERX/xr6a/ztQ1gCPBxIB4h1IAPnZxwFHoegAyb6V" +
+    "/l+v2f9Dk3H/x4+KAAHMfwFTth3/m+bOADzMuv9VfQr/GWDo//dZ/wGv/tUAUcHo/pwrHAAIRQwA+BiTADHGEgAjPIb/EvZ2" +
+    "/v5YMf+6FeQBcEG2/wEW2/80fhb/MTW9AI8ZcP83fyb+o2Xi/z2F0AGuRYn/kXa+/9tiPP/1DdkACoj6AOL+VAF9H8n/+zPw" +
+    "/4KDH/8yigIBsdfX/+4M3/84lfz/RFt8/qp+SABk/3f/6IeCALJPDgDFg/oA0MaK/ovYef8kEncAesEd/y0qEAHr8NX/qb7m" +
+    "/uQjxgBIrW7/8d3WAIeUOP5OdcD/z12NAJVBj/9iEhUB9CxfAE2/av4IVf7/sG7W/hOtSf/HxKAAkFrt/3Gswf6Im8gA3Vrk" +
+    "AUoxif/X3aT/Bb3R/zfsaQGBHyoA7P/BADzZLv+7WIr/7FLi/5dFUQEQvo4ACIYN/zB6fwCcQFEAi/OrAPYj7f7Bj3oAknrU" +
+    "Af8pXwBNhFcAH9QEAE4fEf6tLSf/2Y4Y/wYJXwAGU+P+gjtiACEePgHTcwj/gGGi/he4B/+oHHT/l4r4APD0YgCCdrr/6/hy" +
+    "Acitaf9HfKABpCRe/5JBr/6q8e4AxcbK/opH5P9t9i0AnjTCALC7hf6a/FP/3b1ZAPxJqgB9OpT+M0Qk/7FFKv9WTKj/zGQm" +
+    "ACM1JgBhE6///e7hAIdRUf7/G9IAa0nrAHPPCACIf1L+FWNUAIgTzwBlpGT/TdBQ/+3PhP8PAw8AbqYh/1VfnAFvuSX/I2qW" +
+    "AEyXpv+HV3IAQMKf/x96DP5lB+gAYnet/txHmv81Ob//oOio/2Mg4AClnNoAo5mXAZQN2QBZccX+oRyVAB4Xz//jhGn/XuY2" +
+    "/8ythf+dt1z+/JBYAFohZgADYZ//m9q1AHdy8P811moBc76l/+FbmP8salgAcT3QAHw0l/+cG78B7DZu/6YeDgHPfycAHMfl" +
+    "/rzkvADrnWQBt9r2/8EWawBfoM4Ak+9MAHWhz/8CpjP+CnU0/+M4SQDhwZj/iF6EANG/Zf/layABtCvGAHbSZP+ZQ3L/GlgX" +
+    "AVyaWf+MeNz/z3KQ//pz/ABIziL/f4WKAXyyCABhS1f+XOUP/4ND8P7je3b/aHiSAf/Vkf9Gu4EANnfbAK0TAQGUli0ASFP4" +
+    "AanpywA4a44BJvn3/1DyLQBn6R4ARlJgAG/JF/8eJ1H/Treh/yHqwv6M40QAdM7Y/+sbRgBPkGj+XeakAJyH1v7yu5r/gxS8" +
+    "AK5tJADxcJ8BlW4FANqlJAETHaYASS6y/iArXQDtvfgAjZtm/8Ndyf/9i/H/Ym8P/qNBbP++T5v+wa5J/zAo9v4LWGv/VWHK" +
+    "/xLM/QBC8nH+wqBuALoS0AA8FVH/p2i8/mGmfACOhdL+ifI4AIJvKQE6l2//jdVv//Gst//EBib/ewe5APYLLgF3afX/oQIP" +
+    "/y3OCP9KyhIBc3xTAJ2N1P7RCFP/6A+L/q02rACE9zIA1b3WAGm4kAD4/t//8JP/AEi8FwA2Mwf+tBm8/wC03AAUoFP/872j" +
+    "/8LROgA8SVcAMRhqANz59QCnrRb/wwt2AO1+E/8ln24AL1I7AFa7tAHQlLz/hSVkAMFwB/+cvIH/gWpUAMrhhf9v7A4AZRQo" +
+    "/jGsrP9KNjP/uLn7/+CbXQHg+bQAkrLm/jY5SAC4PrIASM13//3vuQDaDz3/OEPEAasg6gDk2y7/6mzQ/+g/FAHHNaX/BeSF" +
+    "AGvNNP+M7kr+25yW/7Ks7/7fvfv/044gAYoP2gBQxPH+YiQcAMfqFv/c7T0AJTn2/44RjgAaPp3+X+4r/wbZAwHwGdX/rtwn" +
+    "/jDNmv/ADRP+NiL0AJsQjP4FtfAAPMGb/wSApv84kSQA2/CWAJEzeAEqmVIAkuyMAfhcawADCr0A8og/ABgn0wGhyhP/uhut" +
+    "/u/M0v+i0Sn/n/62ADR0rP7eZ8MAO0XNASkWNQDCMNoA8tJQAM+80v6hobsAARHYAHHhiAA/uPr+Yh7fAKKoTQCvNTv/CskT" +
+    "AMLgi/+awZP+DL3U/67IAQFxhTIAWrNeAIe2rQBxsV7/11kr/2r8iP5Thnv/QvUFAScxUgDgAtwAsYFhAFk7TQGbHT3/3KvL" +
+    "AItOXP+1IZEBjRipALOWN/9QPIsAYSfa/2uTAgBI+DwBL+at/7ZTBv6iaRD/UdSJAYa4tP+k3icB+2ndAH1w7wBhBz//42g/" +
+    "AAw6lP/gPFoA/NRUAKjXTwHH3fgAAXlzAHisJP+7oiD/MWs5ABUqkwErxmoAV0o5/1HLfgDDh4EAsR+MAMKL3QDX3gMA50SD" +
+    "/rJWsQC0l3wBJny4ABGjRgG1+/kA4zcqACyh4gBu7BcBjpUzAOwFXf5qt9oATRhD/9H1KACZed4AHjmlADx9UwFSJkYAvAbl" +
+    "/53ebf8/djcAupfN/5Uh4wH2sP4A47Hj/qNqIgBPK7ABTl9q/3rxuQA9DrkAygEk/6KyDQCEC/cBXOah/7kBQQGlMtT/QJKN" +
+    "ANryngB9pBUBeovVAFdHQwGynssAK1yX/wVvmP/vAyf/+v/Z/0c/sAFN9Ur/Eq76/+MxIv/7LvYBMCOa/z2dff9OJGoAmexh" +
+    "/3i7iP+rhnH+2dUT/9Fe2AA9BfwAygNe/7caA/8rv0AAFRce/02NgQEHeGYAjEzC/zSvvACUUREBN1boAKww4f8qKoYALzLu" +
+    "AP4Sqf9XkxT/78MOABf3Rf+A5e4AcDGx//tiqAD4R3n+kQjz/5nj9v6xqdv/pYv7/7mjDP+rKKT+G5+Z/1tt8wFwGN4A59YS" +
+    "/rWda/8Ak8P/aGPC/76MWf5+QrEAQrlqAB/aMQCervwB5k+8AOAp7gEI6tQAtQuI/1N1pgBew0QAyYQuAFiY8P5FOaT/KuCg" +
+    "/0PXO/+Nw3f+ebQk/wgvzwDf0q7/RMVlAY1S/wDpifoBhVZhAEVQEACfg4QAZF10AIuNLf+drJgAWytaAC6ZR/9wECf/YYjZ" +
+    "/hnG3AAxNbH/hljeADwPgP+pwM//0XTAAdNOav+31cj+egwH/zzL3v7HbiEAdWr7AQTh5P8HOnj+VMHdABuFcP/JyL0AloeL" +
+    "/7A36gBBMj3/qWyY/wFV3ADjh3AAuhqi/rlgzwBriPQBMpldAJdhxv9WC27/rnWPAMjUcwC3ygX+CqTtAD7vuf4SeOz/Y3ti" +
+    "/sLJqADW6i7/MYW/AHepYwEju77/LRVzAEiD+f97BnD+tTHWACLppv5mxVz/zeT9Ack7AwAuYir/IyXbACbDqQHBfF4A3yuc" +
+    "/oVIXwC/znj/78V6/0+7sQECLv4Avqf6ABOBVP+mccv+vR/5/8qdSP9JR9AASBjPARIQCv9MUdL/wNBY/2vzfv94je7/6nnH" +
+    "/zsMif973CT+PLOUAB0M8AFhAEL/Jh4k/10Bc//nZ2ABO57FAPCkwP85ysoAMK4YAZtNWQDXTCoA6Zf0AFEwF/40f+//JYLj" +
+    "AV10+AB2hHwBwP6t/1PrBgHnr24Athz7/l35gQCAuFQAPrVMALqAr/6INWQA4h1tATrp3QBKYxQAoBYAABUNhv83NAkAjFkR" +
+    "ADsir/93pVT/6uLg/6ZIBwH/c3sA9tYSAUcH+gC53Nn/TCPUAK99JgDSYb3/LO5y/qm8KQCaui0AFlxRAMGghP9i0Hn/LFEN" +
+    "AFKcy/8VOkf+v3LQAJMmMgDD2JoAEhll/9f6PP/rhOkBjq9nAFwOEP5uH43/LfHuAe/Zmf8vqGEBEFX5/z6vHAA2/jkAfufe" +
+    "/nUtpv9gvRIAMkzkAF70yAF4mMb/RSJE/qBBDABaE2X/eMWn/7k2RAC82ikAMKhxAb1pWP8gUhoBpF25/+3w5AA1tkL/XMWr" +
+    "AekJa/+QeMf/CjFO/2mqbf8fBFr/cfQcAAs6Sv/23D7+yJp5/7LSkAGBOX7/DvorARxvZf/xVi//lkY9/wVJNQCeGh4AVhrR" +
+    "AErtigC8X6T+HTyO//h0ogCgr7sAEBKX/kFv0f8nhsv/MWxY/0cag/7XG93/XWlo/h/sH//TAIcBbn+PAOVJ1P6nQ+n/0AHD" +
+    "/90RhABa2TP/MutDAI/S3wGCNbMAxmrp/9yt2f8Y5XD+XZqv//bLR/+FQjD/5ogD/nHdFwDVb+v+X3iqAALd+/6egi3/2V5p" +
+    "/rQ08v8tRNUAHCZoAEye9P9gyKH/DTXPAJRDuwD4Nqr/sqJ3AAsUUwHAKir/o5+SAG/ot/8V5U0AjzVHACJMG/8viPb/tifb" +
+    "AcngXP8OjhP/8bZFAPV2owFqbQn/97Wq/+4vTv+w0lQAi2vVAAsmJwCWFUgARYJI/ptNzQAVhY7+rG9H/zsq4gHXALMA8YAh" +
+    "AQ386gAIT7j/SR5uAL2N9gHaz6r/RZpK/zH2igBkIJv/aUp9/z1VWv+x5SP/wX0+AbxWmQDUeEn+9nvR/ybRhwEsOpf/1kVc" +
+    "/1gMDv+mmfz/cM/9/1NOPABufOP//GC0/iF1Nf9S3KT/GwEp/6akJv6pY6T/RpA9ABKmwABC+msAMkHF/xKzAf8BaP//I5kr" +
+    "AKhvUACor27/LWkp/80O2/6M6aQAdgErAMND6f+fUrL/eleK/1ru1P58I5AApIwZ/izX+/9rRoX+UONlADepXAAxKtf/VbRy" +
+    "ARvoIQAZ1az+e7A+/xiFIAA+v+EAmUZdAWgqtf/gvxb/jMjIACXq+QCNOZX/0DjD/0aC/v/wrSAAx9wd/3NkbgD55YT/3+nk" +
+    "/tHYJf/RsbL+pS23AHJh4P+oYYkArN7hATENpf/M69L+HAT8AJegRv40vuj/XfhTAU3XPv+zr68AQjKgANAwef/RqT8AyNIA" +
+    "ASy74ABSokn/j7AJ/8FMEwGnOx0AmisYAL6+HACBvI3/y+vo/20A6gCfQTb/6Fg8/pb9ef+D6fwBKW7G/0dNU/47Fsj/8v1q" +
+    "/88MFQC9Qu0BysZaAH+s4QDKFjUAhOY4ALdWAQAqvm0BrkTzAJrkbQF6scj/t6Aj/1Uwsf+p2loATpj4AG7+ygArNAb/QWKO" +
+    "ABaRPwBdakYBa4ro/z2zbgHagdMAXNHyAdlaI/9qj7b/2WV0/936cgAGzK0Ao5Y8/yysSf9Qbu/+mUztAPmMoQDl6JX/KB+F" +
+    "AHekrgDWM3H+AuSBAPMiQP/042v/yGquAUaZVAAQIzL+2Er6/0K97AAN+Zn/BLLmAO4p3f9543b+jFdeAFx3/v7270kAgFd1" +
+    "/5HTEwD8LrEB9lvl//eARQE2Tcr/CQsIAKZgmf+t1tkBAsCGAADPAAFrrr0AZIaMAfPBngCrZrYAM5rr/3sFjgFZqDz/XA7Z" +
+    "AQXWEwD+p9P+ygYs/+wSeP+4cQ8Ai9+4/nexKP9ae7YAsKWwAMJN9wB46hv/1gDnAB4nO/+RY30BRESWAPjejf/Se5n/mH9u" +
+    "AdYh5QDF3YcAAmGJ/8yPDAC8KVH/gk9zAIQDXv+7r5j/Co18/7PAfgDGZwsALQaVAbtV2/+yEuYAmLZI/7jGAwHgcIAA5qFh" +
+    "/yZj/gDFnzoA20KX/49FOwD5cLn/L4h3AISCe/9fR6gBKLBxAK256AF1Xc//bJ1E/pMFZgAhYTH+b0FZ/6Me9wHd2XwA2Ppm" +
+    "/kuuxgASNzkB7AXjAK3V5QHabckA7+kxAZ43HgBqshkBvG+bAIx+XgHuH9cAEPBNARny1QCoRyb+XbrN/4zTMf+0ANsApXaG" +
+    "/4aToP8jum4AKvPGAHeS8wGj64b/h/EE/sEuwf9PtGf+uAThAIJ28gGwh5IAHm/q/tVCRQB7YCn/Kl55/8O/sgAqgi7/CFR1" +
+    "/tYx6QBteu4BWUcGAHvT7P4wDfQADpR3/1Yccv8Z7Uv+EOWR/zVkgf54loYAMp2o/2hIFwAOMeD/Fnv//5e5lwG4UKoAFLaG" +
+    "AWVkKQAQIZkBb5pM/+rOVv6koMD/XXul/qTYAf+vEUP/Owup/z0pnv8OvEn/iQbD/x2TFv8DZxT/44L2AIAoev4YL+IAICQj" +
+    "/7e6mAAUykUAw4XDAPcz3gFeq6n/oAC3ARLNQP8PU5z++TrF/25Z+/5YCjIA2CszAcbyYgBxl/UBwuyr/8cfxQEmUeUAFDsp" +
+    "AOZo/f8OXZj+kvL2//Cp1v5sZvAA7KegALzamv/K6ZYB+hMb/4VHAgE/DK8AxreR/3N4aAD3+4L/p9QR/4R7PgC9ZPcAmN+b" +
+    "ACHFj/8sO5sB8F2W/1cDfwHPR1//AVWn/3SYvAAXFwoBXcOJAGFiNv+oAPAAf7yUAJdrhgCr/UwAwIRaADYWkv42QuD/5brm" +
+    "AMS2J/+C+5T+bINBAKABgP6nMan/lP7HAIMG+/+B/rsAPlJV/zoXsgAFhP4AJ9Wk/pL8hv9RNSUAUoab/+6nzf+0LV4AoSiE" +
+    "AXBv/gDZSzYB3eaz/79e6wEw8xf/y5HK/yp2JwD9jXUA3gD+ADL7KwHqqTYA0ERQ/vPLlACHB5EAAP4GAH+5/P+BCGL/SCMm" +
+    "Adwk0wBZGij+xUCo/+/eA/7XUwIAaZ+0AMJzOv9qdLr/2/flAMF2gQG3rsoASKGm/pNryQBKiO0BaubpAKhvaQEe4EAAA+UB" +
+    "/6+XZv/k7sIA1Pr+AHntuwFg+0MACx7FAMxftwCKWc0BJd1A/x7f///TMLL/Wsjx/2DRpwDdgjn/yHIuAEK4Pf4YtjcAIbZu" +
+    "/+i+qwAfXnIACN0SAP7nLwBTcP//1w92/igZrf8fwcD/khXu/3bBq/416mUAcNSDAWvAWQAb0Aj/D9m1AOiV5wB+7Iz/xwmQ" +
+    "/rVPDP/KtpP/tm0TAOHUMQDLo0oAlOmvADNwGv8JwcEA+YcPAILjlgHbAMwAzfIY/3XQ7gBw9BYAIuUa/7xQJf7OLSb/4Vrw" +
+    "/y8DHQBM4CoAp/O6/w+EIAB9MwUAGIeLANvxBv+F5awAMtb2/88L5wFTfr//qqO0ARg49f/TpLIByhAD/3Y5Yv5Zg40AGDMh" +
+    "/1uV8wAONP3+Q6kj/1geMf8kG7MAt4ylAJe9OgAAH1gAQqlL/8dlQgHH2Bj/GsR5/stPDv9R4vD/Chxe//DBU/+DwcwAVg9e" +
+    "AJ0o2gDRwTMAsfIAAPe5ZgB0bZ4AW4cmAJWv3/8BQtwA6DxW/yVgGQGieuH/qLvXAC6dngCiqzgBZfDoAAkWev8VCTP/7hk1" +
+    "/uge2QCUqX0AZugNACUJlAGNYaUAKYPk//MP3gAREv4B7TwGAHEDagC9hDsAHnBcANXQaf+zVDD+53m7/23YG/5r3aL/w+9J" +
+    "/zkf+v9Zh5UBcxe5/52jAwD6cBL/uzkZAKRgoQDzEC/++40M/7jqQwChEin/YAav/jSsoP+3sBgBVcHG/4l5fP9yMpf/PMvc" +
+    "AQXvz/9rJgD+Xu43AF6YRgFN3NX/RRF4/76kVQBR6sv+JTEmAHyQPf4xTokAMPeoAPykXwCHqWkAhuT9AEumQP8USVEACtLP" +
+    "/5Zq6v9aIl7+OZ/+AGOF3P60k4sAuRcY/x45KQBMYb3/37tB/yWs4AFfPiIA8JDn/n5qTQBbmEAAm2Id/zX74v8F0+r/3suQ" +
+    "/t2wpAAY5wUAzXqz/4YBJP6XRn0A/ORh/heBrP/RWjABUuCWAB6GVAAuxPH/6nFn/nllLv/6fCj+8i2H/6j5Cf+DbIwAq6OP" +
+    "/8etMv+O3lgAnl/I/6PAjgCHdQcAFnxv/kEM7P9BJkQA/q7jACb19P/QMvAA+j+hAO/RPAATI3r+5iEOAHGfAv9/FGoAYM3k" +
+    "/q7Sif+Q1LQBmmJZAItYIgFwoqcAxW5BAKkl8f+DOEL+U8kK/7v9hf4tcLEAAPvE/5f6xP/W6O4AzdGWAHbwHAFTTEcAW2Ps" +
+    "AYP6Kv9AEmAAI952/8vWcf+4d3oAJBNCAPlAzACLWZIBhz6GAGXpaAAaVLwAgfkx/0vW0P9Ngs8A669z/4kCqwG6ka//h/U3" +
+    "AbVWmv/2OmT/PMdt/4bMUgHmMdf/wOWM//vB3v8PiFH/opWz/x0nF/5LXwcA3lG//1pR8f/JMWsAndP0/5WM3v4420H/Wva9" +
+    "AZ07sgA02zAA1yJi/7sRHAAYqa//oU9cAcLI7ADqj5MBB+HlAA6oxQE1M+sArnj9/6gGxQCrdcoAzhWj/1pVcv8KKQ8AYxPC" +
+    "/tg3QQB0kqL/1M4y/x2SQAGDnp7/gqVk/4EXrP8JNX0BEsEP/wsxGgHJrrX/DsmHAJUTZABPYtv+j2Mq/zAAYP5T+cX/T5Vo" +
+    "/ohu6/8sgFL+JClBAArTWAC7ebsAx4Zi/rO8q//uC9L+gntCAD3qNP4XcTD/eFYGAPWydwDJgVcA0Y3yAFVyygChFpQAMMNn" +
+    "/6sxGQCCQ4r+ekm2AIIYlACa5dMAnpsgAD1pVP8JwrEBVlmmALtTNv91KPn/1wNtASySNQCzLz/+A9jCAIhUDv8NsYj/uvNI" +
+    "/30Rdf/TOtMA309d//VYWv9v0YsAL95G/0/2CgCy2cYBC+Hj/7N+TgB+Kz4AI5Rn/qUIgQCU8PUAjjM9AIbQUf9ziQ//7HfT" +
+    "//j1n/+IhgIBOovmAP6koP+NVXL/tqYxAVRGkAAHtlUAXTUu/6GmCf+yojcAvLgt/iwckgAxWqkB8bJ4/397DgHH8Qf/MkK9" +
+    "/mWPxv+H873+GBiNAFdhSwGa+3YAnDbt/8+Sq//2xIMBcUCIADnolwBz2vD/Gz0xAUmBQP8bqfwBCoQo/8HJWgHwefwAKc66" +
+    "AGHGKwC3ZJH+UNjMAEGWrP7E5fn/SXto/mBoTQAItIIAOXto/+XK3ADT+Wb/6A5WANFOtgCk4e//IA1q/xFJeADpQ4YAtf5T" +
+    "AXDst/+DQDD/89jxAOLBQf5k8c7/poZkAMXK7QBRDTf/ZnwgALHkKAEftXb/hqDnAMq7d/88jgD/vSaAAJbJpgEaeM8ArLg2" +
+    "/szyDADmQoUBHyYiAFBwuP6lMyAAN/O//pJJOv/Np5v/mGhk/8/+xQD3E60AygruAPKX7/8nO17/Zh3w/5pcCv/bVOUAUIGh" +
+    "Acxa0P+u2/ABkWae/0yyNQGobDQAa95TAG0k0wA4OnYAFh0IAMeg7QCd0aoAL0eJACBWjwAC8sYBiDDUALqsXAFpl+YA5b9g" +
+    "/r9Qiv+C2PD+BitiADHEqAFbEv0AeUmQASeSPf8YaD/+cKW4AGLrfv9i1VD/Vzx7AfWMUv+teN8BhsYPAO88zv9c6uf/E+4h" +
+    "AY5xpQAmd7D+piugAGlb7wHCPWsARAQZADOLD/9qhKT+LnQiAMVfqAAX1IkAOpxI/kVwif+aaZYAncns/5rUF/7jUoj/3Tvi" +
+    "AMCVX/80dlEB1ysh/0uTDv55nFkATxIOAYvQk/8+2pcBCFic/2K40v97rxQA5VNmAXRB3P8E+pb/3I5c/0L3Iv6z4cwAl1GX" +
+    "/+woRwA+P4r/8E8GALW5twAbMnYAwOM/ATpje/+b4DL+3+ER/03g3AF7LA4Ar4CNAMjU+P+3O5YAHWGTALXMlgBHJf0Ad1WR" +
+    "ALrImv/5gAIAfBhTAI9XDgH1M6j/55d8AcXw0AC5vnwA9jowAOjpFP9iEn3/H/4N/4Kx9QAjjmz+8n2r/yIMjACioaUAZc3O" +
+    "ASIZ9wA5kWQAOUYn/8vMdgCiAPIAHvSlAOJ0xv+Zb4ABtjaM/w96PAE5OpsAxjI2/x3Tq/+nimv/x2utAMGhbf/ySFn/WXPO" +
+    "/o7++v9eyrEAMllR/0JpB/7//hn/F0DL/2zeTwBL+ScAMnzxAIWY7wBp8d0AYpeT/nmh1QCJMfL++SXpABu3Kv/md7j/oyDZ" +
+    "AeT70P+DPon+CUBPAHEwXv4yihEAFv/BAcUS9wBoN0P/X80QAEIlMAE/nDf/SlJA/kc1yAB9Q+8A3uAa/12J3//K4B4AhNwJ" +
+    "AesmxgBWjWYBUSs8ABociP4IJOkAlPLPAD+ipP/gLjP/TzByAOKvCf/BA97/6KAv/mld/wDmKg4BUooaAPQr0P8mJxv/f9Bi" +
+    "/7aVQADR+gX+HDy7/9oZMf/NdKkAeBJ3/5N0nP9tNYQAygoNAKdTbv+J253/ggMG/x6nMv8vnzz+nYCBAL0DXgBEpgMA199T" +
+    "AcJalgBBqA//M1Pj/0KrzQE8uzb/LWaYAOGadwCI9/D/ssVk/99HiwEQUsz/Ks4p/93AnP/0e9j/udra/++6u/+grPwAFjTD" +
+    "/rWukP9zZLv/sE7TAMEHG/9o1ZP/CslaAUJ7UAC6IRb+YwcBAArOHgAF6uUA0h41/twIigCnN0cBVuFIALy+dgFlwf7/rPmr" +
+    "/reeXv9sAl3/TF2w/09jSf6BQEoAQS72/n/xY/9ml/b+0DUsAOpmO/+kr5oAIPJYAAEmb/++tv/+D7BzAIE8qQDx7XoAP0xa" +
+    "/3hKPgBuw3oAsgR3ANLy3v4uIYIAKSicAXCSp/9vozEA67B5/w7PTAHGGQMA1espAdYkVf9tXDH+HhjIAMPsqAF8J5EAlcPs" +
+    "/7gkWv+qVUP+GiMm/0R8g/8jm+8ApMk2/3UWxADNDzEBHeAYAJBxfgC2FXUAjZ/LAE2H3/+w5rD/1+W+/7UlY/+KFTP/Wb0Z" +
+    "/qUwMQD3LZgA3myqAAXKUP5nRRv/gRbM/j78tP9bAdL//m6SAByi2wHV/N8AIQg7APQQzgAw04EA0KBrANE7cP7YTW3/uRUi" +
+    "/zhj9v8Ti7P/Mh25ABNZVP9i+kr/yCrh/83ZwACnENIBX4RjADnmK//LC/7/P7xj/vvBdwA2aVABvbXo/3BFt/+lq9D/tG0v" +
+    "AKVTe/80opL/BAua/1rjl/5hiZL/Kek9/zcqXgDspGwA/kSY/4OMCv5PagoAiZ7z/kKyQ//Ge7EAIj4P/ypYxf+xX5X/xgCY" +
+    "/3H+lf+jWuEA99l9AOAREv54QoD/CRnAAM3dMgBG1DEApP/pAAnRAv7bNN3/9OCsAc44Xv8Cs/IBpFsf/4ou5gDc5r3/PS85" +
+    "AJ0LbwCYW7EAYuYcAH5XYf+RWcYAa0+nAaBN+f/m6R3+VhWWAMELPP4kJZf/85a5AVPU5AC0l6wAm6nJAOo89AEE644APNpD" +
+    "AUtxwP/P83QAm6xB/5weUf4hSFD/becS/hVrjv+EGn3/OxCwADrJlgDJqc4A4nnQ/w6sKP9ePZb/nDk4/5E8jf+VbC3/m5Hu" +
+    "/h9V0QDSDMD+XWJjAJcQmADcueH/LOuN/hWsoP8fGkf+XUANAMY4HAH4PrEA8Qi2/5Rlpv+FUU4B196B/4GpvABhB+j/PHAx" +
+    "APvl2QCKbHf+exMnAOsxgwCRVIT/lOaCALtKGf829QUB8du5/+TCEgBmyvEAynFpAE/rm/+yCRUA7wGcAD2UyP/S93MAh90x" +
+    "AQi9OgAJLiP/BUFR/7meNP8udH3/DYxK/qxc0gBHF5P+/eDZ/7Rsc/4wOpH/GLHbATz/nADyk5oAV4b9AOVLNf/ewzD/Mq8f" +
+    "/3jSnP/eI9ABs/gS/2UKAv/4wp3/Zcye/8X+aAAEPk8BZayy//uSYACcCkH/pYkCAOcEdAAB1/L/HSMTAE+hKwH2lTsAsEL7" +
+    "/wMhyP+OblABEaHD/0I45P6RL3sApASEAKyuQwBy/RkBV2FXAFTc+v/IW2AAO30lAHZBE//xNKH/Bqzt//+/sP6CQQEA5r7f" +
+    "/+f9ZQBtI5IBTR36ABMAMQGbWnv/IFYWAEHV2gB/XW//qV08ALZ/CP4OuhH/9on9/jAZ1f8A7kz/Rlz4AIvgYwH/CbgA0KQH" +
+    "AcaDzQDH1lcAX9aCAN6V3f6rJhcA1W7F/oxzKwB2sdcBQjRgAO2edf+2QA7/rj8u/75fnv+xzeH/jgUr/9RjrACTu/T/mTMd" +
+    "/hh05ADPZR7/lvYTAAXnhgHihn0AYkFN/yGC7AA+bgX/f2xFABZxB/5TFJH/56HCADy1g/+x0dn+1JTlALiDAwG7sXX/Hw4c" +
+    "AFBmsP+XVDL/Nh99/4WdFQGLsxMAGujg/6p1Iv+r/Kf+zo1JACP6gQHsT0j/FOXc/63KKf/uTGP/4BbG/8PGbAFgjST/O57s" +
+    "AFdkagAC4m4A3urj/3ddmv+kcEr/AltD/yGRFf+J1mb+Z+avAKb2o/50913/HOCnATkC3ABUzqv/EeR7AHd4GwGTC3f/4S+0" +
+    "/rnIaAByAqUA1E5N/7GaLf55xBgAtp1SAb4QWgDFkwz/mO9fAEfrC/93klYA1oasAMSDPACB4aH+eIIfADPIX//S52n/lAk6" +
+    "/92oKwCO7Xz+MtPGAGf1LgBU+KT/0EaYALF1tAC5T0YAIErzAM+clQGhxMUA7zX1/vZdD/8x8Iv/JFjEAHsmogGdyID/Z0yu" +
+    "/iKprf+rAdgAETNyAMLkiP44lm4An/Zq/0+4E//wTZYAolCb/6k1AABWlx0AEF5E/m4HXP+VdWL/5k35AIwK/f5cfNYA63Yj" +
+    "ATkwWQCmNRb/PZC4AML/s/49+NYA9m47/lEVeQDkA6b/GkBq/4boRf413PIAVdwu//eVcf9ns2EAC3++ALbRhwGBNF//zpCq" +
+    "/8zIegCSZKj+lZA8ACg8Rv+xNHr/ZdP2AAjtrgB4MwcArR8T/5zvfgDLvY//WIDE/+KF6f+tfR4AMmzJ/ztkewEDo/7/tZTd" +
+    "/jmI1v+JtN7/NljP//shHAE01kMAZNDSAF6qUQA1KJH+52/g//QcI/7Dx+IA5hHu/qTZ2QDdnakBoi7a/6PPxwGic2z/u2AO" +
+    "AEw8dgCYn7j+R+fR/7qkKv4zmbr/tqvdAK2OogDBL+sBEIsH/0CkXwCm3RAAEMXb/ywdhP91RWT+WOs8AK1RKP89vkcAnVi7" +
+    "ABcL5wCkde3/36jh/3RymgHymKMAqiAY/nFifQBME6j+3J0RAAU0m/+hbxP//FpHAPBurf95xgr/8P/9ANJ7Qv7Xwt3/EaN5" +
+    "AGMH4QC2Mb4BhQlz/4oa6ACERNX/encsADNiswBqWpX/5jJH/3aZCgAZRrEAzVelAOqKNwBhHu4Az5txAH+ZYv7bayL/rHJ1" +
+    "/v+0TP+zOfL+rCLd/zGiOP//A1P/vd1x/uQZvP9ZWBD+xhxH/5URFv/+efP/Y8prAQ7OCQCZL9wBJ4lr/8IxYf7FM5X/Czq6" +
+    "Aegra/8OBsj+QYW1/6vk3QHnPnv/s+rj/tS9IgD5u/QBUA2+AAFZggCthd//xt4JAEp/Qv9d2KcBxqibAACRQgEuZkQAmlqs" +
+    "/0uA2AAzKKABGxGeADHwfP+wyuz/wHyXAL7BJgA9tl//fJOj/zOl//4RKBwATmDX/tqRVv/KJB8ABQlW/8gpbwBhbO0ALD45" +
+    "AQ+4dQB08S3/3AGYALylnQGDD/r/fSw8//vcQQC4Mkv/gFo1/8JQ5wF/gYj/uxIV/6E6LQAik0f+C/muAB2NI/+xRO8AOm5z" +
+    "AbG+7v+m9Vf/9zG+/7hTkv8nDq0AaNeSAHjfjv+byJUBkc/UANm1EP9XIK0AtSP/AaHfd/9e38j/ugZG/1VDwACYqTL/exqQ" +
+    "/rPzOACIRBT+vIwn/wXQ/QGHc8j/5awrALtonACn+5cAF4c0AEiZl/5rxZP/BZ6UAM6P7v+JmX7+xZhYAKdEB/+ln/z/Nk7v" +
+    "/zc/GABe3ib/DLftANLMzv72JxMA50oeAR1shwAAc7MBdHZ1//wGhAGhgZEAjUNp/+IlUv/k4u7+gdbM/2R7ogDqebkA52wt" +
+    "/zgIQgCAiIT+QuCsALydr/7i3+YARdvyAXcOuAA4olIAFHty/1Vnov5j7zEA14ec/qf/bwDWxCcBTyaQAH2o+f+cYZv/2zQX" +
+    "AJAWlv+llSwAt38o/+lNxP/SgXb/5oeqAMZ31gAj8On/BzT9/zBmdf+azBX/sYizAQMCF/9ZgpUBnxH8ABo8RgARa5D/PL60" +
+    "/zu2OP82R27/gRLG/1fglf+YFd//thaKAM2c+v/QLewB8pRPANFGZQCuTmf/rJBlAe2ImACIwr8BfVBxAI0EmP81lpsA9XTE" +
+    "/kly7/8RUhP/6n18AL80KP+e0ioApYSbASoFsv8oXED/TVUkAHbksv5gQokAQuJz/kXwbgBQb5f/7K6n/2ts4/9B8rwA/1G3" +
+    "/7XOOf+1Ii8BnvDVAF9LR/8YKJwAUdJm/+THqwApIpoAS6/jAMPvFQFf5YoAMcBMAVd7dQCC4eP/Pz59AKvGAv4NJP4AzrqR" +
+    "//T/lACmACMB25YeANTkXP48xlz/yIU+ADspyf9t7n0B7qO0AFJ6jP9YFgn/L53FADlemQC2HlgAVaFUAHySsv8HpqYA39AV" +
+    "APK2nAC5eZv+rpxT/3YQmgHoU7r/eTrfAFgXHf9/fSP+lQWq/4IMpAAdxJsAiGChAR0jBwD7JaL/8i4DALzZAAHirjkAAunO" +
+    "/oi7Of8JvXv/f3XJAMwkugDYGecAaU5Q/4GGEwBEy5T+fVGN/8il+ACHkNb/pjeXAFvrJgCaLhX/lv7f/7SZIwEdsH3/HmIr" +
+    "/+Z62AAMoOn+DLk5/wdx8P4QCQUAbFsaAMvGbQAokwj/5IaB/yi6fP6EYnIAF4SmACxFY//u8gkAOzW4/2aBhP7zIDT/yN+T" +
+    "/rNTe//JkIcBOCWN/+M8lwGcSVoAu6zL/y+XUP/niV7/O78k/7XR4f7V10r/s3YGAcE2mQDnADIBSJ1o/5rjjP4Q4rb/XOFg" +
+    "/qoUcwBO+gb/rUv4/wZZNQB2tAAAAa1IAc4IQADfha7/hT65AGIL1gDQH8X/9KerAbXnFgC52pYBYan3//eLpQGVeC8AM/hn" +
+    "/hxFPADEsxn+2gd8AFFrOv+c6bgAJEr8AEO8dv81X43+pV7eADU9Lv9zO87/+uwvASAFSv/umoEA4iBq/z27ef7xpgP/rKpD" +
+    "/7LYHQD8yRcA8279ADl9yP9gwG0A7nM0//N5JgAhOMkAgnbC/xlgS/7mHqoA/T8n//otJADvAfsBXNSgAO3RLf5XIfP/yVTt" +
+    "/p0S1P9/Y9T+EGLZAO+si/+Cyaj/qcGPAcGX7gApaNf+pT3vAPIDAv6xyxYAFsyx/tWBlf8pCx/+eZ8A/3IZoADIUKIAC5ed" +
+    "AU6GmgD8NtgAhWcwAMXcaf5NqP0AF7M1AfB5GP9gLv/+hzxr//nNYv93+T//0zt4/je0cgDtVVsBTdSVADFJOACWxlYAoNFd" +
+    "/7bNRQArWvQAsCQUAN10egEnpzP/PwHnAIbFDf8i0QMAyjuHAE5kpwBM3y8APjy5AXumsv+hDIQAK649AJBFwwG/L38ATiwi" +
+    "ATTqOf8oFv8Akl72AIDkU//gTjz/0mAAAOyvmQBJFZ/+xHO0AGrhgwCGp///cAif/8JEeP/GxLD/qDB2AAGpXQFmyHAA/hhK" +
+    "/gSNEwA/Po7/u7OD/5ucTQCkVnf/ktCq/5qF0P86m5T+6HiiAJvV/AAqDfEAgzJeAHCqs/+XU4wBVHc3/+8jjAFDLZkAJ6/s" +
+    "/2eXNv9BKp7+h+/EAMs1Vv4vYZX/ESPYAUYDRv9aJGcArRooAA0wuP/Z26P/AQZR/myq3QBd0On++clk/yMkVgEemtH/+8nj" +
+    "/qe9AgADOWQAKYANAEtkxf/rzJYAO66R/5X4eADhN1X+NdJyAHfMxwFK9w4Agfs/AZdoQwBQgof/N1lP/53mdQCPYBkABZHV" +
+    "AXjxRf9f85UAFCpyAAJIg/8UNZoAbT5JAJhmxP/MDCkBCyZ6AJEK+gCUfc//3vT2AVUgKQB+1XABVvmi/3/GRwEVCVH/BCdi" +
+    "AS1HzACJb0sA5zvq/18wIAFyH8z/tcQd/qfxMwCObV0ALZBo/7UM6wCkcDT/yv5MAKIOrv+T6z3+uUArANl96f6nWPMACDFK" +
+    "AELMnAB71nwBdt0mAOxwkgCxYnIAx1mXAHDFVwChlbkApWAs/xSz+P7Y27wADT4oAI2O8//O4+X/I8qs/+GwdQEmblL/DvUq" +
+    "AGFTFAAKqzEAeHfyAD3oGf+T8NT/OHME/u8Rkf/7Ecr/9RL5AO91Y/+zBLj/M+32/4nvJf+mcKb/IbxR/476uQCtuzYAyXDQ" +
+    "AeQr9v9YuGj/xDTU/2x1MwCbdf7/D1su/5AOVwDM41cBUxpTAONMnwHVG58AbJcY/rOQdQBS0YkACp8mAMmFcwGctt//XcRu" +
+    "AOk8Of9ppwUApMWa/7oiYAElhZMAvmPc/1SnAQCrkRT++8XC/4VOX//z+Pz/g13h/8SGuwCqmdj+nnYUAHYBjAEPnlb/KdMt" +
+    "/mQBk/9MdHEBbH/TADAPZwFmEMH/XzNFAJ2AawDpq4kBkHxaALahagHsTK//rI3IAGg6o/80tOn/Dv3w//5xov6K7yYApi40" +
+    "/iFl8QCcuoP/PtBv/6BefAD+rB//OK5w/xtjvAD7ikMBgDp9/66YnP/3DLIAnlT8/g7FUv9TyKwBLiclAKfPagAivRgAkLKD" +
+    "AATVzgDS4qH/aTNI/7stYf/fuE4A+x2w/1agTwCyJXQB1U1S/41UUgHUZeL/x1ivAfde9f9tdqwAvrmmAHi1g/9d/lf/SfCG" +
+    "/4/1IP9noov+EmKzAHDM2f9435MA8wo1AJaMpv/IUH3/220O/wHaW/4v/Pz/dJxtAX8xc//TV8z/2cqU//lVGgGG9Q7/qVlM" +
+    "AOYt8v+sYjv+hEly/zGbTgBUfp7/K68x/1S2EAAjZ53/bcFoAJrdQ/4BrMkAWKII/x0Bpf/lm30B3JoeAFzvZ/9tAdwAAcbK" +
+    "AY4CXgAsNiT/nuLr/9b7qgAJTbkA8kph/5Wj2/92I/D+WHLfAAPHwP8YJWr/dqHJAWNZYf9nOuD+k8dlAGM83gE7GeoAG4c0" +
+    "/lsDZgDr2KgAiOjlAIE8aADuqC4AQ78nAC+jS/9iYY8BqNg4//zpqP8WbyMAK1RcAVfIGgCY/VsARjjKAE0IjgGvClAATMf8" +
+    "/1JuFgDCAYEBPYAL/5EOVwG+3v0ArkgP/lajVf8sYzr+vBgtAA/NGv7S5RMAw0P4ALhHY/8lx5r/efOX/0szJv6CVckA+kEs" +
+    "/vOTOf87K5IANRxZ/xhUIf4SM7MAU0a9AbOcCwB3hmIAb2+e/0mad/6MP8j/DQ0t/gLAmgAqSFH+uaAuAAZwLAGV15IAaLAa" +
+    "AVccRP+ZMuz++oCz/7/Bzv6JXKYA7yg1/swB0gAjragBLfON/20yJP/C8g//ep/j/sqvsABIOUYAON8o/zqi0ABdYrcADG8P" +
+    "/0wIHv/2f4QAZ/It/w+1RQAe0QoAebMDAdro8f9Yx3sBytIC/1GCvAHQZV4ALSRnARjBTP/xGl8Au6KlAIxyJP8FQsoAkzgl" +
+    "AfMLmP/oVX8B1If6AHGxuf9L3FoAkvhFADJvMgBQFlz+cyT0/1JkowEGwRkAJD1//h5D/f+q7EH+1xGhAIyvPwAEfzcA6XBP" +
+    "ACigbf8HU4//7hpB/4yp2f+9Xk7/vpMA/rpHk/9/TWoB6Z3p/+1XhwHsDdD/JG2bANpktAASo7QBCW6+/3s/Ef+0iLP/e3ul" +
+    "/lG8kP9s8Ef/C3AZ/zPa4//qMqf/bE9y/3MTHwBj8Lf/j1fj//jZSAFfqWYAlZWBAQyF7gAjzOMBGnPQAOoIZgGPWHAADvmQ" +
+    "/qye8AB3cGT+mY3C/1M4KAAusHn/TDUqAJq/ngBc0VsBEA2t/+JIBQCV/swAz7hQ/noJZP+rZXb+AMv8ADbPoAH5SDj/DYw4" +
+    "/mtACv80ZVsB+LXhAIT/iwARkeYAFzjp//EBd/+XqdX+CWNj/78PuQFtZ63/+w2u/gdYsv9EOxv/AiEKADth+AGSHhoACpOw" +
+    "Ac95XwAYWLz+/l65AMk3cwBGMhgABjV4AJJCjv/54uQB3sBoANtErf8kuKL/iWaPABcLnQBiLX3+4V3r/6BwOAHzdEb/N/mZ" +
+    "AREngQD0UPEBFUVX/0nkXv9BQk4A5+PC/1eSPf8Xm63+23Rw/wsm2ACFuoMAu9ReAFsvZP+v/sz+1xLe/2xErf9P5OMA1d0m" +
+    "/pbjowASvh8BC7Og/15aCgBYrtz/5dOjADSIx//dX4L+57yM/4Bxi/7sq3X/FNwx/6sUOwC8beT+IOEUAK4QwwGI/uMAaSeH" +
+    "/85NlgDi7tL+hNQ3AHw57/9dwqr/9xD5/z6XGAAKlwr/sotPAMryeADV2xr/I30+/2wCkP9TIeYB2C1RABE+4AB92db/mZli" +
+    "/mqws/+KXYP/JD5t/yB5sgBG/HgAJfjcAWdYzP/73IABB+Ps/8YxagBrODwA7nJjAV7M3AABu0kAIppZ/6XZTv/5ww7//eYJ" +
+    "APWHzf8H/BoBG81UAHAChgAgniX/7Vvn/8yqvwDeB5gAMcBt/5Kmwf+1E+j/NI5pARsQZwClyP3/BNnD/5C9NP6gm3v/NoJX" +
+    "/z14TgApOA7/fSkZAPWoVwBGpdb/BqnU/sLT2/+kXUj/ZyHFAI2OKwCs4YMAHGn0AOFERP8NVIj+KDmCADhNiwA1llQAnV82" +
+    "/rENkAC6c1//dhd1//Gm9ACHugv/y2qyAF3aYQAt/SsABJikAO92i/4YAWD/05nr/xRuqACw7zIA6ClyADX6wf5voP7/KXqI" +
+    "AENsYf8XmNcA1NGMAKO9Kv8yKsr/vWpq/9lEvgB1OukB89zlAAQDxf42eCX/hpwE/qs9JP9kiKUADujUAAquWv9BxtgAQAMM" +
+    "/3NxdAAIZ/j/En3nAMUcoAEjuB7/+Unf/i4Ue/8lOIcB5Q2t/yKhdwBJPfUAcH3NAIZoif8e9tkAj47t/2afQQC+pGz/rXXb" +
+    "/nglIgBQRcj+2nwf/6AbSv/HmroA/MdHAZ9RaAAnyBEBwD3TAFvuGgAM2ZT/1Vs7/7dRC/965oEBkcty/0K0dwC0ikgAapXg" +
+    "/2hSdwArjND/tgli/4ZlzQAmZRL/psVfAJPxy/+R0D4A+/aFAA6pAgC49w0A/geO/xfIJADfzVj/NIFbAB66FQHS5I//+Or3" +
+    "/h9F5v+HurABNM3uACtPi/7ZsBEAQ/MgAOlv8v8JIywBUXLj/wxHBAC/aSb/MnUHABBPUf9BRD//biSd/wPxTQH7LeIAzhmO" +
+    "AdF7eP/u/hz/foAF/9feWwC/D6IASfBW/lG5hwCj8Sz/0tvUAJuicAB2Zc//OEioADQFxP/yrEj/nRZ+/ztgkv6YeaIAXxCM" +
+    "/sj+wwCillL+kSt3/06szACf4Kb/7RNo/9B+9QDVO+IAxdl1AO1ImP4XH9z/51oOAUDUvP/2ZTwAVhhVAG2xAQEgU5IAwLZL" +
+    "AODxd/8b7bkBUmW4/00l6wAThv0AevboALNqPAAMC8MB60JtADtxfQCkKD0A8Giv/7svAgCNDDL/tYvCAGj6h//eXGH/yZXZ" +
+    "/3bxywBDl0//2o56AO/1lf7IKor/YSVQ/6dwfP9XiiT/kx2C/05X8QETYcz/FtGx/n/j9/9Td2MBxhnUALOzEP6sTZH/DplZ" +
+    "AKe92v876Wv+8yEj/3BwLAFPf6EACq/M/ooVKADkdGj/iV/H/6i+hQHqpZIAJ2O3/jbctwCF3v/+eduiAAbvP/82ZuEA9hL7" +
+    "AYEiBACDJIcBOzLOALdhD/+H2Kv/K5hlAFv7lgBfkSb+Jswi/1OMsv/zgRkAJZBM/hokav+skHb/5bpE/9Wha/9Eoy4A/aqV" +
+    "AA8Ru/+loNoB9iOrABMNYAB1y6X/wGvWAbF79ABoA2T/YfKy/4JM+wEqTdP/Rk/6AVD0PwD2ZWkBOog9ANVb7v9iOw4ATVSn" +
+    "/i6EEf/FrzkAuD65AM9ATP7Qr6wAJUqv/tMbigDCfZQAUVkK/2XLqAHR1SsANvXr/+IjHgBGfgn+Xn3i/xR1nAFw+Dn/QDDm" +
+    "AaZcpP/m1uAAj3gk/ysINwH1AfsApWJq/mprSv82BDUBlrJa/3t4AwFZBfT/PfpyAVKZ/gARD00BWu45AObfX/4vNOz/pJRn" +
+    "ASTPef+5EBIAShRLAGULu/+BMC7/0u8W/4HsTf/MTW//YUg9//vZxwDM1yr/yZGFAZLmOQDGZOv+I0mS/xTGbP/ST7YAiGdS" +
+    "ALBs9v88ESL+ckoT/06qqP8U750AqCmVABx5Ov+Gs0//h3nn/2LRrgC+evMAzaarADB01P9CbB0Btt6iABV3Dv/5J9X/5N/+" +
+    "AMaltwAwvoX/bdB8/1WvdwF50Qn/vaswAYZHw/8z24j+jVu2AEifMf/1diP/47pwAB+JOwCjLIn+PGdyAJbVCP9xCqIASGjC" +
+    "/3SD3ABcT7L+1frL/73BXf4i/4IAl7zU/xQRiP9TZRQAps7U/0nu5f8DSpcA11eo/4W8mwBJgab/hU/w/1HTsv6jSMsApajB" +
+    "/sekDgDM/x4BW0hB/2ZKpv8AKsj/43HCANAXQv9k2OUAGu8Y/z7pCgGyCnv/riQaAcfbdwC+oy0AKqgQ/8Y5pgAaGhwA56V+" +
+    "/2Rs+/955T0AinY6ABHPTP5wIg0AqBBZ/2nQJf/XySP+ZWooAHLvBv7iZyj/bn/2ADqnPwCO8IT/WJ4F/55JgQCSWV4Akjbm" +
+    "AK0tCAABqU8A97pzAINAVP/94EMAQL3PAVEcmv82uC3/4NRX/0lgAAHrIYH/UEI0/5uu+wAlswT+XaTqAP2vXf9XRcYALmrg" +
+    "ANIdY/9yvD4ACOos//evqf+JbRcAJ7bl/l6lwADZZfUAYFi//2NexP4L7moA8341/2UBXgACky7/fHzJANoMjQGdpg3/7fsw" +
+    "/3z6m/+SlGoAyg22AKc9HP4ImNn/LYLcAf/myP9XQTf+Yb9dAA77cgFcaSAAjc8a/g3PGP8wMhX/dJS6AOEr0/6iIiX/KtKk" +
+    "/2AXRP8I1rb/iXX1ADLDQv5TDEsApIxQASSlCQDjbuQBWhHxANQ0Gf8M3wYAOfOLAUtxDP+/t/b/Rb/VAI4P5v/EwwH/L6uK" +
+    "AWo/QP/WqRABOK7P/4VJWACMhbb/GQ6x/zW4k/+h4wr/9Nh4AOlNSQGL7p0A6UE7Adj7Rv+ZuCkAcMsgAP2TkgFtZVf/hVIs" +
+    "/zWW9P/omF7/J107/9yTWAENUU7//C8g/3IToP8na10B0xB2/9F3uf5/2+P/7GlY/xduov9upiT/3exbAHTqQv70E28AGukK" +
+    "/ga3IADyvwL+NZza/0Y8KQBv7Kj/frl5/8+O7gA0fjf+0IHc/6TMUP6QF0P/bCjaAKTKf/8DIcsAAJ4C/7xgJQBKMcAAAARt" +
+    "/gqnb/+H2lv/rULLAOLClv8G/ckAeWauAG6/zQAEwjX+LShR/49mI//GbAz/6BsQAbpH/ABybrABdQOOAI5NcQHFnBMA/C9c" +
+    "ARboNQDrEjb/vSMuAIHU7P7QYAL/x+7I/6SvOwDnK5L/NNnCAAzfA/6yNooAz+tVACLP6P8yNDH/WXGm/9gtCgAcrT4A9qVv" +
+    "/1tzdgA8VIAAy5CnAPMNVwHkHhb/knGx/uaqgf+BmfwAK+GR/wXnRv5+aXr/lPZW/polbgBbA9EAPpFE/6UQ5P753TcAW9Ky" +
+    "/uKSUwC6kkX+aNJdAK0ZEAAmuuf/jHq9/3AN+wBdbmkAqkj7/98XwAHKAxgA5F3h/seTmQAWqm3/9mX4/wx8sv5m/rIAQQQ3" +
+    "ALTWfQCTYLf+F3UtAPm/hP7LsI//NreIALHqkv9WZZIBj3ssAJjRIf4pWsD/fQ9TAFKs1QCQqdcAIg0Q/2TRIAH5ElT/7BHF" +
+    "AOa62f+woDH/YXZvAOto7f5cO0//C/lFAUqsIwBEdhP/pXze/yNCtAD2rlb/b0or/1aQfgBb6uT+GNXy/+ssRQAjtNz/B/gI" +
+    "/1wvZv9mzfABq+Zx/8m5H/9G9sIAuxF6/8dGhv+WA5UAZz91/3toQQETNtQAWI0G//OGUwBnNYgAtBupABgxsQCnNm//1z3D" +
+    "AWwBHwBGKjz/ogO5/yiVwv4mf/b/Jne+AQh3Pf/boWAB3csq/6TysQAKn/UAAMR0/s1dBQCzf4D/9u19/9milf4UJVcAwO6M" +
+    "AMEJCQDiAWEACiYd/z+IAP7SSOX/XIYmAdDaTv9UJGj/wQUM/z2v8gEuqb//k5Oz/ou+cQAfrH3+/EsDAA8k1wEYG8H/lUX/" +
+    "AHaBbgD5Xcv+QImKAAZGJgDedJkAe0qh/09jwf9eO3YBKww9AJ2xkgC/ky4AJv8QAR8zC/9iOjwBTcJvAPRbmgGQKIwA+wqt" +
+    "/jLRywBOgmwAWrTkAPoHrgA8rh8AHqsp/1JjdP+LwXb+xq27ADhv2gDYe7kANJ75/120NP9bCcn+pi04/8ubhABu6Dr/WdM0" +
+    "AaIA/QC3VwkBLIiRAPV6XgGrvFUAxlyTAGgIAACuXx4BNObd/+v39/81ron/zBUjAdbjRwDCUuj/4zAL/7hJqv78+8YAInAs" +
+    "/4NlgwC7qEj/fYeE/2Foiv+ouO7/VGjz/+LYhwDtkIsBlom8/4w4UP+nqVb/GU7C/7QR3ADBDRH/1Il1AJfgjQCv9DH/r2PB" +
+    "AZpjE/8+Qf//N9Kc/wP08gCVDvr/2Vie/obPnQAc6Pv/+5wu/7g4qwDqM+//g4qOAfP+GQDCyQoAS2E/AKLv0gEfyMAA89Z1" +
+    "/t5HGP/oKDb+b7dM/1cOkP+IT9YA1MTY/owbhAD9BYP/E2x8AEvXHP433kwAP7bp/r+rRP/ebzT/TWkKAOuqUP9YGI8Aeect" +
+    "AeCBlABU9j3/2y79ACFM7/4SlDEARSXm/haGQwBem47+050f/x4q1f735AT/DbD8/h8AJ///9PH+Ci2qAPne/QCEct7/Bi//" +
+    "AbOjtP+XXlT+UtFZ/6k05QEA7NX/5DjW/5d3hwDByXD+NaBTAEKXBgARohIAW2HpAU4Fg/81eLX/P191ALl17f+Ifr8A6XeQ" +
+    "AWE5t/+7yS8Bd6WnAH5kLf4GYhX/X5aRAJg2eABoYtH+Hm+PAPmUuAAu2Ov/lMr4ABZfOQCj4fL/6Pfp/xOrR/8x9Gf/XWdU" +
+    "AfR5RAAN4FL/K08p/6fO+f4VNNf/FiDAADxv9/8mSmX+VFsW/w0cHf7X58YAyJr0AO2J3wAOhNP/zkBf//c+EQF5g+kATRdd" +
+    "/jTMzQCIvVEBitu0AF4Sj/6MK8wA26+8/49ib/+iP5f+RzLTADWSE/5TLZL/7lKy/1SFEP9dxuL/FGHJ/yN2eP/nMnL/nOWi" +
+    "AAwa0/9zJ3IAhtTO/6DZxf5egXT/29fHAfnfS/+1dP3/aNfo//aC5ABWdbkACAUOAT0d7/+FV+3+iZJ9AN+ozAD1qC4AFmma" +
+    "/6HU3P8YRWv/tdqJ/8ZU8f/TeoL/mQiNAHaxvgCyWWD+MBD//2lgev/oNnX/aX4iAKZDzP+KNOgADJPTAAc2Gf7XDywALewz" +
+    "AYFEvgDhk2r+LV0c/w+N7AChPREAwHPc/hiR7ACpqG//PzrgALykfwFL6lIAhp7gAW5E0QDZptkBpuFG/4/Bu/9YBxAAjM0K" +
+    "AZzAdQAmOBEBbHwb/zfXqwDU/V//qIeb/pmy9gBKRJr+YD3oADuEaQHHTCH/grC9/hloCf9mxksAcAHp/xTcbABG5nL/hcKM" +
+    "/qSeOf9QBpIBYcSpAIK3VQHenkb/6u07/xoZYP9hr+j++HkLAMIjWP78tNsA4whKAUnjw/+hbrgBpOkxAC81gP95DlIAOr7B" +
+    "/3WuMAAgF4QBhgoo/xkzFv+wC/AAkjluAe+Pdf92ZZ0ATFQ2/xK4zf9IBC//VXBOAUIywf80EF0AhmkI/0htDAD7nDoAzCOQ" +
+    "/nWgLADCazL/pUQBAKJub/4oU54A6tZM/83YOv+TYKsBcuMoAPHjsAG3+Ub/i1SI/vd6PP91CY/+ia6xAI/3Sf9+uez/9xk+" +
+    "/zhALQAG9KEBODkiAFPKaQDQk4D/CmcG/0GKSv9kUGH/Ia7W/0qGMv6Cl24ArFRv/kvHVP9wO/gBstgIAF+3Cf4IG+4A3M2q" +
+    "AIflw//tTGIBGlvi/yfbUgHHvuH/ecjZ/wizUQDOQYz+V8+y/y78+gFuWWj/nr39/57WkP829aABXLc1/8LIFQFxIZIA/wHR" +
+    "/ytq6wDoNKcA3eWdABkeMwEb3fr/V5NBAMR7T//fxEEBESxMAETxVf/5t8r/1NRBAZohCQBQO0f/O8KvAAlIjQD0oGQAONDm" +
+    "/ksZOwDCwlD+yAMSAHOfoAH3j4T/OV1vAQvtOv+H3oYBbKN6/74re/7Ovfv/SLZQAeD20AAJPBEAJs+hAFttjf/TD9gAbk6I" +
+    "/2ijYv95UBUBt7KtAASPf/5SPGj/DRDWASHuYP/mlJ7/PoF//9L/M/7sjT7/4DedAPQncv/6vMAANUzk/1FUYv49y63/NzKT" +
+    "AL/rzAD0xTT+0ytYAHe/GwCa57wAoVFCAaDBXAB44/oA4jd7AEgRuP4KqIX/nIcW/2cZKQA6yjD/UZW6AO+GvP69tev/vIvZ" +
+    "AFIwSgDl2i4A+/29/wzlMgG/jdP/GfSA/nrnqf+9L1b/F7eE/5ayJQD9iTMAH07IADJpFgAAPIL+W6OEALvnFwDvT8D/pGad" +
+    "ARRSwP9ntRgA6gnw/6R7Af8A6YUA8vLKAPW6PP/HEPH+nnTg/1t9vwDPVuD/5yV5/8YJ4//vmQ/+2eh5AFJwS/45DF//adYz" +
+    "AWHclAAkYsf+DNGcADTUCv43tNn/6KrU/1QU2ACH+p3+f2OdACnOAQFGJJX/ycQ2/gB0VwCWq+sA6qMbALSHyv4AX9AAXZx7" +
+    "AEs+twC264n//+HM/9KL1v8IcwIAbwwdAAGcNP/7Ff3+H6UlANOCDP41EmoAmmMq/j3ZDv9cC9j+cMXIAMcmk/54/CQATalr" +
+    "/597AQBmS88AxK+jAPABLP6wunj/TGIN//F87f+8kugA4GDIACkfzAANyND/YOEVAMScrwB+0Pf+9Lg+AFGrAgCec1X/LUA2" +
+    "AHKKEwDNR4cBky/jAELn2gAc0f3/rQ/0/nYPBv/QlhD/Mha5/89wVgHXcUv/K5I//hPhBP8+F+P+1v8O/80ILf6XxVf/11LS" +
+    "//f49QBG+IAAV/fhAEZ4WgBc9dUA4oUNAQW1L/9po1z+hR4G/z2y6P8YleYAnjES/j1k5P/783QBXEtN/5PbUf7+o0wA9tWN" +
+    "/pgl6ABkLGEBMiXJADn01P+3q64AcEr5AB6cpv9h3d7+SV3z/2Rl+/9d2dj/u4r+/zS+jv+xyzsANF7I/55ycwFomKX/4mN+" +
+    "AfSddgAQyGsA5VrBAFgGef5dIJz/0/F9/53tDv8VmqX/FuC4/5gY+gAfTXH/F6v3/8yx7f+RiTQAcrbCAJXq4AFnbwoABIHJ" +
+    "AE6O7v8oBjT+pdVuAP3PPABF1z7/AGFgAMotMf8WeXgBMIvr/yItxgEbMrb/W9KDAIA2Lv9pe6/+To3G/+/0Q/5nNvX/8iZO" +
+    "/vlcAv9XrvsAkD+L/xtsGAESZiIAmBYi/nblQgBjjzIBlamQAJgedgF5CLIAEp8I/+ZlWgB3HYEBCyREADe36P9g/xf/wSmh" +
+    "AN6LPwDzsw//D2T/AIc1UgGVOYn/qvBj/uTmFv9StDEAK1I9ANn1bgA9fccANP0uANvFjQDBn9P+aXk3AIEUt/+qd6n/i7LL" +
+    "/7Yoh//KDawAlLJBACvPCAF/NXoAMKFK/oDW4//zC1YBB1Zk/4ZE9QEVKz3/XlSY/vo8vv/odu8BJYjW/2tMcQFkaF3/F86Q" +
+    "AZqWbgC5Z+T+MjHa/4tNhwBOAbn/lKEA/+kdYf+VlM8AAKig/6uAW/4THAYA928L/5a7JwCV6Ir/RD51/7zYP/4g6uv/oDkd" +
+    "AfEMGQC/PKn/jYMg/3uf7f5exV7/A/50/mGzXP9cYXkADnCqAPiVFQAD4/gAbWBQAUrAS//iWgwBRGqh/39y0P7/KnL/ShpK" +
+    "/paz9wA8jHn/yEaT/6Eo1v/JvKH/h0GNAPxz8gDKLz7+/5W0AO03gv+6EaUAwqkK/9ptnP97jHD+34Bo/2yOsf/bJXn/Ek2A" +
+    "ARdsbwBLwFv/FvWu/z7sBAGZQCsA/q3jAYR67f+6WX/+gFKOAK5U/AGxs1r/V9bz/6I8Z/8OgtAAi4IL/9uBzv+d2V7/5ubv" +
+    "/p9zdABfa6QBAtoz/8Z92P6Ayoz/RF8L/l0JN/8Gma4AYKzMAG6gRf4xJtUA1VAbAHJ9dv9DRkb/SY4P/7l6g/4yFPMAKO2C" +
+    "AYyf0v9Bl8UAQplUAFp+wwHs7hD/Zrt2/4UYAwDmRbsBXMU4/15F1QHlilAA5gfOAeZv3v936VsBB1kJAAFiAv+FSpT/tPYz" +
+    "AXCx5P9svTr+7cvCAMPRFQEjCpMA4p1W/oujH/9LBzgAdFo+AKk8tf7UoooAH6dR/3BazQDjcCEBdZdT/0ngsf/ZkK7/T8zm" +
+    "/+hNFgDqTnL+fjngAI0xCQGlk/L/jLZoAQyEpwB/RHsBJ1fhAAhs+wGPwcb/z4d5AEYWrP90RDL/KK9lAOlp+AAHy6YA2sVu" +
+    "/hr+1wD94qgAYI8fAClnC/7Lgbf/SvdkAIR+1QAsk9IBG+rHALUvlAGeW5v/r2k2/pFOAgBfmmb+f8+A/+x8NABHVIIA0/Pd" +
+    "AM+qmADHat7+XlS3/zjIXAFztooAkmCOAOSIhQCWEmEAQvs3AARmjACXZ8r/+BMeAM+4MwBZxsr+4cU3//lfqf9EQUIAfuq8" +
+    "AWTfpgD073AAwheQALYnOv4YLPT/s0SvAZp2mACCorD+zHLZ/05+rf8e3iH/WwIkAPOPAgDX6wkBl6sD//XXGP6kL6gAz5Lx" +
+    "ALSBRQBx80T+SDWQAA4t+wCobhf/T0RE/l9Gbv+QW67/X84h/wcpif6ZuxP/cP8j/rmRCQAlnTIBMXAL/74IZgGp8+oAF1U8" +
+    "AL0nSgDvMXQA0tWt/2yhLgAllp//uXjE/wZiIv8+w5n/R+ZhAEw9Zv/s1BoAEGGkAJI7xgDEF6MAPRg4AMFitf/lk/v/GL1i" +
+    "/842LgD2UuoBJme3AMw+bQDg8Ar/dRaSAHiajgAj1EUBdmPQ/wP/eQDCBkj/xRF1ABcPfQCZT5r/xV7W/5M3uf5O/j4AmVJ/" +
+    "/z9mbv+hUmwB1LtpACeKUP9d/zwAugxIAR/70v+Qp77+EyzkAOhDgP5r+db/VpGIALAuhP/ju70AjBbQAHTT2f66UTIAH/qL" +
+    "AcZAHgBkm4f+F86g/9OiuwA/vBAAMdD+AL9UVf/ywPEBkX6Z/6Ki6gHYYeYAfodAAd+Uvv8rADQBvSccAO6IQAC5xK//1eJi" +
+    "AfSffwA8r+IBjumg/8/ztAFZmEUAFWUf/qQZkADRv4sAeRlbAAWTIP97uif/5nM//8anXf/c1Y//E5yzAHpCGf/ZoNb/Pi0C" +
+    "/pJPav9jiTP/52RX/+iRr/8BuGUAfQmuAaElUv+NciT/jt4wAJq69f7drgX/m3I/AaA3hwCHH1ABs/p+AC3a7AGRHBQASZMQ" +
+    "AYS9+f/AvRH/xo7f/w8USP7tNfoAEgsP/nHTG/84a9X/kpOuADB+YAFtwRcAXqIl/vmdx/+7gBj+sjHN/yqkXQHrdyv/7bdY" +
+    "/wHS2gAq/mv/YwrmAOIAogBb7dsAy7KB/l8y0P9f0M7+Wb/3/0/qbgDzPaX/cHoU/rn29gB7BGcB5mPp//xb2/8W3sf/6fWz" +
+    "AOrx0//A+m8AiFRV/zI6Zf6crYP/My13/hDpdgDWWvIB259e/+oDA/5cTGIA5jZQ/ufkBf/fGDUBdjhx/wGEFADs0qv/nvE4" +
+    "/xNzugCu5QgBACww/6Zycv/iSQYA9FnNAUvjiQA4rfj+9nhK/wsDd//GeFH/YnqIAd3xkv9Owm0BRvHf/6nI1v8vvmH/rmcv" +
+    "/khcY/+06Xb+6SPB/yDlGgDG/N7/RyvMAKxUxwC+Zob+Ye5vAOYo5v5AzeMA4QzIAN4Zpv8zRXEAGJ+PAEq4p/504B0A6dCe" +
+    "/350wf+FC9QBjDoW/zMkzAArHuj/tUbr/pI4QP9UEqn/DQHi/7AyyP711TQAYdGoADdHvwCcTiIBOpDoAL1Kuf6Vjrr/f0VA" +
+    "/5PLoQC/l7D+y+eIAIm2o/77fqEAQiDpAELPRAAlHB4BYHJd//dc/gBFqyz/C3fKATJ2vP+IU/8AGlJHAALjRgF56yAAmim1" +
+    "/uWGRwAk/8oABZgp/0k/mgB8tiL/lt15AdXMGgBXrCn/kp1aABSCbf/Ia0cAvWbz/pHDAQB1WC4A484I//1uv/4UgG3/M1WG" +
+    "AXCxif8WItj/0BCDAKqVeQEXE3L/H1CmAHrwcQD6s+j+tG5EAHeq0v+kbN//6U/P/uLlG/9RYtEAB0RPAGS5g/+iHar/a6IR" +
+    "AQsVOf+1yGQBpkF/AMyGpQCop2gAT6QBATuHkv+AMkb+DXdmAIcG4/+zjqIA3mSgAdvgG//DXZ4AiY3q/30YEP8vzu7/YhFh" +
+    "/wxudABNc2D/6ONb/0/++P4G5VwAi8ZYAIFLzv/OTfoBe/SNANxFigEGlyD/FqeD/qdE7QCWvcf/iquj/wa8M/6JHV8As+KU" +
+    "/9Brtf9SH4b/LWWXAOHKgQCTSOD/l4ow/s5AwwCe2u3+iR1q/+m9/f8RD2cA/2HC/qktsgCb4cb/dTAnAHNqhwC1JmH/QS+W" +
+    "/uWCUwCBJvb+mu9cAH9jW/8hb6H/8tnu/8O5g/+ev9UA2pYpAIOphAH8VFn/gEar/sv4o/+0MgEBVUx8AFBv+//vQmP/tu2a" +
+    "/oV+3f9jzEr/d5NB/6c4Y/+V+E//5Jt0/g4r7f8LiUUB8foW/496WwDz+c3/PBrUAbC2MP+/FzD+mHnL/9VKLf4SWj7/5qP1" +
+    "/3RquQCfI1P/AiEMAD4iUP+uVxAAVWWt/lEkyv/MRaAAu+FAAF7OOgAvkFYA9VblAb6RPwAnBSUAGvttAOqTif+ReaL/znSQ" +
+    "/7noxf+Mvrf//gxJ//IUi//vWqr/u0Jh/oe19QA0iN7+MwX1AE4vywDYZZgAfRdJASFg/v9J0usBWNErAG2BB/7kaHoAy/Kq" +
+    "/4fM8v/pHMoAfwZBAEeQnwBfjGQADZZOAXZr+/99Orb/bCYB/9G9jQF9mwj/W6Nx/75Pef9s74YA+C9MAO/kowAKbxH/S5VY" +
+    "AO/r1/8Yn6f/bJcvALzRa/5j5+n/lMoc/4ojrv9EGG4AtUUCAFJmawAH7Wb/7SRcAVOi3f8Gyjf/h+qHAN76GP6oXkH/0vj1" +
+    "/slspwBvof8A/gjNAHQNiP+EsGT/ftcr/4KFsQCUT54BJeBD/xXODAFuIj7/r2jt/2+EUABIro7+tOVUAIyzaf8P+EAAEIrp" +
+    "/ntD9f/UedoB2l8//4mF1f9Sto8ACxwwAY1y9P9Mr9H/lrWd/wPlugFvnaQAi73n/77Kd/9Aatr+P+tE/6waYAELL7v/+xLX" +
+    "AFlUUQCAOkQBBXFe/9CBXP5TD2EAvBwJAKQJ7wCYzTz/YqPAADwSuACLttn/eDttAPvABP/w0qn+XKwl//XTlAA0QbMAcw39" +
+    "Ac6uuf+VvHIArVrt/8DHKwBxbFgATCM0/5QZQv8HBN3/cvGXAOjRvgDHMmL/1ZaXASRKEgAHKDX/QYcTAEWsGgBV7a4AKV9j" +
+    "ABA4A/+xoCf+2mrI/1REuf49ulv/jY9D/6b0DQDGcmP/o27HALoSwQH273wAFkRuAS7rAgBrPNQBaSppAJjmDgCDBQf/mmiN" +
+    "AAYD1f+i5IMBHGSz/1V75wHfDs4A5mD9AZWYJgB6iWL/A83W/7OY4gCJhQb/jEWe/5qicf+s87T/c70b/9wuj//hhtUARR1+" +
+    "AYkrvAAJRvL//8xaAJOq5/4TOBf/nX04/9qzMP/9tk8Bv9QmAHzrKQAcl2AAvpSH/if5zf+IYDT/iCzU/4PRQ/8Xgvz/FIDb" +
+    "AHaBxgALZWwBkgWy/2QHPv5e7LUApBoc/3AWTABPZngB5cDKANewyP/0QCkATrjOAT8tp/8AI6D/jgw7/5AJzAHlXtsAcBt6" +
+    "/21pvf9K0EABN3/7AMbiAgDRTCz/TZiXAS4X0v9Fq8kA59Ms/+Alvv8+xPX/3rWpABHTIv/F8XcBmCPl/yhFFQCh4rIAwbOU" +
+    "Af7C2/8zzigB+lznAKqZQwDxlBX/UkWq/+cSeQADclwA5j64/1fJ4f+iYJIA3PK1Ad27rf+qPuIB2X44/+MNdQDvLLP/m42d" +
+    "AFPdkADQ0esBpREqAIVR+/7J9Xz/GNNhAKbWU/8JJJoAfy/4/4zbWv4m2aH/P5PUAZRUQgABA88BWYbm/3pOf/8Bm+AASohS" +
+    "/9Ccsv8xGboB0gPe/76W5f80olX/jVQp/lR7SQCWEV0BHBN3/9cWIP/MFxz/NPGOAH005ADPTB3++qfXAOakrwFpzzf/9btt" +
+    "Adwsof+AZSkAXhCn/2vWXf4ASHb/6j1QAH2veQD7qYv+kydh/zHE+v5us6X/u0bfAX2OFv+Ks5oBKrB2AJmuCgBmXJz/oQ2o" +
+    "ACAQj/+0xfoBLKPLACQgV/8UmaEAD/x7AFDjGQCOWDwByRYR/03NmgAvPycAjXoI/rYXgP8TJ8z/HXAE/4wkF/506tL/PzI1" +
+    "/2ireQBe26D+DlJXAAUq5/5/i6UAJk5W/kI8gv8tHssBesQu/6I1+f5nj4gActLX/qAH5/8qmKkA9i1v/4eDjv/MR4MAC+Ik" +
+    "//IcAP/ViuH+2C73ALcD9QFK/Gz/MBrO//Y2zf8kxtMAMiN5/8rYNP6BiyYAlEny/43nQwDMLyoBGXRO/7/hBADkkwYAsVg6" +
+    "/+Wlev/JU/wBYKfg/564sQGzafIA8Mb4ActChQAvJP7/cxgtAP4+d/664cQArI17/ylVGgC3b+IAl+fV/wc7BACUiu7/IZNC" +
+    "/432H/90jdEAH3BoAKyhWP7m11MAl28vATQmLQDMLYT+bYCK/4Z16f6tvvMA8Ozx/ux/Uv+h3yj/4bZuAO+uewGR8ocAmtEz" +
+    "/nMDlv/8pNkBRZw3//9eVAEtSej/1BMU/jvFYAAh+2ABSccm//esQP84dHUAEhHkAWeKPv+k5fb+yXb0/58gVgGJIm0AutNV" +
+    "/sHBCgCxwnr/Zu56AKvaogGh2WwAIqqeAZsvsP8L5LUAAJwIAF1LEAH/Ys4AI5o6/rjzDP9CdUMAe+XmAG4qyf6y5Ib/dmy6" +
+    "/5oTOv8+qVIBc49y/zLE7//BMK3/VAKT/pOGlgBJ6F/+NONtAAqJv/4ezCj/YTRMAH7rpAC8fP4BFbZK/yMdef4HHvH/1tpV" +
+    "/pZUB/91G1H+mJ+g/90YQgE8CuMAZoeNAZa90ABcs3X/iBaEABzHeP5PgRUAQQm2AKmj2v/Gk/YBkCZr/82vTv76Bdb/HVgv" +
+    "/8wvpP8GNyv+z4aDANZkdAFLjGAAkNxqARwgw/8FUaz/NLPHAMtUJQCucKoAWwQLARv0RQBcg3X/r5gh/2uZjP4rh/v/BIpX" +
+    "/pPqxv9UmHkBm2XNABkJnf4Rakj/AJlsALrlvf+wCMEA0ZWuAB2C7gF+1ukAZuI9AQSjOf8zb8YBTk8t/wrSc/8ZCdr/xoue" +
+    "/rtS0wBThVAB5oGd/4aF8wAQiCj/T2tNAVxVtwDKzLH/k0ejAL5FmAG8M6z/rNL6AXHy0/8aWVn+b0JAACqYdP8bJ6EA/lA2" +
+    "AXPRagBhfGf/YubdAAbnH/54wLL/y9kPAE+efAD3kXABMPpc/8G1o/6OLyX/pb2QAPCSLgCASwb+yJ0pANV5VwDscQEA+i0F" +
+    "AFIMkADnbB//d+/h/70Hp/+E5LsAIr1uAcwsXgDFNKL+8bxOAI0UOQEvkvQAM2TO/pRrfQBNwxsBWv2Y/5CPBwAfJTP/Jnci" +
+    "AHbFBwDTvJn+dBSX/zRB9QFu/bQA0bEv/xFjoQDK3nYB/LN9/342ewC/OZEAebo3AIrzCv/l083+8Zx9/7mclP+8E+P/ICl8" +
+    "/s4iHwBTORH/JRbMAGJgKgG4ZncAHL4D/9pSbv/AzMgAdpHJAJLMdQFiIIQAecLAAfihagB8WO0AGtQX/1qrzQHYMPj/5iWN" +
+    "/gDLfP8eqJ4AFfjW/we7cP/vhUv/8+NKAEaT+gCieNb/swmnABKeFgHRTdr/UW1h/7Mh9P85NDn/0qxB/9FH+QDuqY7/mb2e" +
+    "/mf+rgAOIWL/5kyN/zSLcQDUOg//ydeoAdfM+P+gRN/+t5o5AHnnLwCJpmoAiohRADMrpQA9i+f+O185/xlidgHsP5f/+r5e" +
+    "AXK5qf86+gUBYWlLAIbf1wGjY3EAcD6AAJNqYwAKw6MAts0h/64O1v/nJoEA37Y1/58qYgAoDfcBsdK8/wAVBv6UPf//gS2J" +
+    "/nQaWQByJn7+8jL7/4CGef6n+cwA1+ulAPOxygA+jYUBvoLwAP+vbgGSFAD/edIlAIInB/9U+o4Az8iN/2hfCQCu9AsAfuiG" +
+    "/nsBp/+VwRAB7+no/3BG1f6gdPz/3N7yAONVzQA6uQcBP/d2/7FNdP7I9T7/JRI//ug1awDT3TL+B9uiACteAv62Prb/yE6g" +
+    "AKqMhwDkuOv+ijWv/006UAECyZgAIsQ/ALgeBQCasKsAzjt5ACdjJv5NUKwAl4YA/vEhuv/f/V4A/HIs/zl+bP8NKMn/G+Un" +
+    "ARfvJ/8zeZcA+JaZ/67qCv4E9nYAJvXIAfKhRQCWshAAgjhxAGkfq/9sWBoAaioxAEKp+wCVXUUA/jkUAG8ZpP9avFoAxQTM" +
+    "ATLVKP+EYNT+tIpY/3yS5AD39rj/VnVB/tJm/QAkef7/A3OJANgYPAAdEoYAYeI7AEeOsACh0Qf+M1S9AEj6m//rVNUA4N4t" +
+    "/4+U7v81KqoAdadO/ygAuv9nsX0AQuFFAVgH4wAGrEsB4y2p/0YkEP8JAjIAFsGL/ue3jwAyRdoBoTjsACqD1f4skYr/KOWI" +
+    "/yM/Mf/1kT3+AsBlAHGn6AEmaJgA2rl5/tOLeQAj8Hf+2b1B/6KzuwDmu6D/Dvg+AGFOPP+j9///Wzvh/zpHawEhL/EA7HUy" +
+    "/j+x2wCzWvT/18Ij/zJDvQCBhxf/Jb1oAMI5uf/nPiMAbPjcALLnDAFbUI//ZV2DAQInkACy+v/+7BEFAC4gi/4mvMz/NHP1" +
+    "/klxv/9FbL8B9UUWALLLFwCqY6oAb/hB/5lsJQBFJUD+PlgA/5CUWQHgRL8ANSfx/+3LKf/CfpH//SrdAJdjGQHf/WH/MXNK" +
+    "/0ivBgDLsDsB+bd8AGPk5P7PDIH/w8Co/hCwzACr6pj/VSVN/4d4IQHjwo4AOtYf/3271f88Luj+KnS+/xOyl/7tPjMAwezM" +
+    "ADzowv+dIqz+uBC9/18DZ/4k6Y3/CxkpAKbDFQAt9Xb/ldVD/xIMnwHjpLsABRmgAcNODADhxSv+KY4w/zybxAESx98AnIiR" +
+    "/ql1/ADu4pEAaxfv/7y1bf4xcOb/7apJ/+O35wAU3FABf2vCAGXNfwHFNC7/JKvS/1oDWACNlzj//7tgAMhOKgFGRv4AqH30" +
+    "AYpEzABG13z+yEJmAOQ0Ef6P3HUAe/jL/64SOP+kl7oB0Ogz/yvkoAEZHfkAP75EAYw7hf8k8b0BwyX4ADfcYP8+TLcAPULD" +
+    "AaRMMv9MpOH/oz1MAB8+df9AkVEADkF2/9ZzogAuigb/9OZ8AI+KCgDCGjQATPS4ASmPgf8T9L7/eqp7AESBYgCT1Xn/HmVW" +
+    "AJtnof9DWYwBvuXvALULQ/6J8Mb/vEXuAO6XQ/9sKhMBcVXl/4dEMgAJahH/AWcyAagBUP8emCMBuagQ/+hZOAD80mUAR/op" +
+    "/0+qzP/vLg4A701Q/0vWvQD5jRH/TFAmAHVVvgCq5FYB0Nic/6TPw/9MQpb/EOGvAWJQjQDy20wAcqLGAJjaLv7xK5v/aKCb" +
+    "AKW7MwCvEQIBoFRCAB469/41QSMAv+xFAfWGLQDde6P/FG4gAKUXNABH1roAYLDpATbv8gCKWTn/VABTAGSgiP54jlwAvnxo" +
+    "/z6xtQBVKfoBKoKYAPb8YP4/l5cAPoXvAJw4IP+9py0Bs4WOANNWg/6Ws7v/Dqr6AE6j0gCXNCUAGk1j/9Wc7gHRwNUAVC5J" +
+    "ASlBFABPzjb+koPJ/xhvqv4yIbH/yyarAHT3TgCZ3dEBsoCFABksOgE7J8kA/BO9AdLlMQB1u3UBuLO1ANtyAACTXjAAOCn1" +
+    "/swNfQB3rfT+IN0sABTqVAHGoPn/6n7s/qhjL/+Z4qoA2LNm/3qN4v6ZQnoAhvW2ARnk4//rOdb/OK3YANLntf+dgHf/iF+B" +
+    "ADN+bv+3qQL+YoIH/16wRQHjBHT/kfLZAR+tyv8nAWkARa8u/zov5P5F4Nf/RTjP/4v+EP/Uzxf/fhTK/2DVXwAhsAn/zwXI" +
+    "/oAq8f/AISMBxOX4AHgRgf+XZ/v/cDQH/0I4jP/14ij+JUbZ/wnWrAGGQ0j/1sCSAHAmLP9LuEQA+1rOAI3rlQA6qrUA7/R0" +
+    "AAKdXABirWYBYInpAMsxfwCUmwX/CZQXAAx60/8ahiIAiMzb/ykIhv4rU+AA9xlV/gB/bQAwiKn/23fuANWt5/7+Es7/B7oI" +
+    "AQcJfgBIKm/+7DRvAI0/YP5/v5P/wE7NAe1qDgBM27v+u/OvAK1ZaQFZGVUAlPOi/tF2AgAJniH/LqOLAChGXf6OKmz/jvxv" +
+    "AJDfm/+n5TP/m/xJ/wx0Xv/aoJj/Je6c/8/qs/+zAMUAjaSaAGjE4f4ZIwr/8tTR/t79YQDlZbgBfxLe/4eIpP6Mzx4A82GS" +
+    "/hrAgf8hVMn/Tgpv/7JRkwAYBAT/1+6hACGNBv8O1zX/0LUpAJ2L5//dy7MAcbn//6zivf/WQnH/LT7K/whAZv4Qrk7/RHWF";
+}
@@ -0,0 +1,74 @@
+package org.whispersystems.curve25519.java;
+
+public class ge_prepared {
+
+/*
+Precomputed tables for repeated double scalar multiplications with one fixed
+point A: the odd multiples A, 3A, ..., 127A and the same multiples of
+2^128 A, in ge_precomp form.  See ge_double_scalarmult_prepared.
+*/
+
+    public static final int WINDOW = 8;
+    public static final int TABLE_SIZE = 1 << (WINDOW - 2);
+
+    public ge_precomp[] A;
+    public ge_precomp[] A128;
+
+    public ge_prepared(ge_p3 point) {
+        ge_p3 shifted = new ge_p3();
+        ge_p1p1 t = new ge_p1p1();
+
+        fe_copy.fe_copy(shifted.X, point.X);
+        fe_copy.fe_copy(shifted.Y, point.Y);
+        fe_copy.fe_copy(shifted.Z, point.Z);
+        fe_copy.fe_copy(shifted.T, point.T);
+        for (int i = 0; i < 128; i++) {
+            ge_p3_dbl.ge_p3_dbl(t, shifted);
+            ge_p1p1_to_p3.ge_p1p1_to_p3(shifted, t);
+        }
+
+        A = odd_multiples(point, TABLE_SIZE);
+        A128 = odd_multiples(shifted, TABLE_SIZE);
+    }
+
+    /* P, 3P, 5P, ..., (2*count-1)P, normalized to Z = 1 with one inversion */
+    static ge_precomp[] odd_multiples(ge_p3 P, int count) {
+        ge_p3[] multiples = new ge_p3[count];
+        ge_cached P2 = new ge_cached();
+        ge_p1p1 t = new ge_p1p1();
+        int[][] Z = new int[count][];
+        int[][] invZ = new int[count][10];
+        int[] x = new int[10];
+        int[] y = new int[10];
+        ge_precomp[] table = new ge_precomp[count];
+
+        ge_p3_dbl.ge_p3_dbl(t, P);
+        multiples[0] = new ge_p3();
+        ge_p1p1_to_p3.ge_p1p1_to_p3(multiples[0], t);
+        ge_p3_to_cached.ge_p3_to_cached(P2, multiples[0]);
+
+        fe_copy.fe_copy(multiples[0].X, P.X);
+        fe_copy.fe_copy(multiples[0].Y, P.Y);
+        fe_copy.fe_copy(multiples[0].Z, P.Z);
+        fe_copy.fe_copy(multiples[0].T, P.T);
+        for (int i = 1; i < count; i++) {
+            multiples[i] = new ge_p3();
+            ge_add.ge_add(t, multiples[i - 1], P2);
+            ge_p1p1_to_p3.ge_p1p1_to_p3(multiples[i], t);
+        }
+
+        for (int i = 0; i < count; i++) Z[i] = multiples[i].Z;
+        fe_batch_invert.fe_batch_invert(invZ, Z, count);
+
+        for (int i = 0; i < count; i++) {
+            table[i] = new ge_precomp();
+            fe_mul.fe_mul(x, multiples[i].X, invZ[i]);
+            fe_mul.fe_mul(y, multiples[i].Y, invZ[i]);
+            fe_add.fe_add(table[i].yplusx, y, x);
+            fe_sub.fe_sub(table[i].yminusx, y, x);
+            fe_mul.fe_mul(table[i].xy2d, x, y);
+            fe_mul.fe_mul(table[i].xy2d, table[i].xy2d, ge_p3_to_cached.d2);
+        }
+        return table;
+    }
+}
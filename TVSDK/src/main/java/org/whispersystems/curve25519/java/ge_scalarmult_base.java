@@ -30,25 +30,22 @@ static void cmov(ge_precomp t,ge_precomp u,int b)
   fe_cmov.fe_cmov(t.xy2d,u.xy2d,b);
 }
 
-static void select(ge_precomp t,int pos,byte b)
+static void select(ge_precomp t,ge_precomp minust,int pos,byte b)
 {
-  ge_precomp base[][] =  (pos <= 7 ? ge_precomp_base_0_7.base :
-                           (pos <= 15 ? ge_precomp_base_8_15.base :
-                             (pos <= 23 ? ge_precomp_base_16_23.base : ge_precomp_base_24_31.base)));
+  int[] base = ge_precomp_base.base;
 
-  ge_precomp minust = new ge_precomp();
   int bnegative = negative(b);
   int babs = b - (((-bnegative) & b) << 1);
 
   ge_precomp_0.ge_precomp_0(t);
-  cmov(t,base[pos][0],equal((byte)babs,(byte)1));
-  cmov(t,base[pos][1],equal((byte)babs,(byte)2));
-  cmov(t,base[pos][2],equal((byte)babs,(byte)3));
-  cmov(t,base[pos][3],equal((byte)babs,(byte)4));
-  cmov(t,base[pos][4],equal((byte)babs,(byte)5));
-  cmov(t,base[pos][5],equal((byte)babs,(byte)6));
-  cmov(t,base[pos][6],equal((byte)babs,(byte)7));
-  cmov(t,base[pos][7],equal((byte)babs,(byte)8));
+  ge_precomp_base.cmov(t,base,pos * 8 + 0,equal((byte)babs,(byte)1));
+  ge_precomp_base.cmov(t,base,pos * 8 + 1,equal((byte)babs,(byte)2));
+  ge_precomp_base.cmov(t,base,pos * 8 + 2,equal((byte)babs,(byte)3));
+  ge_precomp_base.cmov(t,base,pos * 8 + 3,equal((byte)babs,(byte)4));
+  ge_precomp_base.cmov(t,base,pos * 8 + 4,equal((byte)babs,(byte)5));
+  ge_precomp_base.cmov(t,base,pos * 8 + 5,equal((byte)babs,(byte)6));
+  ge_precomp_base.cmov(t,base,pos * 8 + 6,equal((byte)babs,(byte)7));
+  ge_precomp_base.cmov(t,base,pos * 8 + 7,equal((byte)babs,(byte)8));
   fe_copy.fe_copy(minust.yplusx,t.yminusx);
   fe_copy.fe_copy(minust.yminusx,t.yplusx);
   fe_neg.fe_neg(minust.xy2d,t.xy2d);
@@ -67,13 +64,27 @@ Preconditions:
 @SuppressWarnings("all")
 public static void ge_scalarmult_base(ge_p3 h,byte[] a)
 {
-  byte[] e = new byte[64];
+  ge_scalarmult_base(h,a,SignatureContext.get());
+}
+
+@SuppressWarnings("all")
+public static void ge_scalarmult_base(ge_p3 h,byte[] a,SignatureContext ctx)
+{
+  byte[] e = ctx.e;
   byte carry;
-  ge_p1p1 r = new ge_p1p1();
-  ge_p2 s = new ge_p2();
-  ge_precomp t = new ge_precomp();
+  ge_p1p1 r = ctx.smb_r;
+  ge_p2 s = ctx.smb_s;
+  ge_precomp t = ctx.smb_t;
+  ge_precomp minust = ctx.smb_minust;
   int i;
 
+  /* NEW: the wider tables of ge_scalarmult_base_wide, if selected */
+  ge_scalarmult_base_wide wide = ge_scalarmult_base_wide.selected();
+  if (wide != null) {
+    wide.ge_scalarmult_base(h,a,ctx);
+    return;
+  }
+
   for (i = 0;i < 32;++i) {
     e[2 * i + 0] = (byte)((a[i] >>> 0) & 15);
     e[2 * i + 1] = (byte)((a[i] >>> 4) & 15);
@@ -93,19 +104,22 @@ public static void ge_scalarmult_base(ge_p3 h,byte[] a)
 
   ge_p3_0.ge_p3_0(h);
   for (i = 1;i < 64;i += 2) {
-    select(t,i / 2,e[i]);
-    ge_madd.ge_madd(r,h,t); ge_p1p1_to_p3.ge_p1p1_to_p3(h,r);
+    select(t,minust,i / 2,e[i]);
+    ge_madd.ge_madd(r,h,t,ctx.t0); ge_p1p1_to_p3.ge_p1p1_to_p3(h,r);
   }
 
-  ge_p3_dbl.ge_p3_dbl(r,h); ge_p1p1_to_p2.ge_p1p1_to_p2(s,r);
-  ge_p2_dbl.ge_p2_dbl(r,s); ge_p1p1_to_p2.ge_p1p1_to_p2(s,r);
-  ge_p2_dbl.ge_p2_dbl(r,s); ge_p1p1_to_p2.ge_p1p1_to_p2(s,r);
-  ge_p2_dbl.ge_p2_dbl(r,s); ge_p1p1_to_p3.ge_p1p1_to_p3(h,r);
+  ge_p3_dbl.ge_p3_dbl(r,h,ctx); ge_p1p1_to_p2.ge_p1p1_to_p2(s,r);
+  ge_p2_dbl.ge_p2_dbl(r,s,ctx.t0); ge_p1p1_to_p2.ge_p1p1_to_p2(s,r);
+  ge_p2_dbl.ge_p2_dbl(r,s,ctx.t0); ge_p1p1_to_p2.ge_p1p1_to_p2(s,r);
+  ge_p2_dbl.ge_p2_dbl(r,s,ctx.t0); ge_p1p1_to_p3.ge_p1p1_to_p3(h,r);
 
   for (i = 0;i < 64;i += 2) {
-    select(t,i / 2,e[i]);
-    ge_madd.ge_madd(r,h,t); ge_p1p1_to_p3.ge_p1p1_to_p3(h,r);
+    select(t,minust,i / 2,e[i]);
+    ge_madd.ge_madd(r,h,t,ctx.t0); ge_p1p1_to_p3.ge_p1p1_to_p3(h,r);
   }
+
+  /* e holds the digits of a, which is secret */
+  for (i = 0;i < 64;++i) e[i] = 0;
 }
 
 }
@@ -0,0 +1,239 @@
+package org.whispersystems.curve25519.java;
+
+public class ge_scalarmult_base_wide {
+
+/*
+An optional engine for h = a * B with a table for every radix-2^w digit
+position: entry j of position i is (j+1) * 2^(w*i) * B, stored flat as
+yplusx, yminusx, xy2d.  Compared to ge_scalarmult_base (radix 16, 32
+positions, four doublings) it needs no doublings and ceil(256/w)
+additions, at the price of ceil(256/w) * 2^(w-1) entries of 120 bytes:
+60 KiB for w = 4, 97 KiB for w = 5, 161 KiB for w = 6.
+
+The lookup stays constant time: every entry of a position is read, so a
+wider window trades the additions it saves for longer scans, and past
+w = 5 it loses.  ge51.ge_scalarmult_base uses the same engine, with the
+table converted to 51-bit limbs on first use.  The engine is off unless selected with setWindow() or the
+system property org.whispersystems.curve25519.base_window (4, 5 or 6; any
+other value leaves it off); the tables are built on first selection.
+*/
+
+    public static final String WINDOW_PROPERTY = "org.whispersystems.curve25519.base_window";
+    public static final int MIN_WINDOW = 4;
+    public static final int MAX_WINDOW = 6;
+
+    private static final ge_scalarmult_base_wide[] engines = new ge_scalarmult_base_wide[MAX_WINDOW + 1];
+
+    /* the encoding of B: y = 4/5, x positive */
+    private static final byte[] B_BYTES = {
+        (byte)0x58, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66,
+        (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66,
+        (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66,
+        (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66, (byte)0x66
+    };
+
+    private static volatile ge_scalarmult_base_wide selected = from_property(System.getProperty(WINDOW_PROPERTY));
+
+    public final int window;
+    private final int digits;
+    private final int entries;
+    private final int[][] table;
+    private volatile long[][] table51;
+
+    /* Selects the engine with window w for ge_scalarmult_base, or the ref10 tables for w = 0. */
+    public static void setWindow(int w) {
+        selected = w == 0 ? null : engine(w);
+    }
+
+    /* The selected window, 0 for the ref10 tables. */
+    public static int getWindow() {
+        ge_scalarmult_base_wide engine = selected;
+        return engine == null ? 0 : engine.window;
+    }
+
+    static ge_scalarmult_base_wide selected() {
+        return selected;
+    }
+
+    static synchronized ge_scalarmult_base_wide engine(int w) {
+        if (w < MIN_WINDOW || w > MAX_WINDOW) {
+            throw new IllegalArgumentException("Base point window must be 0 or " + MIN_WINDOW + ".." + MAX_WINDOW + ": " + w);
+        }
+        if (engines[w] == null) engines[w] = new ge_scalarmult_base_wide(w);
+        return engines[w];
+    }
+
+    /* A value that is not a window, such as a typo, selects the ref10 tables
+       instead of failing the class initialization for good. */
+    static ge_scalarmult_base_wide from_property(String value) {
+        int w;
+        if (value == null) return null;
+        try {
+            w = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return w < MIN_WINDOW || w > MAX_WINDOW ? null : engine(w);
+    }
+
+    private ge_scalarmult_base_wide(int w) {
+        ge_p3 P = new ge_p3();
+        ge_p1p1 t = new ge_p1p1();
+
+        window = w;
+        digits = (256 + w - 1) / w;
+        entries = 1 << (w - 1);
+        table = new int[digits][entries * 30];
+
+        /* ge_frombytes_negate_vartime gives -B; the tables may be built inside
+           a caller's ge_scalarmult_base, so not with its context */
+        ge_frombytes.ge_frombytes_negate_vartime(P, B_BYTES, new SignatureContext());
+        fe_neg.fe_neg(P.X, P.X);
+        fe_neg.fe_neg(P.T, P.T);
+
+        for (int i = 0; i < digits; i++) {
+            multiples(table[i], P, entries);
+            for (int k = 0; k < w; k++) {
+                ge_p3_dbl.ge_p3_dbl(t, P);
+                ge_p1p1_to_p3.ge_p1p1_to_p3(P, t);
+            }
+        }
+    }
+
+    /* P, 2P, ..., count P, normalized to Z = 1 with one inversion, stored flat into row */
+    private static void multiples(int[] row, ge_p3 P, int count) {
+        ge_p3[] multiples = new ge_p3[count];
+        ge_cached Pc = new ge_cached();
+        ge_p1p1 t = new ge_p1p1();
+        int[][] Z = new int[count][];
+        int[][] invZ = new int[count][10];
+        int[] x = new int[10];
+        int[] y = new int[10];
+        int[] f = new int[10];
+
+        ge_p3_to_cached.ge_p3_to_cached(Pc, P);
+        multiples[0] = new ge_p3();
+        fe_copy.fe_copy(multiples[0].X, P.X);
+        fe_copy.fe_copy(multiples[0].Y, P.Y);
+        fe_copy.fe_copy(multiples[0].Z, P.Z);
+        fe_copy.fe_copy(multiples[0].T, P.T);
+        for (int i = 1; i < count; i++) {
+            multiples[i] = new ge_p3();
+            ge_add.ge_add(t, multiples[i - 1], Pc);
+            ge_p1p1_to_p3.ge_p1p1_to_p3(multiples[i], t);
+        }
+
+        for (int i = 0; i < count; i++) Z[i] = multiples[i].Z;
+        fe_batch_invert.fe_batch_invert(invZ, Z, count);
+
+        for (int i = 0; i < count; i++) {
+            fe_mul.fe_mul(x, multiples[i].X, invZ[i]);
+            fe_mul.fe_mul(y, multiples[i].Y, invZ[i]);
+            fe_add.fe_add(f, y, x);
+            System.arraycopy(f, 0, row, i * 30, 10);
+            fe_sub.fe_sub(f, y, x);
+            System.arraycopy(f, 0, row, i * 30 + 10, 10);
+            fe_mul.fe_mul(f, x, y);
+            fe_mul.fe_mul(f, f, ge_p3_to_cached.d2);
+            System.arraycopy(f, 0, row, i * 30 + 20, 10);
+        }
+    }
+
+    /* t = b * 2^(w*pos) * B, reading every entry of the position */
+    private void select(ge_precomp t, ge_precomp minust, int pos, byte b) {
+        int[] row = table[pos];
+        int bnegative = ge_scalarmult_base.negative(b);
+        int babs = b - (((-bnegative) & b) << 1);
+
+        ge_precomp_0.ge_precomp_0(t);
+        for (int j = 0; j < entries; j++) {
+            ge_precomp_base.cmov(t, row, j, ge_scalarmult_base.equal((byte)babs, (byte)(j + 1)));
+        }
+        fe_copy.fe_copy(minust.yplusx, t.yminusx);
+        fe_copy.fe_copy(minust.yminusx, t.yplusx);
+        fe_neg.fe_neg(minust.xy2d, t.xy2d);
+        ge_scalarmult_base.cmov(t, minust, bnegative);
+    }
+
+    /* The table with ge51.ENTRY limbs per entry; racing threads convert it alike. */
+    private long[][] table51() {
+        long[][] converted = table51;
+        if (converted == null) {
+            converted = new long[digits][];
+            for (int i = 0; i < digits; i++) converted[i] = ge51.table_from(table[i]);
+            table51 = converted;
+        }
+        return converted;
+    }
+
+    /* e = the signed radix-2^w digits of a */
+    private void recode(byte[] e, byte[] a) {
+        int half = entries;
+        int carry = 0;
+        int i;
+
+        for (i = 0; i < digits; i++) {
+            int v = 0;
+            for (int k = 0; k < window; k++) {
+                int bit = i * window + k;
+                if (bit < 256) v |= ((a[bit >> 3] >>> (bit & 7)) & 1) << k;
+            }
+            v += carry;
+            /* the top digit takes the last carry; a[31] <= 127 keeps it small */
+            if (i < digits - 1) {
+                carry = (v + half) >> window;
+                v -= carry << window;
+            }
+            e[i] = (byte)v;
+        }
+        /* each e[i] is between -2^(w-1) and 2^(w-1) */
+    }
+
+    /*
+    h = a * B, like ge_scalarmult_base
+
+    Preconditions:
+      a[31] <= 127
+    */
+    public void ge_scalarmult_base(ge_p3 h, byte[] a, SignatureContext ctx) {
+        byte[] e = ctx.e;
+        ge_p1p1 r = ctx.smb_r;
+        ge_precomp t = ctx.smb_t;
+        ge_precomp minust = ctx.smb_minust;
+        int i;
+
+        recode(e, a);
+
+        ge_p3_0.ge_p3_0(h);
+        for (i = 0; i < digits; i++) {
+            select(t, minust, i, e[i]);
+            ge_madd.ge_madd(r, h, t, ctx.t0);
+            ge_p1p1_to_p3.ge_p1p1_to_p3(h, r);
+        }
+
+        /* e holds the digits of a, which is secret */
+        for (i = 0; i < 64; ++i) e[i] = 0;
+    }
+
+    /* h = a * B on 51-bit limbs, like ge51.ge_scalarmult_base */
+    public void ge_scalarmult_base(ge51.p3 h, byte[] a, SignatureContext ctx) {
+        byte[] e = ctx.e;
+        ge51.p1p1 r = ctx.l_smb_r;
+        ge51.precomp t = ctx.l_smb_t;
+        ge51.precomp minust = ctx.l_smb_minust;
+        long[][] rows = table51();
+        int i;
+
+        recode(e, a);
+
+        ge51.ge_p3_0(h);
+        for (i = 0; i < digits; i++) {
+            ge51.select(t, minust, rows[i], 0, entries, e[i]);
+            ge51.ge_madd(r, h, t, ctx.l_t0);
+            ge51.ge_p1p1_to_p3(h, r);
+        }
+
+        /* e holds the digits of a, which is secret */
+        for (i = 0; i < 64; ++i) e[i] = 0;
+    }
+}
@@ -11,7 +11,13 @@ r = p - q
 @SuppressWarnings("all")
 public static void ge_sub(ge_p1p1 r,ge_p3 p,ge_cached q)
 {
-  int[] t0 = new int[10];
+  ge_sub(r,p,q,new int[10]);
+}
+
+/* t0 is scratch */
+@SuppressWarnings("all")
+public static void ge_sub(ge_p1p1 r,ge_p3 p,ge_cached q,int[] t0)
+{
 //CONVERT #include "ge_sub.h"
 
 /* qhasm: enter ge_sub */
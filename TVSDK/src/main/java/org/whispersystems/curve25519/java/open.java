@@ -16,20 +16,88 @@ public static int crypto_sign_open(
   byte[] pk
 )
 {
-  byte[] pkcopy = new byte[32];
-  byte[] rcopy = new byte[32];
-  byte[] scopy = new byte[32];
-  byte[] h = new byte[64];
-  byte[] rcheck = new byte[32];
-  ge_p3 A = new ge_p3();
-  ge_p2 R = new ge_p2();
+  return crypto_sign_open(sha512provider,m,mlen,sm,smlen,pk,SignatureContext.get());
+}
+
+public static int crypto_sign_open(
+  Sha512 sha512provider,
+  byte[] m, long mlen,
+  byte[] sm, long smlen,
+  byte[] pk, SignatureContext ctx
+)
+{
+  ge_p3 A = ctx.open_A;
 
   if (smlen < 64) return -1;
   if ((sm[63] & 224) != 0) return -1;
-  if (ge_frombytes.ge_frombytes_negate_vartime(A,pk) != 0) return -1;
+  if (ge_frombytes.ge_frombytes_negate_vartime(A,pk,ctx) != 0) return -1;
+
+  return crypto_sign_open_with(sha512provider,m,mlen,sm,smlen,pk,A,null,ctx);
+}
+
+/*
+As crypto_sign_open, for a pk that has already been decoded into A = -pk
+(ge_frombytes_negate_vartime).  A is only read.
+*/
+public static int crypto_sign_open_decoded(
+  Sha512 sha512provider,
+  byte[] m, long mlen,
+  byte[] sm, long smlen,
+  byte[] pk, ge_p3 A
+)
+{
+  return crypto_sign_open_with(sha512provider,m,mlen,sm,smlen,pk,A,null,SignatureContext.get());
+}
+
+public static int crypto_sign_open_decoded(
+  Sha512 sha512provider,
+  byte[] m, long mlen,
+  byte[] sm, long smlen,
+  byte[] pk, ge_p3 A, SignatureContext ctx
+)
+{
+  return crypto_sign_open_with(sha512provider,m,mlen,sm,smlen,pk,A,null,ctx);
+}
+
+/*
+As crypto_sign_open_decoded, with -pk given by its ge_prepared tables.
+*/
+public static int crypto_sign_open_prepared(
+  Sha512 sha512provider,
+  byte[] m, long mlen,
+  byte[] sm, long smlen,
+  byte[] pk, ge_prepared A
+)
+{
+  return crypto_sign_open_with(sha512provider,m,mlen,sm,smlen,pk,null,A,SignatureContext.get());
+}
 
-  byte[] pubkeyhash = new byte[64];
-  sha512provider.calculateDigest(pubkeyhash,pk,32);
+public static int crypto_sign_open_prepared(
+  Sha512 sha512provider,
+  byte[] m, long mlen,
+  byte[] sm, long smlen,
+  byte[] pk, ge_prepared A, SignatureContext ctx
+)
+{
+  return crypto_sign_open_with(sha512provider,m,mlen,sm,smlen,pk,null,A,ctx);
+}
+
+private static int crypto_sign_open_with(
+  Sha512 sha512provider,
+  byte[] m, long mlen,
+  byte[] sm, long smlen,
+  byte[] pk, ge_p3 A, ge_prepared prepared, SignatureContext ctx
+)
+{
+  byte[] pkcopy = ctx.pkcopy;
+  byte[] rcopy = ctx.rcopy;
+  byte[] scopy = ctx.scopy;
+  byte[] h = ctx.h;
+  byte[] rcheck = ctx.rcheck;
+  ge_p2 R = ctx.open_R;
+
+  if (smlen < 64) return -1;
+  if ((sm[63] & 224) != 0) return -1;
 
   System.arraycopy(pk, 0, pkcopy, 0, 32);
   System.arraycopy(sm, 0, rcopy, 0, 32);
@@ -40,8 +108,11 @@ public static int crypto_sign_open(
   sha512provider.calculateDigest(h,m,smlen);
   sc_reduce.sc_reduce(h);
 
-  ge_double_scalarmult.ge_double_scalarmult_vartime(R,h,A,scopy);
-  ge_tobytes.ge_tobytes(rcheck,R);
+  if (prepared != null)
+    ge_double_scalarmult_prepared.ge_double_scalarmult_prepared_vartime(R,h,prepared,scopy,ctx);
+  else
+    ge_double_scalarmult.ge_double_scalarmult_vartime(R,h,A,scopy,ctx);
+  ge_tobytes.ge_tobytes(rcheck,R,ctx);
   if (crypto_verify_32.crypto_verify_32(rcheck,rcopy) == 0) {
     System.arraycopy(m, 64, m, 0, (int)(smlen - 64));
     //memset(m + smlen - 64,0,64);
@@ -21,9 +21,21 @@ static int crypto_sign_modified (
   byte[] random
 )
 {
-  byte[] nonce = new byte[64];
-  byte[] hram = new byte[64];
-  ge_p3 R = new ge_p3();
+  return crypto_sign_modified(sha512provider,sm,m,mlen,sk,pk,random,SignatureContext.get());
+}
+
+static int crypto_sign_modified (
+  Sha512 sha512provider,
+  byte[] sm,
+  byte[] m, long mlen,
+  byte[] sk, byte[] pk,
+  byte[] random, SignatureContext ctx
+)
+{
+  byte[] nonce = ctx.nonce;
+  byte[] hram = ctx.hram;
+  byte[] S = ctx.S;
+  ge_p3 R = ctx.sign_point;
   int count=0;
 
   System.arraycopy(m, 0, sm, 64, (int)mlen); 
@@ -41,15 +53,17 @@ static int crypto_sign_modified (
   System.arraycopy(pk, 0, sm, 32, 32);
 
   sc_reduce.sc_reduce(nonce);
-  ge_scalarmult_base.ge_scalarmult_base(R,nonce);
-  ge_p3_tobytes.ge_p3_tobytes(sm,R);
+  ge_scalarmult_base.ge_scalarmult_base(R,nonce,ctx);
+  ge_p3_tobytes.ge_p3_tobytes(sm,R,ctx);
 
   sha512provider.calculateDigest(hram,sm,mlen + 64);
   sc_reduce.sc_reduce(hram);
-  byte[] S = new byte[32];
   sc_muladd.sc_muladd(S,hram,sk,nonce); /* NEW: Use privkey directly */
   System.arraycopy(S, 0, sm, 32, 32);
 
+  /* the nonce is as secret as the private key */
+  Arrays.fill(nonce, (byte)0);
+
   return 0;
 }
 
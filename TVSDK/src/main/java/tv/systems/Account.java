@@ -3,7 +3,9 @@ package tv.systems;
 import com.google.gson.JsonElement;
 import org.bitcoinj.core.AddressFormatException;
 import org.bitcoinj.core.Base58;
+import org.whispersystems.curve25519.BufferedSecureRandomProvider;
 import org.whispersystems.curve25519.Curve25519;
+import org.whispersystems.curve25519.PreparedPrivateKey;
 import org.whispersystems.curve25519.java.curve_sigs;
 import tv.systems.entity.BalanceDetail;
 import tv.systems.error.ApiError;
@@ -14,35 +16,29 @@ import tv.systems.transaction.ProvenTransaction;
 import tv.systems.transaction.Transaction;
 import tv.systems.type.NetworkType;
 import tv.systems.type.TransactionType;
+import tv.systems.utils.CryptoBackend;
 import tv.systems.utils.Hash;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.List;
 
 public class Account {
-    private static final Curve25519 cipher = Curve25519.getInstance(Curve25519.BEST);
     private static final byte ADDR_VERSION = 5;
+    static final int KEY_SIZE = 32;
+    static final int ADDRESS_SIZE = 26;
 
     private byte[] privateKey;
+    // Built on first signature; keeps the Ed25519 public key that every signature needs.
+    private PreparedPrivateKey signingKey;
     private byte[] publicKey;
     private byte[] address;
     private NetworkType network;
 
     public Account(NetworkType network, String seed, Integer nonce) {
         this.network = network;
-        if (nonce != null) {
-            seed = nonce.toString() + seed;
-        }
-        byte[] seedBytes = seed.getBytes(StandardCharsets.UTF_8);
-        byte[] accountSeed = Hash.secureHash(seedBytes);
-        byte[] hashedSeed = Hash.sha256(accountSeed, 0, accountSeed.length);
-        privateKey = Arrays.copyOf(hashedSeed, 32);
-        privateKey[0] &= 248;
-        privateKey[31] &= 127;
-        privateKey[31] |= 64;
+        privateKey = new byte[32];
+        derivePrivateKey(seed, nonce, privateKey, 0);
         publicKey = new byte[32];
         curve_sigs.curve25519_keygen(publicKey, privateKey);
         address = getAddress(publicKey, network.toByte());
@@ -56,6 +52,26 @@ public class Account {
         address = getAddress(publicKey, network.toByte());
     }
 
+    Account(NetworkType network, byte[] privateKey, byte[] publicKey, byte[] address) {
+        this.network = network;
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+        this.address = address;
+    }
+
+    // Writes the private key of the account (seed, nonce) to out at ofs.
+    static void derivePrivateKey(String seed, Integer nonce, byte[] out, int ofs) {
+        if (nonce != null) {
+            seed = nonce.toString() + seed;
+        }
+        byte[] seedBytes = seed.getBytes(StandardCharsets.UTF_8);
+        byte[] accountSeed = Hash.secureHash(seedBytes);
+        Hash.sha256(accountSeed, 0, accountSeed.length, out, ofs);
+        out[ofs] &= 248;
+        out[ofs + 31] &= 127;
+        out[ofs + 31] |= 64;
+    }
+
     public Account(NetworkType network, String base58PublicKey, String base58Address) {
         this.network = network;
         if (base58PublicKey != null) {
@@ -82,10 +98,21 @@ public class Account {
     }
 
     public String getSignature(byte[] bytes) throws KeyError {
+        return Base58.encode(getSignatureBytes(bytes));
+    }
+
+    public byte[] getSignatureBytes(BytesSerializable tx) throws SerializationError, KeyError {
+        return getSignatureBytes(tx.toBytes());
+    }
+
+    public byte[] getSignatureBytes(byte[] bytes) throws KeyError {
         if (privateKey == null) {
             throw new KeyError("Cannot sign the context. No private key in account.");
         }
-        return Base58.encode(cipher.calculateSignature(this.privateKey, bytes));
+        if (signingKey == null) {
+            signingKey = Cipher.INSTANCE.preparePrivateKey(this.privateKey);
+        }
+        return Cipher.INSTANCE.calculateSignature(signingKey, bytes);
     }
 
     public Long getBalance(Blockchain chain) throws KeyError, IOException, ApiError {
@@ -129,12 +156,20 @@ public class Account {
     }
 
     public static byte[] getAddress(byte[] publicKey, byte networkByte) {
-        ByteBuffer buf = ByteBuffer.allocate(26);
-        byte[] hash = Hash.secureHash(publicKey);
-        buf.put(ADDR_VERSION).put(networkByte).put(hash, 0, 20);
-        byte[] checksum = Hash.secureHash(buf.array(), 0, 22);
-        buf.put(checksum, 0, 4);
-        return buf.array();
+        byte[] address = new byte[ADDRESS_SIZE];
+        getAddress(publicKey, 0, publicKey.length, networkByte, new byte[Hash.DIGEST_SIZE], address, 0);
+        return address;
+    }
+
+    // Writes the address of publicKey[ofs, ofs + len) to address at addressOfs; hash is a DIGEST_SIZE scratch buffer.
+    static void getAddress(byte[] publicKey, int ofs, int len, byte networkByte, byte[] hash,
+                           byte[] address, int addressOfs) {
+        Hash.secureHash(publicKey, ofs, len, hash, 0);
+        address[addressOfs] = ADDR_VERSION;
+        address[addressOfs + 1] = networkByte;
+        System.arraycopy(hash, 0, address, addressOfs + 2, 20);
+        Hash.secureHash(address, addressOfs, 22, hash, 0);
+        System.arraycopy(hash, 0, address, addressOfs + 22, 4);
     }
 
     public boolean checkAddress() {
@@ -150,18 +185,23 @@ public class Account {
     }
 
     public static boolean checkAddress(NetworkType network, byte[] address) {
-        if (address.length != 26 || address[0] != ADDR_VERSION || address[1] != network.toByte()) {
+        if (address.length != ADDRESS_SIZE || address[0] != ADDR_VERSION || address[1] != network.toByte()) {
             return false;
         }
-        ByteBuffer buf = ByteBuffer.allocate(22);
-        buf.put(address, 22, 4);
-        byte[] expectedChecksum = buf.array();
-        byte[] actualChecksum = Hash.secureHash(address, 0, 22);
+        byte[] actualChecksum = new byte[Hash.DIGEST_SIZE];
+        Hash.secureHash(address, 0, 22, actualChecksum, 0);
         for (int i = 0; i < 4; i++) {
-            if (expectedChecksum[i] != actualChecksum[i]) {
+            if (address[22 + i] != actualChecksum[i]) {
                 return false;
             }
         }
         return true;
     }
+
+    // Built on the first signature rather than when Account is loaded, since choosing the SHA-512 backend and the
+    // native provider is not free.
+    private static final class Cipher {
+        static final Curve25519 INSTANCE =
+                Curve25519.getInstance(Curve25519.BEST, new BufferedSecureRandomProvider(), CryptoBackend.sha512Provider());
+    }
 }
@@ -0,0 +1,141 @@
+package tv.systems;
+
+import org.bitcoinj.core.Base58;
+import org.whispersystems.curve25519.java.curve_sigs;
+import tv.systems.type.NetworkType;
+import tv.systems.utils.Hash;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Accounts derived from one seed with consecutive nonces, as Account(network, seed, nonce) derives them, held in
+// flat arrays: account i has its keys at [32 * i, 32 * i + 32) of getPrivateKeys() and getPublicKeys() and its
+// address at [26 * i, 26 * i + 26) of getAddresses().
+public class AccountBatch {
+
+    public static final int KEY_SIZE = Account.KEY_SIZE;
+    public static final int ADDRESS_SIZE = Account.ADDRESS_SIZE;
+
+    private static final int BATCH_THRESHOLD = 256;
+    // Public keys are computed this many at a time, sharing one field inversion.
+    private static final int KEYGEN_CHUNK = 256;
+
+    private final NetworkType network;
+    private final int firstNonce;
+    private final int size;
+    private final byte[] privateKeys;
+    private final byte[] publicKeys;
+    private final byte[] addresses;
+
+    private AccountBatch(NetworkType network, int firstNonce, int size) {
+        this.network = network;
+        this.firstNonce = firstNonce;
+        this.size = size;
+        this.privateKeys = new byte[size * KEY_SIZE];
+        this.publicKeys = new byte[size * KEY_SIZE];
+        this.addresses = new byte[size * ADDRESS_SIZE];
+    }
+
+    public static AccountBatch derive(NetworkType network, String seed, int firstNonce, int count) {
+        if (count < 0 || (long) firstNonce + count - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid nonce range: " + firstNonce + " + " + count);
+        }
+        if (count > Integer.MAX_VALUE / Math.max(KEY_SIZE, ADDRESS_SIZE)) {
+            throw new IllegalArgumentException("Too many accounts for one batch: " + count);
+        }
+        final AccountBatch batch = new AccountBatch(network, firstNonce, count);
+        new DeriveTask(batch, seed, 0, count).run();
+        return batch;
+    }
+
+    public NetworkType getNetwork() {
+        return network;
+    }
+
+    public int getFirstNonce() {
+        return firstNonce;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // The flat arrays themselves, not copies.
+    public byte[] getPrivateKeys() {
+        return privateKeys;
+    }
+
+    public byte[] getPublicKeys() {
+        return publicKeys;
+    }
+
+    public byte[] getAddresses() {
+        return addresses;
+    }
+
+    public Account getAccount(int index) {
+        checkIndex(index);
+        return new Account(network,
+                Arrays.copyOfRange(privateKeys, index * KEY_SIZE, (index + 1) * KEY_SIZE),
+                Arrays.copyOfRange(publicKeys, index * KEY_SIZE, (index + 1) * KEY_SIZE),
+                Arrays.copyOfRange(addresses, index * ADDRESS_SIZE, (index + 1) * ADDRESS_SIZE));
+    }
+
+    public String getAddress(int index) {
+        checkIndex(index);
+        return Base58.encode(Arrays.copyOfRange(addresses, index * ADDRESS_SIZE, (index + 1) * ADDRESS_SIZE));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size);
+        }
+    }
+
+    // Derives accounts [from, to) of the batch; every worker fills its own slice of the arrays.
+    @SuppressWarnings("serial")
+    private static final class DeriveTask extends RecursiveAction {
+        private final AccountBatch batch;
+        private final String seed;
+        private final int from;
+        private final int to;
+
+        DeriveTask(AccountBatch batch, String seed, int from, int to) {
+            this.batch = batch;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        void run() {
+            if (to - from <= BATCH_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+                compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(this);
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new DeriveTask(batch, seed, from, mid), new DeriveTask(batch, seed, mid, to));
+                return;
+            }
+            final byte networkByte = batch.network.toByte();
+            final byte[] hash = new byte[Hash.DIGEST_SIZE];
+            for (int i = from; i < to; i++) {
+                Account.derivePrivateKey(seed, batch.firstNonce + i, batch.privateKeys, i * KEY_SIZE);
+            }
+            for (int i = from; i < to; i += KEYGEN_CHUNK) {
+                curve_sigs.curve25519_keygen_batch(batch.publicKeys, batch.privateKeys, i,
+                        Math.min(KEYGEN_CHUNK, to - i));
+            }
+            for (int i = from; i < to; i++) {
+                Account.getAddress(batch.publicKeys, i * KEY_SIZE, KEY_SIZE, networkByte, hash,
+                        batch.addresses, i * ADDRESS_SIZE);
+            }
+        }
+    }
+}
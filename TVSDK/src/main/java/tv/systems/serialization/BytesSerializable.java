@@ -2,9 +2,29 @@ package tv.systems.serialization;
 
 import tv.systems.error.SerializationError;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public interface BytesSerializable {
     byte[] toBytes() throws SerializationError;
     List<Byte> toByteList() throws SerializationError;
+
+    /**
+     * @return the exact number of bytes written by {@link #toBytes()} and the {@code writeBytes} methods
+     */
+    int getBytesSize() throws SerializationError;
+
+    /**
+     * Writes the serialized bytes into {@code dest} starting at {@code offset}.
+     *
+     * @return the number of bytes written
+     */
+    int writeBytes(byte[] dest, int offset) throws SerializationError;
+
+    /**
+     * Writes the serialized bytes at the current position of {@code dest} and advances it.
+     *
+     * @return the number of bytes written
+     */
+    int writeBytes(ByteBuffer dest) throws SerializationError;
 }
@@ -8,6 +8,9 @@ public abstract class BasicTransaction implements Transaction {
     protected Integer height;
     protected String status;
 
+    protected void onFieldChanged() {
+    }
+
     public String getId() {
         return id;
     }
@@ -22,6 +25,7 @@ public abstract class BasicTransaction implements Transaction {
 
     public void setType(Byte transactionType) {
         this.type = transactionType;
+        onFieldChanged();
     }
 
     public Long getTimestamp() {
@@ -30,6 +34,7 @@ public abstract class BasicTransaction implements Transaction {
 
     public void setTimestamp(Long timestamp) {
         this.timestamp = timestamp;
+        onFieldChanged();
     }
 
     public Integer getHeight() {
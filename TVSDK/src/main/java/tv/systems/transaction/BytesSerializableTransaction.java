@@ -2,69 +2,105 @@ package tv.systems.transaction;
 
 import tv.systems.error.SerializationError;
 import tv.systems.serialization.BytesSerializable;
-import tv.systems.type.Base58Field;
-import tv.systems.utils.BytesHelper;
 
-import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 public abstract class BytesSerializableTransaction extends BasicTransaction implements BytesSerializable {
 
+    private transient byte[] bytes;
+
     protected abstract String[] getByteSerializedFields();
 
+    // Serialized form shared by toBytes(), writeBytes() and the id; never hand it out without copying.
+    protected byte[] getCachedBytes() throws SerializationError {
+        if (bytes == null) {
+            bytes = BytesSerializationPlan.of(this).serialize(this);
+        }
+        return bytes;
+    }
+
+    @Override
+    protected void onFieldChanged() {
+        bytes = null;
+        id = null;
+    }
+
     public byte[] toBytes() throws SerializationError {
-        return BytesHelper.toBytes(toByteList());
+        return getCachedBytes().clone();
+    }
+
+    // Until the bytes are cached, the size and the writes go straight through the plan, so building, signing
+    // and sending a new transaction does not allocate its byte form only to copy it into the caller's buffer.
+    public int getBytesSize() throws SerializationError {
+        if (bytes == null) {
+            return BytesSerializationPlan.of(this).size(this);
+        }
+        return bytes.length;
+    }
+
+    public int writeBytes(byte[] dest, int offset) throws SerializationError {
+        byte[] cached = bytes;
+        if (cached == null) {
+            return BytesSerializationPlan.of(this).serialize(this, dest, offset);
+        }
+        if (offset < 0 || dest.length - offset < cached.length) {
+            throw new SerializationError(String.format("Buffer too small: %d bytes required", cached.length));
+        }
+        System.arraycopy(cached, 0, dest, offset, cached.length);
+        return cached.length;
+    }
+
+    public int writeBytes(ByteBuffer dest) throws SerializationError {
+        byte[] cached = bytes;
+        if (cached == null) {
+            return BytesSerializationPlan.of(this).serialize(this, dest);
+        }
+        if (dest.remaining() < cached.length) {
+            throw new SerializationError(String.format("Buffer too small: %d bytes required", cached.length));
+        }
+        dest.put(cached);
+        return cached.length;
+    }
+
+    // Reads one transaction at the buffer's position. This is not zero-copy: primitives are read in place,
+    // but every Base58 field is copied into an array of its own, and the consumed range is copied once more
+    // to seed the byte cache, so the transaction never shares memory with the caller's buffer.
+    protected void readBytes(ByteBuffer src) throws SerializationError {
+        Byte expectedType = type;
+        int start = src.position();
+        onFieldChanged();
+        BytesSerializationPlan.of(this).deserialize(this, src);
+        if (expectedType != null && !expectedType.equals(type)) {
+            throw new SerializationError(String.format("Unexpected transaction type %d, expected %d", type, expectedType));
+        }
+        int end = src.position();
+        byte[] consumed = new byte[end - start];
+        src.position(start);
+        src.get(consumed);
+        bytes = consumed;
+    }
+
+    protected static <T extends BytesSerializableTransaction> T parseBytes(T tx, byte[] bytes) throws SerializationError {
+        ByteBuffer src = ByteBuffer.wrap(bytes);
+        tx.readBytes(src);
+        if (src.hasRemaining()) {
+            throw new SerializationError(String.format("Unexpected %d trailing bytes after transaction", src.remaining()));
+        }
+        return tx;
+    }
+
+    protected static <T extends BytesSerializableTransaction> T parseBytes(T tx, ByteBuffer src) throws SerializationError {
+        tx.readBytes(src);
+        return tx;
     }
 
     public List<Byte> toByteList() throws SerializationError {
-        List<Byte> result = new ArrayList<Byte>();
-        for (String fieldName : getByteSerializedFields()) {
-            Field field = null;
-            Object value = null;
-            Class objClass = this.getClass();
-            while (objClass != null && field == null) {
-                try {
-                    field = objClass.getDeclaredField(fieldName);
-                    value = field.get(this);
-                } catch (NoSuchFieldException e) {
-                    objClass = objClass.getSuperclass();
-                } catch (IllegalAccessException e) {
-                    throw new SerializationError(String.format("Cannot access field '%s'", fieldName));
-                }
-            }
-            if (field == null) {
-                throw new SerializationError(String.format("Cannot find field '%s'", fieldName));
-            }
-            if (value == null) {
-                throw new SerializationError(String.format("The value of field '%s' is null", fieldName));
-            }
-            byte[] bytesArray;
-            if (String.class.isAssignableFrom(field.getType())) {
-                Base58Field b58field = field.getAnnotation(Base58Field.class);
-                if (b58field != null) {
-                    if (!b58field.isFixedLength()) {
-                        bytesArray = BytesHelper.serializeBase58WithSize(value.toString(), Short.BYTES);
-                    } else {
-                        bytesArray = BytesHelper.serializeBase58(value.toString());
-                    }
-                } else {
-                    bytesArray = BytesHelper.toBytes(value.toString());
-                }
-            } else if (Long.class.isAssignableFrom(field.getType())){
-                bytesArray = BytesHelper.toBytes((Long)value);
-            } else if (Integer.class.isAssignableFrom(field.getType())){
-                bytesArray = BytesHelper.toBytes((Integer)value);
-            } else if (Short.class.isAssignableFrom(field.getType())){
-                bytesArray = BytesHelper.toBytes((Short)value);
-            } else if (Byte.class.isAssignableFrom(field.getType())){
-                bytesArray = BytesHelper.toBytes((Byte)value);
-            } else {
-                throw new SerializationError("Unable to Serialized Field: " + fieldName);
-            }
-            for (byte b : bytesArray) {
-                result.add(b);
-            }
+        byte[] bytes = toBytes();
+        List<Byte> result = new ArrayList<Byte>(bytes.length);
+        for (byte b : bytes) {
+            result.add(b);
         }
         return result;
     }
@@ -0,0 +1,340 @@
+package tv.systems.transaction;
+
+import org.bitcoinj.core.Base58;
+import tv.systems.error.SerializationError;
+import tv.systems.type.Base58Field;
+import tv.systems.utils.BytesHelper;
+
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class BytesSerializationPlan {
+
+    private enum Kind {
+        BYTE(Byte.BYTES),
+        SHORT(Short.BYTES),
+        INT(Integer.BYTES),
+        LONG(Long.BYTES),
+        STRING(-1),
+        BASE58(-1),
+        BASE58_WITH_SIZE(-1);
+
+        private final int size;
+
+        Kind(int size) {
+            this.size = size;
+        }
+    }
+
+    private static final ConcurrentMap<Class<?>, BytesSerializationPlan> PLANS =
+            new ConcurrentHashMap<Class<?>, BytesSerializationPlan>();
+
+    private final String[] names;
+    private final Field[] fields;
+    private final Kind[] kinds;
+    private final int[] lengths;
+    private final Field[] decodedFields;
+
+    private BytesSerializationPlan(String[] names, Field[] fields, Kind[] kinds, int[] lengths, Field[] decodedFields) {
+        this.names = names;
+        this.fields = fields;
+        this.kinds = kinds;
+        this.lengths = lengths;
+        this.decodedFields = decodedFields;
+    }
+
+    static BytesSerializationPlan of(BytesSerializableTransaction tx) throws SerializationError {
+        Class<?> txClass = tx.getClass();
+        BytesSerializationPlan plan = PLANS.get(txClass);
+        if (plan == null) {
+            plan = compile(txClass, tx.getByteSerializedFields());
+            BytesSerializationPlan existing = PLANS.putIfAbsent(txClass, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    private static BytesSerializationPlan compile(Class<?> txClass, String[] fieldNames) throws SerializationError {
+        String[] names = fieldNames.clone();
+        Field[] fields = new Field[names.length];
+        Kind[] kinds = new Kind[names.length];
+        int[] lengths = new int[names.length];
+        Field[] decodedFields = new Field[names.length];
+        for (int i = 0; i < names.length; i++) {
+            Field field = accessibleField(txClass, names[i]);
+            fields[i] = field;
+            kinds[i] = kindOf(field);
+            Base58Field b58field = field.getAnnotation(Base58Field.class);
+            if (b58field != null) {
+                lengths[i] = b58field.length();
+                if (!b58field.decodedField().isEmpty()) {
+                    decodedFields[i] = accessibleField(txClass, b58field.decodedField());
+                    if (decodedFields[i].getType() != byte[].class) {
+                        throw new SerializationError(String.format("Field '%s' must be a byte[]", b58field.decodedField()));
+                    }
+                }
+            }
+        }
+        return new BytesSerializationPlan(names, fields, kinds, lengths, decodedFields);
+    }
+
+    private static Field accessibleField(Class<?> txClass, String fieldName) throws SerializationError {
+        Field field = findField(txClass, fieldName);
+        if (field == null) {
+            throw new SerializationError(String.format("Cannot find field '%s'", fieldName));
+        }
+        try {
+            field.setAccessible(true);
+        } catch (SecurityException e) {
+            throw new SerializationError(String.format("Cannot access field '%s'", fieldName));
+        }
+        return field;
+    }
+
+    private static Field findField(Class<?> objClass, String fieldName) {
+        while (objClass != null) {
+            try {
+                return objClass.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                objClass = objClass.getSuperclass();
+            }
+        }
+        return null;
+    }
+
+    private static Kind kindOf(Field field) throws SerializationError {
+        Class<?> type = field.getType();
+        if (String.class.isAssignableFrom(type)) {
+            Base58Field b58field = field.getAnnotation(Base58Field.class);
+            if (b58field == null) {
+                return Kind.STRING;
+            }
+            return b58field.isFixedLength() ? Kind.BASE58 : Kind.BASE58_WITH_SIZE;
+        } else if (Long.class.isAssignableFrom(type)) {
+            return Kind.LONG;
+        } else if (Integer.class.isAssignableFrom(type)) {
+            return Kind.INT;
+        } else if (Short.class.isAssignableFrom(type)) {
+            return Kind.SHORT;
+        } else if (Byte.class.isAssignableFrom(type)) {
+            return Kind.BYTE;
+        }
+        throw new SerializationError("Unable to Serialized Field: " + field.getName());
+    }
+
+    byte[] serialize(Object tx) throws SerializationError {
+        Object[] values = new Object[fields.length];
+        byte[] result = new byte[measure(tx, values)];
+        write(values, result, 0);
+        return result;
+    }
+
+    int size(Object tx) throws SerializationError {
+        return measure(tx, new Object[fields.length]);
+    }
+
+    int serialize(Object tx, byte[] dest, int offset) throws SerializationError {
+        Object[] values = new Object[fields.length];
+        int size = measure(tx, values);
+        if (offset < 0 || dest.length - offset < size) {
+            throw new SerializationError(String.format("Buffer too small: %d bytes required", size));
+        }
+        return write(values, dest, offset) - offset;
+    }
+
+    int serialize(Object tx, ByteBuffer dest) throws SerializationError {
+        Object[] values = new Object[fields.length];
+        int size = measure(tx, values);
+        if (dest.remaining() < size) {
+            throw new SerializationError(String.format("Buffer too small: %d bytes required", size));
+        }
+        if (dest.hasArray()) {
+            int position = dest.position();
+            write(values, dest.array(), dest.arrayOffset() + position);
+            dest.position(position + size);
+        } else {
+            write(values, dest);
+        }
+        return size;
+    }
+
+    void deserialize(Object tx, ByteBuffer src) throws SerializationError {
+        ByteOrder order = src.order();
+        src.order(ByteOrder.BIG_ENDIAN);
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                Object value = read(src, i);
+                if (decodedFields[i] != null) {
+                    set(tx, decodedFields[i], value);
+                    set(tx, fields[i], null);
+                } else if (value instanceof byte[]) {
+                    set(tx, fields[i], Base58.encode((byte[]) value));
+                } else {
+                    set(tx, fields[i], value);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new SerializationError("Unexpected end of input while reading transaction bytes");
+        } finally {
+            src.order(order);
+        }
+    }
+
+    private Object read(ByteBuffer src, int index) throws SerializationError {
+        switch (kinds[index]) {
+            case BYTE:
+                return src.get();
+            case SHORT:
+                return src.getShort();
+            case INT:
+                return src.getInt();
+            case LONG:
+                return src.getLong();
+            case BASE58:
+                if (lengths[index] <= 0) {
+                    throw new SerializationError(String.format("Unknown byte length of field '%s'", names[index]));
+                }
+                return readBytes(src, lengths[index]);
+            case BASE58_WITH_SIZE:
+                return readBytes(src, src.getShort() & 0xFFFF);
+            default:
+                throw new SerializationError(String.format("Unable to deserialize field '%s'", names[index]));
+        }
+    }
+
+    private static byte[] readBytes(ByteBuffer src, int length) {
+        if (src.remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        src.get(bytes);
+        return bytes;
+    }
+
+    private static void set(Object tx, Field field, Object value) throws SerializationError {
+        try {
+            field.set(tx, value);
+        } catch (IllegalAccessException e) {
+            throw new SerializationError(String.format("Cannot access field '%s'", field.getName()));
+        }
+    }
+
+    private int measure(Object tx, Object[] values) throws SerializationError {
+        int size = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value;
+            switch (kinds[i]) {
+                case STRING:
+                    value = BytesHelper.toBytes((String) get(tx, i));
+                    size += ((byte[]) value).length;
+                    break;
+                case BASE58:
+                    value = decoded(tx, i);
+                    size += ((byte[]) value).length;
+                    break;
+                case BASE58_WITH_SIZE:
+                    value = decoded(tx, i);
+                    size += Short.BYTES + ((byte[]) value).length;
+                    break;
+                default:
+                    value = get(tx, i);
+                    size += kinds[i].size;
+            }
+            values[i] = value;
+        }
+        return size;
+    }
+
+    private int write(Object[] values, byte[] dest, int offset) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            switch (kinds[i]) {
+                case BYTE:
+                    offset = BytesHelper.putByte(dest, offset, (Byte) value);
+                    break;
+                case SHORT:
+                    offset = BytesHelper.putShort(dest, offset, (Short) value);
+                    break;
+                case INT:
+                    offset = BytesHelper.putInt(dest, offset, (Integer) value);
+                    break;
+                case LONG:
+                    offset = BytesHelper.putLong(dest, offset, (Long) value);
+                    break;
+                case BASE58_WITH_SIZE:
+                    offset = BytesHelper.putShort(dest, offset, (short) ((byte[]) value).length);
+                    offset = BytesHelper.putBytes(dest, offset, (byte[]) value);
+                    break;
+                default:
+                    offset = BytesHelper.putBytes(dest, offset, (byte[]) value);
+            }
+        }
+        return offset;
+    }
+
+    private void write(Object[] values, ByteBuffer dest) {
+        ByteOrder order = dest.order();
+        dest.order(ByteOrder.BIG_ENDIAN);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            switch (kinds[i]) {
+                case BYTE:
+                    dest.put((Byte) value);
+                    break;
+                case SHORT:
+                    dest.putShort((Short) value);
+                    break;
+                case INT:
+                    dest.putInt((Integer) value);
+                    break;
+                case LONG:
+                    dest.putLong((Long) value);
+                    break;
+                case BASE58_WITH_SIZE:
+                    dest.putShort((short) ((byte[]) value).length);
+                    dest.put((byte[]) value);
+                    break;
+                default:
+                    dest.put((byte[]) value);
+            }
+        }
+        dest.order(order);
+    }
+
+    private byte[] decoded(Object tx, int index) throws SerializationError {
+        Field decodedField = decodedFields[index];
+        if (decodedField == null) {
+            return BytesHelper.serializeBase58((String) get(tx, index));
+        }
+        byte[] decoded;
+        try {
+            decoded = (byte[]) decodedField.get(tx);
+        } catch (IllegalAccessException e) {
+            throw new SerializationError(String.format("Cannot access field '%s'", decodedField.getName()));
+        }
+        if (decoded == null) {
+            decoded = BytesHelper.serializeBase58((String) get(tx, index));
+            set(tx, decodedField, decoded);
+        }
+        return decoded;
+    }
+
+    private Object get(Object tx, int index) throws SerializationError {
+        Object value;
+        try {
+            value = fields[index].get(tx);
+        } catch (IllegalAccessException e) {
+            throw new SerializationError(String.format("Cannot access field '%s'", names[index]));
+        }
+        if (value == null) {
+            throw new SerializationError(String.format("The value of field '%s' is null", names[index]));
+        }
+        return value;
+    }
+}
@@ -2,13 +2,18 @@ package tv.systems.transaction;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import org.bitcoinj.core.Base58;
+import tv.systems.error.SerializationError;
 import tv.systems.type.Base58Field;
 import tv.systems.type.TransactionType;
 
+import java.nio.ByteBuffer;
+
 public class LeaseCancelTransaction extends ProvenTransaction {
     public final String[] BYTE_SERIALIZED_FIELDS = {"type", "fee", "feeScale", "timestamp", "leaseId"};
-    @Base58Field
+    @Base58Field(length = 32, decodedField = "leaseIdBytes")
     protected String leaseId;
+    protected transient byte[] leaseIdBytes;
     protected LeaseTransaction lease;
 
     public LeaseCancelTransaction() {
@@ -18,28 +23,54 @@ public class LeaseCancelTransaction extends ProvenTransaction {
     @Override
     public JsonElement toAPIRequestJson(String publicKey, String signature) {
         JsonObject json = super.toAPIRequestJson(publicKey, signature).getAsJsonObject();
-        json.addProperty("txId", this.leaseId);
+        json.addProperty("txId", getLeaseId());
         return json;
     }
 
     @Override
     public JsonElement toColdSignJson(String publicKey) {
         JsonObject json = super.toColdSignJson(publicKey).getAsJsonObject();
-        json.addProperty("txId", this.leaseId);
+        json.addProperty("txId", getLeaseId());
         return json;
     }
 
+    public static LeaseCancelTransaction fromBytes(byte[] bytes) throws SerializationError {
+        return parseBytes(new LeaseCancelTransaction(), bytes);
+    }
+
+    public static LeaseCancelTransaction fromBytes(ByteBuffer src) throws SerializationError {
+        return parseBytes(new LeaseCancelTransaction(), src);
+    }
+
     @Override
     protected String[] getByteSerializedFields() {
         return BYTE_SERIALIZED_FIELDS;
     }
 
     public String getLeaseId() {
+        if (leaseId == null && leaseIdBytes != null) {
+            leaseId = Base58.encode(leaseIdBytes);
+        }
         return leaseId;
     }
 
     public void setLeaseId(String leaseId) {
         this.leaseId = leaseId;
+        this.leaseIdBytes = null;
+        onFieldChanged();
+    }
+
+    public byte[] getLeaseIdBytes() {
+        if (leaseIdBytes == null && leaseId != null) {
+            leaseIdBytes = Base58.decode(leaseId);
+        }
+        return leaseIdBytes == null ? null : leaseIdBytes.clone();
+    }
+
+    public void setLeaseIdBytes(byte[] leaseIdBytes) {
+        this.leaseIdBytes = leaseIdBytes == null ? null : leaseIdBytes.clone();
+        this.leaseId = null;
+        onFieldChanged();
     }
 
     public LeaseTransaction getLease() {
@@ -2,13 +2,18 @@ package tv.systems.transaction;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import org.bitcoinj.core.Base58;
+import tv.systems.error.SerializationError;
 import tv.systems.type.Base58Field;
 import tv.systems.type.TransactionType;
 
+import java.nio.ByteBuffer;
+
 public class LeaseTransaction extends ProvenTransaction {
     public final String[] BYTE_SERIALIZED_FIELDS = {"type", "recipient", "amount", "fee", "feeScale", "timestamp"};
-    @Base58Field
+    @Base58Field(length = 26, decodedField = "recipientBytes")
     protected String recipient;
+    protected transient byte[] recipientBytes;
     protected Long amount;
 
     public LeaseTransaction() {
@@ -19,7 +24,7 @@ public class LeaseTransaction extends ProvenTransaction {
     public JsonElement toAPIRequestJson(String publicKey, String signature) {
         JsonObject json = super.toAPIRequestJson(publicKey, signature).getAsJsonObject();
         json.addProperty("amount", this.amount);
-        json.addProperty("recipient", this.recipient);
+        json.addProperty("recipient", getRecipient());
         return json;
     }
 
@@ -28,21 +33,47 @@ public class LeaseTransaction extends ProvenTransaction {
         int api = getColdSignAPIVersion(this.amount);
         JsonObject json = super.toColdSignJson(publicKey, api).getAsJsonObject();
         json.addProperty("amount", this.amount);
-        json.addProperty("recipient", this.recipient);
+        json.addProperty("recipient", getRecipient());
         return json;
     }
 
+    public static LeaseTransaction fromBytes(byte[] bytes) throws SerializationError {
+        return parseBytes(new LeaseTransaction(), bytes);
+    }
+
+    public static LeaseTransaction fromBytes(ByteBuffer src) throws SerializationError {
+        return parseBytes(new LeaseTransaction(), src);
+    }
+
     @Override
     protected String[] getByteSerializedFields() {
         return BYTE_SERIALIZED_FIELDS;
     }
 
     public String getRecipient() {
+        if (recipient == null && recipientBytes != null) {
+            recipient = Base58.encode(recipientBytes);
+        }
         return recipient;
     }
 
     public void setRecipient(String recipient) {
         this.recipient = recipient;
+        this.recipientBytes = null;
+        onFieldChanged();
+    }
+
+    public byte[] getRecipientBytes() {
+        if (recipientBytes == null && recipient != null) {
+            recipientBytes = Base58.decode(recipient);
+        }
+        return recipientBytes == null ? null : recipientBytes.clone();
+    }
+
+    public void setRecipientBytes(byte[] recipientBytes) {
+        this.recipientBytes = recipientBytes == null ? null : recipientBytes.clone();
+        this.recipient = null;
+        onFieldChanged();
     }
 
     public Long getAmount() {
@@ -51,5 +82,6 @@ public class LeaseTransaction extends ProvenTransaction {
 
     public void setAmount(Long amount) {
         this.amount = amount;
+        onFieldChanged();
     }
 }
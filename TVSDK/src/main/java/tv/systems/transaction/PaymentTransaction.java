@@ -3,16 +3,21 @@ package tv.systems.transaction;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.bitcoinj.core.Base58;
+import tv.systems.error.SerializationError;
 import tv.systems.type.Base58Field;
 import tv.systems.type.TransactionType;
 
+import java.nio.ByteBuffer;
+
 public class PaymentTransaction extends ProvenTransaction {
     public final String[] BYTE_SERIALIZED_FIELDS = {"type", "timestamp", "amount", "fee", "feeScale", "recipient", "attachment"};
-    @Base58Field
+    @Base58Field(length = 26, decodedField = "recipientBytes")
     protected String recipient;
+    protected transient byte[] recipientBytes;
     protected Long amount;
-    @Base58Field(isFixedLength = false)
+    @Base58Field(isFixedLength = false, decodedField = "attachmentBytes")
     protected String attachment;
+    protected transient byte[] attachmentBytes;
 
     public PaymentTransaction() {
         type = TransactionType.Payment.getTypeId();
@@ -22,8 +27,8 @@ public class PaymentTransaction extends ProvenTransaction {
     public JsonElement toAPIRequestJson(String publicKey, String signature) {
         JsonObject json = super.toAPIRequestJson(publicKey, signature).getAsJsonObject();
         json.addProperty("amount", this.amount);
-        json.addProperty("recipient", this.recipient);
-        json.addProperty("attachment", this.attachment);
+        json.addProperty("recipient", getRecipient());
+        json.addProperty("attachment", getAttachment());
         return json;
     }
 
@@ -32,22 +37,48 @@ public class PaymentTransaction extends ProvenTransaction {
         int api = getColdSignAPIVersion(this.amount);
         JsonObject json = super.toColdSignJson(publicKey, api).getAsJsonObject();
         json.addProperty("amount", this.amount);
-        json.addProperty("recipient", this.recipient);
-        json.addProperty("attachment", this.attachment);
+        json.addProperty("recipient", getRecipient());
+        json.addProperty("attachment", getAttachment());
         return json;
     }
 
+    public static PaymentTransaction fromBytes(byte[] bytes) throws SerializationError {
+        return parseBytes(new PaymentTransaction(), bytes);
+    }
+
+    public static PaymentTransaction fromBytes(ByteBuffer src) throws SerializationError {
+        return parseBytes(new PaymentTransaction(), src);
+    }
+
     @Override
     protected String[] getByteSerializedFields() {
         return BYTE_SERIALIZED_FIELDS;
     }
 
     public String getRecipient() {
+        if (recipient == null && recipientBytes != null) {
+            recipient = Base58.encode(recipientBytes);
+        }
         return recipient;
     }
 
     public void setRecipient(String recipient) {
         this.recipient = recipient;
+        this.recipientBytes = null;
+        onFieldChanged();
+    }
+
+    public byte[] getRecipientBytes() {
+        if (recipientBytes == null && recipient != null) {
+            recipientBytes = Base58.decode(recipient);
+        }
+        return recipientBytes == null ? null : recipientBytes.clone();
+    }
+
+    public void setRecipientBytes(byte[] recipientBytes) {
+        this.recipientBytes = recipientBytes == null ? null : recipientBytes.clone();
+        this.recipient = null;
+        onFieldChanged();
     }
 
     public Long getAmount() {
@@ -56,17 +87,36 @@ public class PaymentTransaction extends ProvenTransaction {
 
     public void setAmount(Long amount) {
         this.amount = amount;
+        onFieldChanged();
     }
 
     public String getAttachment() {
+        if (attachment == null && attachmentBytes != null) {
+            attachment = Base58.encode(attachmentBytes);
+        }
         return attachment;
     }
 
     public void setAttachment(String attachment) {
         this.attachment = attachment;
+        this.attachmentBytes = null;
+        onFieldChanged();
+    }
+
+    public byte[] getAttachmentBytes() {
+        if (attachmentBytes == null && attachment != null) {
+            attachmentBytes = Base58.decode(attachment);
+        }
+        return attachmentBytes == null ? null : attachmentBytes.clone();
+    }
+
+    public void setAttachmentBytes(byte[] attachmentBytes) {
+        this.attachmentBytes = attachmentBytes == null ? null : attachmentBytes.clone();
+        this.attachment = null;
+        onFieldChanged();
     }
 
     public void setAttachmentWithPlainText(String plainText) {
-        this.attachment = Base58.encode(plainText.getBytes());
+        setAttachmentBytes(plainText.getBytes());
     }
 }
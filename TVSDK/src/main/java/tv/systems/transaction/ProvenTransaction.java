@@ -20,7 +20,7 @@ public abstract class ProvenTransaction extends BytesSerializableTransaction imp
     public String getId() {
         if (id == null) {
             try {
-                byte[] idBytes = Hash.blake2b(this.toBytes());
+                byte[] idBytes = Hash.blake2b(getCachedBytes());
                 id = Base58.encode(idBytes);
             } catch (SerializationError serializationError) {
                 return null;
@@ -89,6 +89,7 @@ public abstract class ProvenTransaction extends BytesSerializableTransaction imp
 
     public void setFeeScale(Short feeScale) {
         this.feeScale = feeScale;
+        onFieldChanged();
     }
 
     public Long getFee() {
@@ -97,5 +98,6 @@ public abstract class ProvenTransaction extends BytesSerializableTransaction imp
 
     public void setFee(Long fee) {
         this.fee = fee;
+        onFieldChanged();
     }
 }
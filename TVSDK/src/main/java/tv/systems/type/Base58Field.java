@@ -6,4 +6,14 @@ import java.lang.annotation.RetentionPolicy;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Base58Field {
     boolean isFixedLength() default true;
+
+    /**
+     * Decoded byte length of a fixed-length field, needed to read it back from its serialized form.
+     */
+    int length() default 0;
+
+    /**
+     * Name of a {@code byte[]} field holding the decoded value, so serialization does not decode the string again.
+     */
+    String decodedField() default "";
 }
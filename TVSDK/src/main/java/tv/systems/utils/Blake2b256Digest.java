@@ -0,0 +1,671 @@
+package tv.systems.utils;
+
+import org.bouncycastle.crypto.ExtendedDigest;
+
+/**
+ * Unkeyed BLAKE2b with a 32-byte digest, the variant used for transaction ids and addresses.
+ * <p>
+ * Produces the same output as {@code new Blake2bDigest(256)} but keeps the chain value in fields and
+ * runs the compression function unrolled over local variables, so hashing allocates nothing.
+ */
+public class Blake2b256Digest implements ExtendedDigest {
+
+    public static final int DIGEST_SIZE = 32;
+    public static final int BLOCK_SIZE = 128;
+
+    static final long IV0 = 0x6a09e667f3bcc908L;
+    static final long IV1 = 0xbb67ae8584caa73bL;
+    static final long IV2 = 0x3c6ef372fe94f82bL;
+    static final long IV3 = 0xa54ff53a5f1d36f1L;
+    static final long IV4 = 0x510e527fade682d1L;
+    static final long IV5 = 0x9b05688c2b3e6c1fL;
+    static final long IV6 = 0x1f83d9abfb41bd6bL;
+    static final long IV7 = 0x5be0cd19137e2179L;
+
+    // Parameter block word 0 for an unkeyed 32-byte digest: digest length, key length 0, fanout 1, depth 1.
+    static final long PARAM0 = 0x01010000L | DIGEST_SIZE;
+
+    private final byte[] buffer = new byte[BLOCK_SIZE];
+    private int bufferPos;
+    private long counter;
+    private long counterHigh;
+
+    private long h0, h1, h2, h3, h4, h5, h6, h7;
+    // working vector handed from the first to the last rounds of a compression
+    private long v0, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15;
+
+    public Blake2b256Digest() {
+        reset();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "BLAKE2b";
+    }
+
+    @Override
+    public int getDigestSize() {
+        return DIGEST_SIZE;
+    }
+
+    @Override
+    public int getByteLength() {
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public void update(byte in) {
+        if (bufferPos == BLOCK_SIZE) {
+            increment(BLOCK_SIZE);
+            compress(buffer, 0, 0L);
+            bufferPos = 0;
+        }
+        buffer[bufferPos++] = in;
+    }
+
+    @Override
+    public void update(byte[] in, int inOff, int len) {
+        if (len <= 0) {
+            return;
+        }
+        if (bufferPos != 0) {
+            int fill = BLOCK_SIZE - bufferPos;
+            if (len <= fill) {
+                System.arraycopy(in, inOff, buffer, bufferPos, len);
+                bufferPos += len;
+                return;
+            }
+            System.arraycopy(in, inOff, buffer, bufferPos, fill);
+            increment(BLOCK_SIZE);
+            compress(buffer, 0, 0L);
+            bufferPos = 0;
+            inOff += fill;
+            len -= fill;
+        }
+        // The last block is kept back: it has to be compressed with the finalization flag set.
+        while (len > BLOCK_SIZE) {
+            increment(BLOCK_SIZE);
+            compress(in, inOff, 0L);
+            inOff += BLOCK_SIZE;
+            len -= BLOCK_SIZE;
+        }
+        System.arraycopy(in, inOff, buffer, 0, len);
+        bufferPos = len;
+    }
+
+    @Override
+    public int doFinal(byte[] out, int outOff) {
+        increment(bufferPos);
+        for (int i = bufferPos; i < BLOCK_SIZE; i++) {
+            buffer[i] = 0;
+        }
+        compress(buffer, 0, -1L);
+        store(out, outOff, h0);
+        store(out, outOff + 8, h1);
+        store(out, outOff + 16, h2);
+        store(out, outOff + 24, h3);
+        reset();
+        return DIGEST_SIZE;
+    }
+
+    /**
+     * Hashes a message of at most one block with a single compression, bypassing the streaming state.
+     * Any data passed to {@link #update} before is discarded.
+     */
+    public int digestSingleBlock(byte[] in, int inOff, int len, byte[] out, int outOff) {
+        if (len < 0 || len > BLOCK_SIZE) {
+            throw new IllegalArgumentException("Message does not fit in a single block");
+        }
+        reset();
+        counter = len;
+        if (len == BLOCK_SIZE) {
+            compress(in, inOff, -1L);
+        } else {
+            System.arraycopy(in, inOff, buffer, 0, len);
+            for (int i = len; i < BLOCK_SIZE; i++) {
+                buffer[i] = 0;
+            }
+            compress(buffer, 0, -1L);
+        }
+        store(out, outOff, h0);
+        store(out, outOff + 8, h1);
+        store(out, outOff + 16, h2);
+        store(out, outOff + 24, h3);
+        reset();
+        return DIGEST_SIZE;
+    }
+
+    @Override
+    public void reset() {
+        h0 = IV0 ^ PARAM0;
+        h1 = IV1;
+        h2 = IV2;
+        h3 = IV3;
+        h4 = IV4;
+        h5 = IV5;
+        h6 = IV6;
+        h7 = IV7;
+        counter = 0L;
+        counterHigh = 0L;
+        bufferPos = 0;
+    }
+
+    private void increment(int len) {
+        counter += len;
+        if (Long.compareUnsigned(counter, len) < 0) {
+            counterHigh++;
+        }
+    }
+
+    // The twelve rounds are split over two methods so that each stays below the JIT's huge-method limit.
+    private void compress(byte[] in, int off, long finalFlag) {
+        firstRounds(in, off, finalFlag);
+        lastRounds(in, off);
+    }
+
+    private void firstRounds(byte[] in, int off, long finalFlag) {
+        long m0 = load(in, off + 0);
+        long m1 = load(in, off + 8);
+        long m2 = load(in, off + 16);
+        long m3 = load(in, off + 24);
+        long m4 = load(in, off + 32);
+        long m5 = load(in, off + 40);
+        long m6 = load(in, off + 48);
+        long m7 = load(in, off + 56);
+        long m8 = load(in, off + 64);
+        long m9 = load(in, off + 72);
+        long m10 = load(in, off + 80);
+        long m11 = load(in, off + 88);
+        long m12 = load(in, off + 96);
+        long m13 = load(in, off + 104);
+        long m14 = load(in, off + 112);
+        long m15 = load(in, off + 120);
+
+        long v0 = h0, v1 = h1, v2 = h2, v3 = h3, v4 = h4, v5 = h5, v6 = h6, v7 = h7;
+        long v8 = IV0, v9 = IV1, v10 = IV2, v11 = IV3;
+        long v12 = IV4 ^ counter;
+        long v13 = IV5 ^ counterHigh;
+        long v14 = IV6 ^ finalFlag;
+        long v15 = IV7;
+
+        // round 0
+        v0 += v4 + m0; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m1; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m2; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m3; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m4; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m5; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m6; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m7; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m8; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m9; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m10; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m11; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m12; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m13; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m14; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m15; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 1
+        v0 += v4 + m14; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m10; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m4; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m8; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m9; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m15; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m13; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m6; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m1; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m12; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m0; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m2; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m11; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m7; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m5; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m3; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 2
+        v0 += v4 + m11; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m8; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m12; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m0; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m5; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m2; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m15; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m13; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m10; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m14; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m3; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m6; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m7; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m1; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m9; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m4; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 3
+        v0 += v4 + m7; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m9; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m3; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m1; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m13; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m12; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m11; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m14; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m2; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m6; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m5; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m10; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m4; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m0; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m15; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m8; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 4
+        v0 += v4 + m9; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m0; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m5; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m7; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m2; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m4; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m10; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m15; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m14; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m1; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m11; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m12; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m6; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m8; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m3; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m13; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 5
+        v0 += v4 + m2; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m12; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m6; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m10; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m0; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m11; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m8; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m3; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m4; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m13; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m7; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m5; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m15; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m14; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m1; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m9; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        this.v4 = v4;
+        this.v5 = v5;
+        this.v6 = v6;
+        this.v7 = v7;
+        this.v8 = v8;
+        this.v9 = v9;
+        this.v10 = v10;
+        this.v11 = v11;
+        this.v12 = v12;
+        this.v13 = v13;
+        this.v14 = v14;
+        this.v15 = v15;
+    }
+
+    private void lastRounds(byte[] in, int off) {
+        long m0 = load(in, off + 0);
+        long m1 = load(in, off + 8);
+        long m2 = load(in, off + 16);
+        long m3 = load(in, off + 24);
+        long m4 = load(in, off + 32);
+        long m5 = load(in, off + 40);
+        long m6 = load(in, off + 48);
+        long m7 = load(in, off + 56);
+        long m8 = load(in, off + 64);
+        long m9 = load(in, off + 72);
+        long m10 = load(in, off + 80);
+        long m11 = load(in, off + 88);
+        long m12 = load(in, off + 96);
+        long m13 = load(in, off + 104);
+        long m14 = load(in, off + 112);
+        long m15 = load(in, off + 120);
+
+        long v0 = this.v0, v1 = this.v1, v2 = this.v2, v3 = this.v3;
+        long v4 = this.v4, v5 = this.v5, v6 = this.v6, v7 = this.v7;
+        long v8 = this.v8, v9 = this.v9, v10 = this.v10, v11 = this.v11;
+        long v12 = this.v12, v13 = this.v13, v14 = this.v14, v15 = this.v15;
+
+        // round 6
+        v0 += v4 + m12; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m5; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m1; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m15; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m14; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m13; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m4; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m10; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m0; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m7; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m6; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m3; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m9; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m2; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m8; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m11; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 7
+        v0 += v4 + m13; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m11; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m7; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m14; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m12; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m1; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m3; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m9; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m5; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m0; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m15; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m4; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m8; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m6; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m2; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m10; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 8
+        v0 += v4 + m6; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m15; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m14; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m9; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m11; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m3; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m0; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m8; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m12; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m2; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m13; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m7; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m1; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m4; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m10; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m5; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 9
+        v0 += v4 + m10; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m2; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m8; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m4; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m7; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m6; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m1; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m5; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m15; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m11; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m9; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m14; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m3; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m12; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m13; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m0; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 10
+        v0 += v4 + m0; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m1; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m2; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m3; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m4; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m5; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m6; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m7; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m8; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m9; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m10; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m11; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m12; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m13; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m14; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m15; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        // round 11
+        v0 += v4 + m14; v12 = Long.rotateRight(v12 ^ v0, 32);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+        v0 += v4 + m10; v12 = Long.rotateRight(v12 ^ v0, 16);
+        v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+        v1 += v5 + m4; v13 = Long.rotateRight(v13 ^ v1, 32);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+        v1 += v5 + m8; v13 = Long.rotateRight(v13 ^ v1, 16);
+        v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+        v2 += v6 + m9; v14 = Long.rotateRight(v14 ^ v2, 32);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+        v2 += v6 + m15; v14 = Long.rotateRight(v14 ^ v2, 16);
+        v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+        v3 += v7 + m13; v15 = Long.rotateRight(v15 ^ v3, 32);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+        v3 += v7 + m6; v15 = Long.rotateRight(v15 ^ v3, 16);
+        v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+        v0 += v5 + m1; v15 = Long.rotateRight(v15 ^ v0, 32);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+        v0 += v5 + m12; v15 = Long.rotateRight(v15 ^ v0, 16);
+        v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+        v1 += v6 + m0; v12 = Long.rotateRight(v12 ^ v1, 32);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+        v1 += v6 + m2; v12 = Long.rotateRight(v12 ^ v1, 16);
+        v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+        v2 += v7 + m11; v13 = Long.rotateRight(v13 ^ v2, 32);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+        v2 += v7 + m7; v13 = Long.rotateRight(v13 ^ v2, 16);
+        v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+        v3 += v4 + m5; v14 = Long.rotateRight(v14 ^ v3, 32);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+        v3 += v4 + m3; v14 = Long.rotateRight(v14 ^ v3, 16);
+        v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+
+        h0 ^= v0 ^ v8;
+        h1 ^= v1 ^ v9;
+        h2 ^= v2 ^ v10;
+        h3 ^= v3 ^ v11;
+        h4 ^= v4 ^ v12;
+        h5 ^= v5 ^ v13;
+        h6 ^= v6 ^ v14;
+        h7 ^= v7 ^ v15;
+    }
+
+    static long load(byte[] in, int off) {
+        return (in[off] & 0xFFL)
+                | (in[off + 1] & 0xFFL) << 8
+                | (in[off + 2] & 0xFFL) << 16
+                | (in[off + 3] & 0xFFL) << 24
+                | (in[off + 4] & 0xFFL) << 32
+                | (in[off + 5] & 0xFFL) << 40
+                | (in[off + 6] & 0xFFL) << 48
+                | (in[off + 7] & 0xFFL) << 56;
+    }
+
+    static void store(byte[] out, int off, long x) {
+        out[off] = (byte) x;
+        out[off + 1] = (byte) (x >>> 8);
+        out[off + 2] = (byte) (x >>> 16);
+        out[off + 3] = (byte) (x >>> 24);
+        out[off + 4] = (byte) (x >>> 32);
+        out[off + 5] = (byte) (x >>> 40);
+        out[off + 6] = (byte) (x >>> 48);
+        out[off + 7] = (byte) (x >>> 56);
+    }
+}
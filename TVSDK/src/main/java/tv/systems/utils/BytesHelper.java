@@ -2,27 +2,26 @@ package tv.systems.utils;
 
 import org.bitcoinj.core.Base58;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public class BytesHelper {
     public static byte[] toBytes(Long x) {
-        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
-        buffer.putLong(x);
-        return buffer.array();
+        byte[] result = new byte[Long.BYTES];
+        putLong(result, 0, x);
+        return result;
     }
 
     public static byte[] toBytes(Integer x) {
-        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
-        buffer.putInt(x);
-        return buffer.array();
+        byte[] result = new byte[Integer.BYTES];
+        putInt(result, 0, x);
+        return result;
     }
 
     public static byte[] toBytes(Short x) {
-        ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES);
-        buffer.putShort(x);
-        return buffer.array();
+        byte[] result = new byte[Short.BYTES];
+        putShort(result, 0, x);
+        return result;
     }
 
     public static byte[] toBytes(Byte x) {
@@ -39,14 +38,48 @@ public class BytesHelper {
 
     public static byte[] serializeBase58WithSize(String base58Str, int byteLengthOfSize) {
         byte[] b58decode = Base58.decode(base58Str);
-        byte[] intSizeBytes = toBytes(b58decode.length);
-        byte[] sizeBytes = new byte[byteLengthOfSize];
+        byte[] result = new byte[byteLengthOfSize + b58decode.length];
+        putSize(result, 0, b58decode.length, byteLengthOfSize);
+        System.arraycopy(b58decode, 0, result, byteLengthOfSize, b58decode.length);
+        return result;
+    }
+
+    public static int putSize(byte[] dest, int offset, int size, int byteLengthOfSize) {
         for (int i = 1; i <= byteLengthOfSize; i++) {
-            int destOffset = byteLengthOfSize - i;
-            int srcOffset = Integer.BYTES - i;
-            sizeBytes[destOffset] = srcOffset >= 0 ? intSizeBytes[srcOffset] : 0;
+            int shift = (i - 1) * 8;
+            dest[offset + byteLengthOfSize - i] = shift < Integer.SIZE ? (byte) (size >>> shift) : 0;
         }
-        return concat(sizeBytes, b58decode);
+        return offset + byteLengthOfSize;
+    }
+
+    public static int putLong(byte[] dest, int offset, long x) {
+        putInt(dest, offset, (int) (x >>> 32));
+        putInt(dest, offset + Integer.BYTES, (int) x);
+        return offset + Long.BYTES;
+    }
+
+    public static int putInt(byte[] dest, int offset, int x) {
+        dest[offset] = (byte) (x >>> 24);
+        dest[offset + 1] = (byte) (x >>> 16);
+        dest[offset + 2] = (byte) (x >>> 8);
+        dest[offset + 3] = (byte) x;
+        return offset + Integer.BYTES;
+    }
+
+    public static int putShort(byte[] dest, int offset, short x) {
+        dest[offset] = (byte) (x >>> 8);
+        dest[offset + 1] = (byte) x;
+        return offset + Short.BYTES;
+    }
+
+    public static int putByte(byte[] dest, int offset, byte x) {
+        dest[offset] = x;
+        return offset + Byte.BYTES;
+    }
+
+    public static int putBytes(byte[] dest, int offset, byte[] x) {
+        System.arraycopy(x, 0, dest, offset, x.length);
+        return offset + x.length;
     }
 
     public static byte[] toBytes(List<Byte> list) {
@@ -0,0 +1,124 @@
+package tv.systems.utils;
+
+import org.whispersystems.curve25519.JCESha512Provider;
+import org.whispersystems.curve25519.JavaSha512Provider;
+import org.whispersystems.curve25519.java.Sha512;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+// Chooses, per algorithm, between the JDK MessageDigest and the bundled pure-Java digest. The JDK digest is the
+// default from Java 9 on, where HotSpot compiles SHA-256/512 to CPU intrinsics; on Java 8 the bundled digest is
+// the default. "tv.systems.crypto.sha256" and "tv.systems.crypto.sha512" set to "jdk" or "bundled" override that.
+// A JDK digest that is missing or fails a known-answer check is never used.
+public final class CryptoBackend {
+
+    public static final String SHA256_PROPERTY = "tv.systems.crypto.sha256";
+    public static final String SHA512_PROPERTY = "tv.systems.crypto.sha512";
+
+    public enum Implementation {
+        JDK,
+        BUNDLED
+    }
+
+    private static final byte[] CHECK_MESSAGE = {'a', 'b', 'c'};
+    private static final byte[] SHA256_ABC = {
+            (byte) 0xba, (byte) 0x78, (byte) 0x16, (byte) 0xbf, (byte) 0x8f, (byte) 0x01, (byte) 0xcf, (byte) 0xea,
+            (byte) 0x41, (byte) 0x41, (byte) 0x40, (byte) 0xde, (byte) 0x5d, (byte) 0xae, (byte) 0x22, (byte) 0x23,
+            (byte) 0xb0, (byte) 0x03, (byte) 0x61, (byte) 0xa3, (byte) 0x96, (byte) 0x17, (byte) 0x7a, (byte) 0x9c,
+            (byte) 0xb4, (byte) 0x10, (byte) 0xff, (byte) 0x61, (byte) 0xf2, (byte) 0x00, (byte) 0x15, (byte) 0xad
+    };
+    private static final byte[] SHA512_ABC = {
+            (byte) 0xdd, (byte) 0xaf, (byte) 0x35, (byte) 0xa1, (byte) 0x93, (byte) 0x61, (byte) 0x7a, (byte) 0xba,
+            (byte) 0xcc, (byte) 0x41, (byte) 0x73, (byte) 0x49, (byte) 0xae, (byte) 0x20, (byte) 0x41, (byte) 0x31,
+            (byte) 0x12, (byte) 0xe6, (byte) 0xfa, (byte) 0x4e, (byte) 0x89, (byte) 0xa9, (byte) 0x7e, (byte) 0xa2,
+            (byte) 0x0a, (byte) 0x9e, (byte) 0xee, (byte) 0xe6, (byte) 0x4b, (byte) 0x55, (byte) 0xd3, (byte) 0x9a,
+            (byte) 0x21, (byte) 0x92, (byte) 0x99, (byte) 0x2a, (byte) 0x27, (byte) 0x4f, (byte) 0xc1, (byte) 0xa8,
+            (byte) 0x36, (byte) 0xba, (byte) 0x3c, (byte) 0x23, (byte) 0xa3, (byte) 0xfe, (byte) 0xeb, (byte) 0xbd,
+            (byte) 0x45, (byte) 0x4d, (byte) 0x44, (byte) 0x23, (byte) 0x64, (byte) 0x3c, (byte) 0xe8, (byte) 0x0e,
+            (byte) 0x2a, (byte) 0x9a, (byte) 0xc9, (byte) 0x4f, (byte) 0xa5, (byte) 0x4c, (byte) 0xa4, (byte) 0x9f
+    };
+
+    private static volatile Implementation sha256;
+    private static volatile Implementation sha512;
+
+    private CryptoBackend() {
+    }
+
+    public static Implementation sha256() {
+        Implementation implementation = sha256;
+        if (implementation == null) {
+            synchronized (CryptoBackend.class) {
+                implementation = sha256;
+                if (implementation == null) {
+                    implementation = select(SHA256_PROPERTY, "SHA-256");
+                    sha256 = implementation;
+                }
+            }
+        }
+        return implementation;
+    }
+
+    public static Implementation sha512() {
+        Implementation implementation = sha512;
+        if (implementation == null) {
+            synchronized (CryptoBackend.class) {
+                implementation = sha512;
+                if (implementation == null) {
+                    implementation = select(SHA512_PROPERTY, "SHA-512");
+                    sha512 = implementation;
+                }
+            }
+        }
+        return implementation;
+    }
+
+    public static void setSha256(Implementation implementation) {
+        sha256 = checkAvailable(implementation, "SHA-256");
+    }
+
+    public static void setSha512(Implementation implementation) {
+        sha512 = checkAvailable(implementation, "SHA-512");
+    }
+
+    public static Sha512 sha512Provider() {
+        return sha512() == Implementation.JDK ? new JCESha512Provider() : new JavaSha512Provider();
+    }
+
+    private static Implementation checkAvailable(Implementation implementation, String algorithm) {
+        if (implementation == null) {
+            throw new IllegalArgumentException("Implementation must not be null");
+        }
+        if (implementation == Implementation.JDK && !jdkWorks(algorithm)) {
+            throw new IllegalArgumentException(String.format("No JDK implementation of %s", algorithm));
+        }
+        return implementation;
+    }
+
+    private static Implementation select(String property, String algorithm) {
+        final String value = System.getProperty(property);
+        if ("bundled".equalsIgnoreCase(value)) {
+            return Implementation.BUNDLED;
+        }
+        if (!"jdk".equalsIgnoreCase(value) && isJava8()) {
+            return Implementation.BUNDLED;
+        }
+        return jdkWorks(algorithm) ? Implementation.JDK : Implementation.BUNDLED;
+    }
+
+    private static boolean isJava8() {
+        return System.getProperty("java.specification.version", "").startsWith("1.");
+    }
+
+    private static boolean jdkWorks(String algorithm) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+        final byte[] expected = "SHA-256".equals(algorithm) ? SHA256_ABC : SHA512_ABC;
+        return Arrays.equals(expected, digest.digest(CHECK_MESSAGE));
+    }
+}
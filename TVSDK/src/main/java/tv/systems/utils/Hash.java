@@ -1,22 +1,75 @@
 package tv.systems.utils;
 
 import org.bouncycastle.crypto.Digest;
-import org.bouncycastle.crypto.digests.Blake2bDigest;
-import org.bouncycastle.crypto.digests.KeccakDigest;
-import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class Hash {
 
-    private static final ThreadLocal<Digest> BLAKE2B256 = new ThreadLocal<Digest>();
-    private static final ThreadLocal<Digest> KECCAK256 = new ThreadLocal<Digest>();
-    private static final ThreadLocal<Digest> SHA256 = new ThreadLocal<Digest>();
+    public static final int DIGEST_SIZE = 32;
+
+    // Messages hashed by one fork-join leaf; a secure hash of a short message costs about a microsecond.
+    private static final int BATCH_THRESHOLD = 256;
+
+    // How calls obtain their digest instances. THREAD_LOCAL keeps one set per thread; POOL shares a bounded set
+    // between all threads, which suits many short-lived (e.g. virtual) threads. The default can be set with the
+    // system property "tv.systems.hash.digestCache".
+    public enum DigestCache {
+        THREAD_LOCAL,
+        POOL
+    }
+
+    public static DigestCache getDigestCache() {
+        return HashContext.getCache();
+    }
+
+    public static void setDigestCache(DigestCache digestCache) {
+        HashContext.setCache(digestCache);
+    }
 
     public static byte[] secureHash(byte[] message) {
         return secureHash(message, 0, message.length);
     }
+
     public static byte[] secureHash(byte[] message, int ofs, int len) {
-        final byte[] blake2b = hash(message, ofs, len, Hash.BLAKE2B256);
-        return hash(blake2b, 0, blake2b.length, Hash.KECCAK256);
+        final byte[] result = new byte[DIGEST_SIZE];
+        secureHash(message, ofs, len, result, 0);
+        return result;
+    }
+
+    public static byte[] secureHash(ByteBuffer message) {
+        final byte[] result = new byte[DIGEST_SIZE];
+        secureHash(message, result, 0);
+        return result;
+    }
+
+    public static int secureHash(byte[] message, int ofs, int len, byte[] out, int outOfs) {
+        checkOutput(out, outOfs, DIGEST_SIZE);
+        final HashContext context = HashContext.acquire();
+        try {
+            return secureHash(context.blake2b(), context.keccak(), context.scratch, message, ofs, len, out, outOfs);
+        } finally {
+            HashContext.release(context);
+        }
+    }
+
+    public static int secureHash(ByteBuffer message, byte[] out, int outOfs) {
+        checkOutput(out, outOfs, DIGEST_SIZE);
+        final HashContext context = HashContext.acquire();
+        try {
+            final Blake2b256Digest blake2b = context.blake2b();
+            blake2b.reset();
+            update(blake2b, context.scratch, message);
+            blake2b.doFinal(context.scratch, 0);
+            return context.keccak().digestSingleBlock(context.scratch, 0, DIGEST_SIZE, out, outOfs);
+        } finally {
+            HashContext.release(context);
+        }
     }
 
     public static byte[] blake2b(byte[] message) {
@@ -24,7 +77,35 @@ public class Hash {
     }
 
     public static byte[] blake2b(byte[] message, int ofs, int len) {
-        return hash(message, ofs, len, Hash.BLAKE2B256);
+        final byte[] result = new byte[DIGEST_SIZE];
+        blake2b(message, ofs, len, result, 0);
+        return result;
+    }
+
+    public static byte[] blake2b(ByteBuffer message) {
+        final byte[] result = new byte[DIGEST_SIZE];
+        blake2b(message, result, 0);
+        return result;
+    }
+
+    public static int blake2b(byte[] message, int ofs, int len, byte[] out, int outOfs) {
+        checkOutput(out, outOfs, DIGEST_SIZE);
+        final HashContext context = HashContext.acquire();
+        try {
+            return blake2b(context.blake2b(), message, ofs, len, out, outOfs);
+        } finally {
+            HashContext.release(context);
+        }
+    }
+
+    public static int blake2b(ByteBuffer message, byte[] out, int outOfs) {
+        checkOutput(out, outOfs, DIGEST_SIZE);
+        final HashContext context = HashContext.acquire();
+        try {
+            return hash(context.blake2b(), context.scratch, message, out, outOfs);
+        } finally {
+            HashContext.release(context);
+        }
     }
 
     public static byte[] sha256(byte[] message) {
@@ -32,29 +113,235 @@ public class Hash {
     }
 
     public static byte[] sha256(byte[] message, int ofs, int len) {
-        return hash(message, ofs, len, Hash.SHA256);
+        final byte[] result = new byte[DIGEST_SIZE];
+        sha256(message, ofs, len, result, 0);
+        return result;
     }
 
-    private static Digest digest(ThreadLocal<Digest> cache) {
-        Digest digest = cache.get();
-        if (digest == null) {
-            if (cache == BLAKE2B256) {
-                digest = new Blake2bDigest(256);
-            } else if (cache == KECCAK256) {
-                digest = new KeccakDigest(256);
-            } else if (cache == SHA256) {
-                digest = new SHA256Digest();
+    public static byte[] sha256(ByteBuffer message) {
+        final byte[] result = new byte[DIGEST_SIZE];
+        sha256(message, result, 0);
+        return result;
+    }
+
+    public static int sha256(byte[] message, int ofs, int len, byte[] out, int outOfs) {
+        checkOutput(out, outOfs, DIGEST_SIZE);
+        final HashContext context = HashContext.acquire();
+        try {
+            if (CryptoBackend.sha256() == CryptoBackend.Implementation.JDK) {
+                final MessageDigest sha256 = context.jdkSha256();
+                sha256.reset();
+                sha256.update(message, ofs, len);
+                return digest(sha256, out, outOfs);
+            }
+            final Digest sha256 = context.sha256();
+            sha256.reset();
+            sha256.update(message, ofs, len);
+            return sha256.doFinal(out, outOfs);
+        } finally {
+            HashContext.release(context);
+        }
+    }
+
+    public static int sha256(ByteBuffer message, byte[] out, int outOfs) {
+        checkOutput(out, outOfs, DIGEST_SIZE);
+        final HashContext context = HashContext.acquire();
+        try {
+            if (CryptoBackend.sha256() == CryptoBackend.Implementation.JDK) {
+                final MessageDigest sha256 = context.jdkSha256();
+                sha256.reset();
+                sha256.update(message);
+                return digest(sha256, out, outOfs);
             }
-            cache.set(digest);
+            return hash(context.sha256(), context.scratch, message, out, outOfs);
+        } finally {
+            HashContext.release(context);
         }
-        return digest;
     }
 
-    private static byte[] hash(byte[] message, int ofs, int len, ThreadLocal<Digest> alg) {
-        final Digest digest = digest(alg);
-        final byte[] result = new byte[digest.getDigestSize()];
-        digest.update(message, ofs, len);
-        digest.doFinal(result, 0);
+    public static byte[] secureHashBatch(List<byte[]> messages) {
+        final byte[] result = new byte[messages.size() * DIGEST_SIZE];
+        new BatchTask(true, messages, null, null, null, 0, messages.size(), result, 0).run();
+        return result;
+    }
+
+    public static int secureHashBatch(byte[] data, int[] offsets, int[] lengths, byte[] out, int outOfs) {
+        return hashBatch(true, data, offsets, lengths, out, outOfs);
+    }
+
+    public static byte[] blake2bBatch(List<byte[]> messages) {
+        final byte[] result = new byte[messages.size() * DIGEST_SIZE];
+        new BatchTask(false, messages, null, null, null, 0, messages.size(), result, 0).run();
         return result;
     }
+
+    public static int blake2bBatch(byte[] data, int[] offsets, int[] lengths, byte[] out, int outOfs) {
+        return hashBatch(false, data, offsets, lengths, out, outOfs);
+    }
+
+    private static int hashBatch(boolean secure, byte[] data, int[] offsets, int[] lengths, byte[] out, int outOfs) {
+        if (offsets.length != lengths.length) {
+            throw new IllegalArgumentException("Offsets and lengths must have the same number of entries");
+        }
+        final int size = offsets.length * DIGEST_SIZE;
+        checkOutput(out, outOfs, size);
+        new BatchTask(secure, null, data, offsets, lengths, 0, offsets.length, out, outOfs).run();
+        return size;
+    }
+
+    // Hashes messages [from, to) into consecutive digest slots; every worker holds its own digests.
+    @SuppressWarnings("serial")
+    private static final class BatchTask extends RecursiveAction {
+        private final boolean secure;
+        private final List<byte[]> messages;
+        private final byte[] data;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final int from;
+        private final int to;
+        private final byte[] out;
+        private final int outOfs;
+
+        BatchTask(boolean secure, List<byte[]> messages, byte[] data, int[] offsets, int[] lengths,
+                  int from, int to, byte[] out, int outOfs) {
+            this.secure = secure;
+            this.messages = messages;
+            this.data = data;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.from = from;
+            this.to = to;
+            this.out = out;
+            this.outOfs = outOfs;
+        }
+
+        void run() {
+            if (to - from <= BATCH_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+                compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(this);
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(split(from, mid), split(mid, to));
+                return;
+            }
+            final MultiLaneHash lanes = MultiLaneHash.engine();
+            if (lanes != null && to - from >= lanes.lanes()) {
+                hashLanes(lanes);
+                return;
+            }
+            // The worker's digests are acquired once per leaf rather than once per message.
+            final HashContext context = HashContext.acquire();
+            try {
+                final Blake2b256Digest blake2b = context.blake2b();
+                final Keccak256Digest keccak = secure ? context.keccak() : null;
+                for (int i = from; i < to; i++) {
+                    final int dest = outOfs + i * DIGEST_SIZE;
+                    if (messages != null) {
+                        final byte[] message = messages.get(i);
+                        hashOne(blake2b, keccak, context.scratch, message, 0, message.length, dest);
+                    } else {
+                        hashOne(blake2b, keccak, context.scratch, data, offsets[i], lengths[i], dest);
+                    }
+                }
+            } finally {
+                HashContext.release(context);
+            }
+        }
+
+        private void hashLanes(MultiLaneHash lanes) {
+            final int count = to - from;
+            final byte[][] arrays = new byte[count][];
+            final int[] offs = new int[count];
+            final int[] lens = new int[count];
+            for (int i = 0; i < count; i++) {
+                if (messages != null) {
+                    arrays[i] = messages.get(from + i);
+                    lens[i] = arrays[i].length;
+                } else {
+                    arrays[i] = data;
+                    offs[i] = offsets[from + i];
+                    lens[i] = lengths[from + i];
+                }
+                // the scalar path fails on the same ranges, from inside the digest
+                if (lens[i] < 0) {
+                    throw new IllegalArgumentException("Negative message length: " + lens[i]);
+                }
+                if (offs[i] < 0 || offs[i] > arrays[i].length - lens[i]) {
+                    throw new ArrayIndexOutOfBoundsException("Message range out of bounds: " + offs[i] + "+" + lens[i]);
+                }
+            }
+            lanes.hash(secure, arrays, offs, lens, count, out, outOfs + from * DIGEST_SIZE);
+        }
+
+        private BatchTask split(int from, int to) {
+            return new BatchTask(secure, messages, data, offsets, lengths, from, to, out, outOfs);
+        }
+
+        private void hashOne(Blake2b256Digest blake2b, Keccak256Digest keccak, byte[] scratch,
+                             byte[] message, int ofs, int len, int dest) {
+            if (keccak != null) {
+                secureHash(blake2b, keccak, scratch, message, ofs, len, out, dest);
+            } else {
+                blake2b(blake2b, message, ofs, len, out, dest);
+            }
+        }
+    }
+
+    // The Blake2b result goes through the context's scratch buffer and always fits a single Keccak block.
+    private static int secureHash(Blake2b256Digest blake2b, Keccak256Digest keccak, byte[] scratch,
+                                  byte[] message, int ofs, int len, byte[] out, int outOfs) {
+        blake2b(blake2b, message, ofs, len, scratch, 0);
+        return keccak.digestSingleBlock(scratch, 0, DIGEST_SIZE, out, outOfs);
+    }
+
+    private static int blake2b(Blake2b256Digest blake2b, byte[] message, int ofs, int len, byte[] out, int outOfs) {
+        if (len <= Blake2b256Digest.BLOCK_SIZE) {
+            return blake2b.digestSingleBlock(message, ofs, len, out, outOfs);
+        }
+        blake2b.reset();
+        blake2b.update(message, ofs, len);
+        return blake2b.doFinal(out, outOfs);
+    }
+
+    // Streaming digests are reset first so that a call which failed half way cannot leave state behind.
+    private static int hash(Digest digest, byte[] scratch, ByteBuffer message, byte[] out, int outOfs) {
+        digest.reset();
+        update(digest, scratch, message);
+        return digest.doFinal(out, outOfs);
+    }
+
+    private static int digest(MessageDigest digest, byte[] out, int outOfs) {
+        try {
+            return digest.digest(out, outOfs, digest.getDigestLength());
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Consumes the remaining bytes of the buffer; direct buffers are copied through the scratch buffer.
+    private static void update(Digest digest, byte[] scratch, ByteBuffer message) {
+        final int len = message.remaining();
+        if (message.hasArray()) {
+            digest.update(message.array(), message.arrayOffset() + message.position(), len);
+            message.position(message.limit());
+            return;
+        }
+        while (message.hasRemaining()) {
+            final int chunk = Math.min(scratch.length, message.remaining());
+            message.get(scratch, 0, chunk);
+            digest.update(scratch, 0, chunk);
+        }
+    }
+
+    private static void checkOutput(byte[] out, int outOfs, int size) {
+        if (outOfs < 0 || out.length - outOfs < size) {
+            throw new IllegalArgumentException(String.format("Output buffer too small: %d bytes required", size));
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package tv.systems.utils;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// The digests and scratch buffer one hashing call needs, handed out either per thread or from a shared pool.
+final class HashContext {
+
+    static final String CACHE_PROPERTY = "tv.systems.hash.digestCache";
+
+    static final int SCRATCH_SIZE = 512;
+
+    private static final ThreadLocal<HashContext> THREAD_CONTEXT = new ThreadLocal<HashContext>();
+    private static final Pool POOL = new Pool(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+
+    private static volatile Hash.DigestCache cache = initialCache();
+
+    final byte[] scratch = new byte[SCRATCH_SIZE];
+
+    private final boolean pooled;
+    private Blake2b256Digest blake2b;
+    private Keccak256Digest keccak;
+    private SHA256Digest sha256;
+    private MessageDigest jdkSha256;
+
+    private HashContext(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    Blake2b256Digest blake2b() {
+        if (blake2b == null) {
+            blake2b = new Blake2b256Digest();
+        }
+        return blake2b;
+    }
+
+    Keccak256Digest keccak() {
+        if (keccak == null) {
+            keccak = new Keccak256Digest();
+        }
+        return keccak;
+    }
+
+    SHA256Digest sha256() {
+        if (sha256 == null) {
+            sha256 = new SHA256Digest();
+        }
+        return sha256;
+    }
+
+    MessageDigest jdkSha256() {
+        if (jdkSha256 == null) {
+            try {
+                jdkSha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return jdkSha256;
+    }
+
+    static Hash.DigestCache getCache() {
+        return cache;
+    }
+
+    static void setCache(Hash.DigestCache digestCache) {
+        if (digestCache == null) {
+            throw new IllegalArgumentException("Digest cache must not be null");
+        }
+        cache = digestCache;
+    }
+
+    static HashContext acquire() {
+        if (cache == Hash.DigestCache.POOL) {
+            return POOL.take();
+        }
+        HashContext context = THREAD_CONTEXT.get();
+        if (context == null) {
+            context = new HashContext(false);
+            THREAD_CONTEXT.set(context);
+        }
+        return context;
+    }
+
+    // Contexts that came from the pool go back to it, whatever the current strategy is.
+    static void release(HashContext context) {
+        if (context.pooled) {
+            POOL.give(context);
+        }
+    }
+
+    private static Hash.DigestCache initialCache() {
+        String value = System.getProperty(CACHE_PROPERTY);
+        if (value == null || value.isEmpty()) {
+            return Hash.DigestCache.THREAD_LOCAL;
+        }
+        try {
+            return Hash.DigestCache.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Hash.DigestCache.THREAD_LOCAL;
+        }
+    }
+
+    // Fixed slots claimed and returned with compare-and-set; callers that find it empty get a fresh context, and
+    // contexts returned to a full pool are dropped, so the pool never holds more than its slot count.
+    private static final class Pool {
+        private final AtomicReferenceArray<HashContext> slots;
+
+        Pool(int size) {
+            slots = new AtomicReferenceArray<HashContext>(size);
+        }
+
+        HashContext take() {
+            final int size = slots.length();
+            final int start = start(size);
+            for (int i = 0; i < size; i++) {
+                final int slot = (start + i) % size;
+                final HashContext context = slots.get(slot);
+                if (context != null && slots.compareAndSet(slot, context, null)) {
+                    return context;
+                }
+            }
+            return new HashContext(true);
+        }
+
+        void give(HashContext context) {
+            final int size = slots.length();
+            final int start = start(size);
+            for (int i = 0; i < size; i++) {
+                final int slot = (start + i) % size;
+                if (slots.get(slot) == null && slots.compareAndSet(slot, null, context)) {
+                    return;
+                }
+            }
+        }
+
+        private static int start(int size) {
+            final long id = Thread.currentThread().getId();
+            return (int) ((id ^ (id >>> 32)) & 0x7fffffff) % size;
+        }
+    }
+}
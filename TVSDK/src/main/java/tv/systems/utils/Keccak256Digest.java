@@ -0,0 +1,337 @@
+package tv.systems.utils;
+
+import org.bouncycastle.crypto.ExtendedDigest;
+
+import java.util.Arrays;
+
+/**
+ * Keccak-256 (the original Keccak padding, not SHA3-256), as used for the second half of {@link Hash#secureHash}.
+ * <p>
+ * Produces the same output as {@code new KeccakDigest(256)}. Full blocks are absorbed straight from the
+ * caller's array, the permutation runs two rounds per iteration over local lanes, and the digest is squeezed
+ * directly into the output, so hashing allocates nothing.
+ */
+public class Keccak256Digest implements ExtendedDigest {
+
+    public static final int DIGEST_SIZE = 32;
+    public static final int RATE = 136;
+
+    private static final int RATE_LANES = RATE / 8;
+
+    static final long[] ROUND_CONSTANTS = {
+            0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+            0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+            0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+            0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+            0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+            0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+    };
+
+    private final long[] state = new long[25];
+    private final byte[] buffer = new byte[RATE];
+    private int bufferPos;
+
+    @Override
+    public String getAlgorithmName() {
+        return "Keccak-256";
+    }
+
+    @Override
+    public int getDigestSize() {
+        return DIGEST_SIZE;
+    }
+
+    @Override
+    public int getByteLength() {
+        return RATE;
+    }
+
+    @Override
+    public void update(byte in) {
+        buffer[bufferPos++] = in;
+        if (bufferPos == RATE) {
+            absorb(state, buffer, 0);
+            bufferPos = 0;
+        }
+    }
+
+    @Override
+    public void update(byte[] in, int inOff, int len) {
+        if (len <= 0) {
+            return;
+        }
+        if (bufferPos != 0) {
+            int fill = Math.min(RATE - bufferPos, len);
+            System.arraycopy(in, inOff, buffer, bufferPos, fill);
+            bufferPos += fill;
+            inOff += fill;
+            len -= fill;
+            if (bufferPos < RATE) {
+                return;
+            }
+            absorb(state, buffer, 0);
+            bufferPos = 0;
+        }
+        while (len >= RATE) {
+            absorb(state, in, inOff);
+            inOff += RATE;
+            len -= RATE;
+        }
+        System.arraycopy(in, inOff, buffer, 0, len);
+        bufferPos = len;
+    }
+
+    @Override
+    public int doFinal(byte[] out, int outOff) {
+        final long[] state = this.state;
+        int pos = bufferPos;
+        int lane = 0;
+        for (; pos >= 8; pos -= 8, lane++) {
+            state[lane] ^= Blake2b256Digest.load(buffer, lane * 8);
+        }
+        long last = 0L;
+        for (int i = 0; i < pos; i++) {
+            last |= (buffer[lane * 8 + i] & 0xFFL) << (8 * i);
+        }
+        state[lane] ^= last | 1L << (8 * pos);
+        state[RATE_LANES - 1] ^= 1L << 63;
+        permute(state);
+        Blake2b256Digest.store(out, outOff, state[0]);
+        Blake2b256Digest.store(out, outOff + 8, state[1]);
+        Blake2b256Digest.store(out, outOff + 16, state[2]);
+        Blake2b256Digest.store(out, outOff + 24, state[3]);
+        reset();
+        return DIGEST_SIZE;
+    }
+
+    /**
+     * Hashes a message shorter than the rate with a single permutation, reading it straight from {@code in}.
+     * Any data passed to {@link #update} before is discarded.
+     */
+    public int digestSingleBlock(byte[] in, int inOff, int len, byte[] out, int outOff) {
+        if (len < 0 || len >= RATE) {
+            throw new IllegalArgumentException("Message does not fit in a single block");
+        }
+        final long[] state = this.state;
+        Arrays.fill(state, 0L);
+        int lane = 0;
+        for (; len >= 8; len -= 8, lane++) {
+            state[lane] = Blake2b256Digest.load(in, inOff + lane * 8);
+        }
+        long last = 0L;
+        for (int i = 0; i < len; i++) {
+            last |= (in[inOff + lane * 8 + i] & 0xFFL) << (8 * i);
+        }
+        state[lane] = last | 1L << (8 * len);
+        state[RATE_LANES - 1] ^= 1L << 63;
+        permute(state);
+        Blake2b256Digest.store(out, outOff, state[0]);
+        Blake2b256Digest.store(out, outOff + 8, state[1]);
+        Blake2b256Digest.store(out, outOff + 16, state[2]);
+        Blake2b256Digest.store(out, outOff + 24, state[3]);
+        reset();
+        return DIGEST_SIZE;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(state, 0L);
+        bufferPos = 0;
+    }
+
+    static void absorb(long[] state, byte[] in, int off) {
+        for (int i = 0; i < RATE_LANES; i++) {
+            state[i] ^= Blake2b256Digest.load(in, off + i * 8);
+        }
+        permute(state);
+    }
+
+    static void permute(long[] A) {
+        long a00 = A[0], a01 = A[1], a02 = A[2], a03 = A[3], a04 = A[4];
+        long a05 = A[5], a06 = A[6], a07 = A[7], a08 = A[8], a09 = A[9];
+        long a10 = A[10], a11 = A[11], a12 = A[12], a13 = A[13], a14 = A[14];
+        long a15 = A[15], a16 = A[16], a17 = A[17], a18 = A[18], a19 = A[19];
+        long a20 = A[20], a21 = A[21], a22 = A[22], a23 = A[23], a24 = A[24];
+        long c0, c1, c2, c3, c4, d0, d1, d2, d3, d4;
+
+        for (int round = 0; round < 24; round += 2) {
+            // theta
+            c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+            c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+            c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+            c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+            c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+
+            d0 = Long.rotateLeft(c1, 1) ^ c4;
+            d1 = Long.rotateLeft(c2, 1) ^ c0;
+            d2 = Long.rotateLeft(c3, 1) ^ c1;
+            d3 = Long.rotateLeft(c4, 1) ^ c2;
+            d4 = Long.rotateLeft(c0, 1) ^ c3;
+
+            a00 ^= d0; a05 ^= d0; a10 ^= d0; a15 ^= d0; a20 ^= d0;
+            a01 ^= d1; a06 ^= d1; a11 ^= d1; a16 ^= d1; a21 ^= d1;
+            a02 ^= d2; a07 ^= d2; a12 ^= d2; a17 ^= d2; a22 ^= d2;
+            a03 ^= d3; a08 ^= d3; a13 ^= d3; a18 ^= d3; a23 ^= d3;
+            a04 ^= d4; a09 ^= d4; a14 ^= d4; a19 ^= d4; a24 ^= d4;
+
+            // rho and pi
+            c1 = Long.rotateLeft(a01, 1);
+            a01 = Long.rotateLeft(a06, 44);
+            a06 = Long.rotateLeft(a09, 20);
+            a09 = Long.rotateLeft(a22, 61);
+            a22 = Long.rotateLeft(a14, 39);
+            a14 = Long.rotateLeft(a20, 18);
+            a20 = Long.rotateLeft(a02, 62);
+            a02 = Long.rotateLeft(a12, 43);
+            a12 = Long.rotateLeft(a13, 25);
+            a13 = Long.rotateLeft(a19, 8);
+            a19 = Long.rotateLeft(a23, 56);
+            a23 = Long.rotateLeft(a15, 41);
+            a15 = Long.rotateLeft(a04, 27);
+            a04 = Long.rotateLeft(a24, 14);
+            a24 = Long.rotateLeft(a21, 2);
+            a21 = Long.rotateLeft(a08, 55);
+            a08 = Long.rotateLeft(a16, 45);
+            a16 = Long.rotateLeft(a05, 36);
+            a05 = Long.rotateLeft(a03, 28);
+            a03 = Long.rotateLeft(a18, 21);
+            a18 = Long.rotateLeft(a17, 15);
+            a17 = Long.rotateLeft(a11, 10);
+            a11 = Long.rotateLeft(a07, 6);
+            a07 = Long.rotateLeft(a10, 3);
+            a10 = c1;
+
+            // chi
+            c0 = a00 ^ (~a01 & a02);
+            c1 = a01 ^ (~a02 & a03);
+            a02 ^= ~a03 & a04;
+            a03 ^= ~a04 & a00;
+            a04 ^= ~a00 & a01;
+            a00 = c0;
+            a01 = c1;
+            c0 = a05 ^ (~a06 & a07);
+            c1 = a06 ^ (~a07 & a08);
+            a07 ^= ~a08 & a09;
+            a08 ^= ~a09 & a05;
+            a09 ^= ~a05 & a06;
+            a05 = c0;
+            a06 = c1;
+            c0 = a10 ^ (~a11 & a12);
+            c1 = a11 ^ (~a12 & a13);
+            a12 ^= ~a13 & a14;
+            a13 ^= ~a14 & a10;
+            a14 ^= ~a10 & a11;
+            a10 = c0;
+            a11 = c1;
+            c0 = a15 ^ (~a16 & a17);
+            c1 = a16 ^ (~a17 & a18);
+            a17 ^= ~a18 & a19;
+            a18 ^= ~a19 & a15;
+            a19 ^= ~a15 & a16;
+            a15 = c0;
+            a16 = c1;
+            c0 = a20 ^ (~a21 & a22);
+            c1 = a21 ^ (~a22 & a23);
+            a22 ^= ~a23 & a24;
+            a23 ^= ~a24 & a20;
+            a24 ^= ~a20 & a21;
+            a20 = c0;
+            a21 = c1;
+
+            // iota
+            a00 ^= ROUND_CONSTANTS[round];
+
+            // theta
+            c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+            c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+            c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+            c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+            c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+
+            d0 = Long.rotateLeft(c1, 1) ^ c4;
+            d1 = Long.rotateLeft(c2, 1) ^ c0;
+            d2 = Long.rotateLeft(c3, 1) ^ c1;
+            d3 = Long.rotateLeft(c4, 1) ^ c2;
+            d4 = Long.rotateLeft(c0, 1) ^ c3;
+
+            a00 ^= d0; a05 ^= d0; a10 ^= d0; a15 ^= d0; a20 ^= d0;
+            a01 ^= d1; a06 ^= d1; a11 ^= d1; a16 ^= d1; a21 ^= d1;
+            a02 ^= d2; a07 ^= d2; a12 ^= d2; a17 ^= d2; a22 ^= d2;
+            a03 ^= d3; a08 ^= d3; a13 ^= d3; a18 ^= d3; a23 ^= d3;
+            a04 ^= d4; a09 ^= d4; a14 ^= d4; a19 ^= d4; a24 ^= d4;
+
+            // rho and pi
+            c1 = Long.rotateLeft(a01, 1);
+            a01 = Long.rotateLeft(a06, 44);
+            a06 = Long.rotateLeft(a09, 20);
+            a09 = Long.rotateLeft(a22, 61);
+            a22 = Long.rotateLeft(a14, 39);
+            a14 = Long.rotateLeft(a20, 18);
+            a20 = Long.rotateLeft(a02, 62);
+            a02 = Long.rotateLeft(a12, 43);
+            a12 = Long.rotateLeft(a13, 25);
+            a13 = Long.rotateLeft(a19, 8);
+            a19 = Long.rotateLeft(a23, 56);
+            a23 = Long.rotateLeft(a15, 41);
+            a15 = Long.rotateLeft(a04, 27);
+            a04 = Long.rotateLeft(a24, 14);
+            a24 = Long.rotateLeft(a21, 2);
+            a21 = Long.rotateLeft(a08, 55);
+            a08 = Long.rotateLeft(a16, 45);
+            a16 = Long.rotateLeft(a05, 36);
+            a05 = Long.rotateLeft(a03, 28);
+            a03 = Long.rotateLeft(a18, 21);
+            a18 = Long.rotateLeft(a17, 15);
+            a17 = Long.rotateLeft(a11, 10);
+            a11 = Long.rotateLeft(a07, 6);
+            a07 = Long.rotateLeft(a10, 3);
+            a10 = c1;
+
+            // chi
+            c0 = a00 ^ (~a01 & a02);
+            c1 = a01 ^ (~a02 & a03);
+            a02 ^= ~a03 & a04;
+            a03 ^= ~a04 & a00;
+            a04 ^= ~a00 & a01;
+            a00 = c0;
+            a01 = c1;
+            c0 = a05 ^ (~a06 & a07);
+            c1 = a06 ^ (~a07 & a08);
+            a07 ^= ~a08 & a09;
+            a08 ^= ~a09 & a05;
+            a09 ^= ~a05 & a06;
+            a05 = c0;
+            a06 = c1;
+            c0 = a10 ^ (~a11 & a12);
+            c1 = a11 ^ (~a12 & a13);
+            a12 ^= ~a13 & a14;
+            a13 ^= ~a14 & a10;
+            a14 ^= ~a10 & a11;
+            a10 = c0;
+            a11 = c1;
+            c0 = a15 ^ (~a16 & a17);
+            c1 = a16 ^ (~a17 & a18);
+            a17 ^= ~a18 & a19;
+            a18 ^= ~a19 & a15;
+            a19 ^= ~a15 & a16;
+            a15 = c0;
+            a16 = c1;
+            c0 = a20 ^ (~a21 & a22);
+            c1 = a21 ^ (~a22 & a23);
+            a22 ^= ~a23 & a24;
+            a23 ^= ~a24 & a20;
+            a24 ^= ~a20 & a21;
+            a20 = c0;
+            a21 = c1;
+
+            // iota
+            a00 ^= ROUND_CONSTANTS[round + 1];
+        }
+
+        A[0] = a00; A[1] = a01; A[2] = a02; A[3] = a03; A[4] = a04;
+        A[5] = a05; A[6] = a06; A[7] = a07; A[8] = a08; A[9] = a09;
+        A[10] = a10; A[11] = a11; A[12] = a12; A[13] = a13; A[14] = a14;
+        A[15] = a15; A[16] = a16; A[17] = a17; A[18] = a18; A[19] = a19;
+        A[20] = a20; A[21] = a21; A[22] = a22; A[23] = a23; A[24] = a24;
+    }
+}
@@ -0,0 +1,43 @@
+package tv.systems.utils;
+
+// Hashes several independent messages at once, one message per SIMD lane. The only engine is built on
+// jdk.incubator.vector and lives in src/main/java17 (META-INF/versions/17 of the jar); it is used when the JVM
+// runs with --add-modules jdk.incubator.vector. Everywhere else the engine is absent and the batch APIs of Hash
+// hash one message at a time. Setting the system property "tv.systems.hash.lanes" to "false" turns it off.
+abstract class MultiLaneHash {
+
+    static final String LANES_PROPERTY = "tv.systems.hash.lanes";
+
+    private static final String ENGINE_CLASS = "tv.systems.utils.VectorLaneHash";
+
+    private static final MultiLaneHash ENGINE = load();
+
+    // The engine, or null when the batch APIs have to hash message by message.
+    static MultiLaneHash engine() {
+        return ENGINE;
+    }
+
+    // Messages per vector; batches shorter than this are not worth the transposition.
+    abstract int lanes();
+
+    // Hashes message i, arrays[i][offsets[i], offsets[i] + lengths[i]), for i < count. Digest i is written to
+    // out at outOfs + i * Hash.DIGEST_SIZE, as Keccak-256(Blake2b-256(m)) when secure, else as Blake2b-256(m).
+    abstract void hash(boolean secure, byte[][] arrays, int[] offsets, int[] lengths, int count,
+                       byte[] out, int outOfs);
+
+    // The engine class is missing before Java 17 and fails to link without the incubator module; both fall back.
+    private static MultiLaneHash load() {
+        if ("false".equalsIgnoreCase(System.getProperty(LANES_PROPERTY, "").trim())) {
+            return null;
+        }
+        try {
+            return (MultiLaneHash) Class.forName(ENGINE_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        } catch (LinkageError e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
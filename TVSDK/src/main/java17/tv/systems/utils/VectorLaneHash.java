@@ -0,0 +1,322 @@
+package tv.systems.utils;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+import static jdk.incubator.vector.VectorOperators.AND_NOT;
+import static jdk.incubator.vector.VectorOperators.ROL;
+import static jdk.incubator.vector.VectorOperators.ROR;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+// Blake2b-256 and Keccak-256 over the lanes of the preferred long vector: lane l of every state word belongs to
+// message l of a group, so one compression or permutation advances a whole group. Messages are ordered by block
+// count first so that the lanes of a group finish together; lanes that are already done keep their chain value.
+final class VectorLaneHash extends MultiLaneHash {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private static final int BLOCK_SIZE = Blake2b256Digest.BLOCK_SIZE;
+    private static final int KECCAK_RATE_LANES = Keccak256Digest.RATE / 8;
+
+    private static final byte[][] SIGMA = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+            {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3},
+            {11, 8, 12, 0, 5, 2, 15, 13, 10, 14, 3, 6, 7, 1, 9, 4},
+            {7, 9, 3, 1, 13, 12, 11, 14, 2, 6, 5, 10, 4, 0, 15, 8},
+            {9, 0, 5, 7, 2, 4, 10, 15, 14, 1, 11, 12, 6, 8, 3, 13},
+            {2, 12, 6, 10, 0, 11, 8, 3, 4, 13, 7, 5, 15, 14, 1, 9},
+            {12, 5, 1, 15, 14, 13, 4, 10, 0, 7, 6, 3, 9, 2, 8, 11},
+            {13, 11, 7, 14, 12, 1, 3, 9, 5, 0, 15, 4, 8, 6, 2, 10},
+            {6, 15, 14, 9, 11, 3, 0, 8, 12, 2, 13, 7, 1, 4, 10, 5},
+            {10, 2, 8, 4, 7, 6, 1, 5, 15, 11, 9, 14, 3, 12, 13, 0},
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+            {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3}
+    };
+
+    VectorLaneHash() {
+        // a single lane is the scalar path with extra copying
+        if (LANES < 2) {
+            throw new UnsupportedOperationException("No long vectors on this platform");
+        }
+    }
+
+    @Override
+    int lanes() {
+        return LANES;
+    }
+
+    @Override
+    void hash(boolean secure, byte[][] arrays, int[] offsets, int[] lengths, int count, byte[] out, int outOfs) {
+        final long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (long) blocks(lengths[i]) << 32 | i;
+        }
+        Arrays.sort(order);
+
+        final int[] group = new int[LANES];
+        final long[] h = new long[8 * LANES];
+        final long[] m = new long[16 * LANES];
+        final long[] v = new long[16 * LANES];
+        final long[] a = new long[25 * LANES];
+        final long[] counter = new long[LANES];
+        final long[] finalFlag = new long[LANES];
+        final boolean[] active = new boolean[LANES];
+        for (int start = 0; start < count; start += LANES) {
+            final int size = Math.min(LANES, count - start);
+            for (int l = 0; l < size; l++) {
+                group[l] = (int) order[start + l];
+            }
+            blake2b(arrays, offsets, lengths, group, size, h, m, v, counter, finalFlag, active);
+            if (secure) {
+                keccak(h, a);
+                store(a, group, size, out, outOfs);
+            } else {
+                store(h, group, size, out, outOfs);
+            }
+        }
+    }
+
+    private static int blocks(int length) {
+        return Math.max(1, (length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    // Leaves the Blake2b-256 chain values of the group in h; lanes past size hash nothing and are ignored.
+    private static void blake2b(byte[][] arrays, int[] offsets, int[] lengths, int[] group, int size,
+                                long[] h, long[] m, long[] v, long[] counter, long[] finalFlag, boolean[] active) {
+        final long[] iv = {
+                Blake2b256Digest.IV0 ^ Blake2b256Digest.PARAM0, Blake2b256Digest.IV1, Blake2b256Digest.IV2,
+                Blake2b256Digest.IV3, Blake2b256Digest.IV4, Blake2b256Digest.IV5, Blake2b256Digest.IV6,
+                Blake2b256Digest.IV7
+        };
+        for (int w = 0; w < 8; w++) {
+            Arrays.fill(h, w * LANES, (w + 1) * LANES, iv[w]);
+        }
+        // sorted by block count, so the last lane has the most blocks
+        final int blocks = blocks(lengths[group[size - 1]]);
+        for (int b = 0; b < blocks; b++) {
+            for (int l = 0; l < LANES; l++) {
+                final int length = l < size ? lengths[group[l]] : 0;
+                final int last = blocks(length) - 1;
+                active[l] = l < size && b <= last;
+                if (!active[l]) {
+                    for (int w = 0; w < 16; w++) {
+                        m[w * LANES + l] = 0L;
+                    }
+                    counter[l] = 0L;
+                    finalFlag[l] = 0L;
+                    continue;
+                }
+                final byte[] in = arrays[group[l]];
+                final int off = offsets[group[l]] + b * BLOCK_SIZE;
+                final int avail = Math.min(BLOCK_SIZE, length - b * BLOCK_SIZE);
+                int w = 0;
+                for (; w * 8 + 8 <= avail; w++) {
+                    m[w * LANES + l] = Blake2b256Digest.load(in, off + w * 8);
+                }
+                if (w < 16) {
+                    long word = 0L;
+                    for (int i = w * 8; i < avail; i++) {
+                        word |= (in[off + i] & 0xFFL) << (8 * (i - w * 8));
+                    }
+                    m[w * LANES + l] = word;
+                    for (w++; w < 16; w++) {
+                        m[w * LANES + l] = 0L;
+                    }
+                }
+                counter[l] = b == last ? length : (long) (b + 1) * BLOCK_SIZE;
+                finalFlag[l] = b == last ? -1L : 0L;
+            }
+            compress(h, m, v, counter, finalFlag, VectorMask.fromArray(SPECIES, active, 0));
+        }
+    }
+
+    // The working vector lives in v between the mixing steps: with more of a round in one method, C2 hits its
+    // inlining node limit and falls back to boxed vectors.
+    private static void compress(long[] h, long[] m, long[] v, long[] counter, long[] finalFlag,
+                                 VectorMask<Long> active) {
+        System.arraycopy(h, 0, v, 0, 8 * LANES);
+        Arrays.fill(v, 8 * LANES, 9 * LANES, Blake2b256Digest.IV0);
+        Arrays.fill(v, 9 * LANES, 10 * LANES, Blake2b256Digest.IV1);
+        Arrays.fill(v, 10 * LANES, 11 * LANES, Blake2b256Digest.IV2);
+        Arrays.fill(v, 11 * LANES, 12 * LANES, Blake2b256Digest.IV3);
+        for (int l = 0; l < LANES; l++) {
+            v[12 * LANES + l] = Blake2b256Digest.IV4 ^ counter[l];
+            v[14 * LANES + l] = Blake2b256Digest.IV6 ^ finalFlag[l];
+        }
+        Arrays.fill(v, 13 * LANES, 14 * LANES, Blake2b256Digest.IV5);
+        Arrays.fill(v, 15 * LANES, 16 * LANES, Blake2b256Digest.IV7);
+
+        for (int r = 0; r < 12; r++) {
+            final byte[] s = SIGMA[r];
+            mix(v, m, 0, 4, 8, 12, s[0], s[1]);
+            mix(v, m, 1, 5, 9, 13, s[2], s[3]);
+            mix(v, m, 2, 6, 10, 14, s[4], s[5]);
+            mix(v, m, 3, 7, 11, 15, s[6], s[7]);
+            mix(v, m, 0, 5, 10, 15, s[8], s[9]);
+            mix(v, m, 1, 6, 11, 12, s[10], s[11]);
+            mix(v, m, 2, 7, 8, 13, s[12], s[13]);
+            mix(v, m, 3, 4, 9, 14, s[14], s[15]);
+        }
+
+        for (int w = 0; w < 8; w++) {
+            final LongVector hw = LongVector.fromArray(SPECIES, h, w * LANES);
+            hw.blend(hw.lanewise(XOR, word(v, w)).lanewise(XOR, word(v, w + 8)), active).intoArray(h, w * LANES);
+        }
+    }
+
+    // The Blake2b G function on words a, b, c, d of the working vector with message words x and y.
+    private static void mix(long[] v, long[] m, int a, int b, int c, int d, int x, int y) {
+        LongVector va = word(v, a), vb = word(v, b), vc = word(v, c), vd = word(v, d);
+        va = va.add(vb).add(word(m, x)); vd = vd.lanewise(XOR, va).lanewise(ROR, 32);
+        vc = vc.add(vd); vb = vb.lanewise(XOR, vc).lanewise(ROR, 24);
+        va = va.add(vb).add(word(m, y)); vd = vd.lanewise(XOR, va).lanewise(ROR, 16);
+        vc = vc.add(vd); vb = vb.lanewise(XOR, vc).lanewise(ROR, 63);
+        va.intoArray(v, a * LANES);
+        vb.intoArray(v, b * LANES);
+        vc.intoArray(v, c * LANES);
+        vd.intoArray(v, d * LANES);
+    }
+
+    private static LongVector word(long[] m, int index) {
+        return LongVector.fromArray(SPECIES, m, index * LANES);
+    }
+
+    // Keccak-256 of the 32-byte digests in the first four words of h, which always fit one block.
+    private static void keccak(long[] h, long[] a) {
+        Arrays.fill(a, 0L);
+        System.arraycopy(h, 0, a, 0, 4 * LANES);
+        Arrays.fill(a, 4 * LANES, 5 * LANES, 1L);
+        Arrays.fill(a, (KECCAK_RATE_LANES - 1) * LANES, KECCAK_RATE_LANES * LANES, 1L << 63);
+        permute(a);
+    }
+
+    private static void permute(long[] A) {
+        LongVector a00 = LongVector.fromArray(SPECIES, A, 0), a01 = LongVector.fromArray(SPECIES, A, LANES);
+        LongVector a02 = LongVector.fromArray(SPECIES, A, 2 * LANES), a03 = LongVector.fromArray(SPECIES, A, 3 * LANES);
+        LongVector a04 = LongVector.fromArray(SPECIES, A, 4 * LANES), a05 = LongVector.fromArray(SPECIES, A, 5 * LANES);
+        LongVector a06 = LongVector.fromArray(SPECIES, A, 6 * LANES), a07 = LongVector.fromArray(SPECIES, A, 7 * LANES);
+        LongVector a08 = LongVector.fromArray(SPECIES, A, 8 * LANES), a09 = LongVector.fromArray(SPECIES, A, 9 * LANES);
+        LongVector a10 = LongVector.fromArray(SPECIES, A, 10 * LANES), a11 = LongVector.fromArray(SPECIES, A, 11 * LANES);
+        LongVector a12 = LongVector.fromArray(SPECIES, A, 12 * LANES), a13 = LongVector.fromArray(SPECIES, A, 13 * LANES);
+        LongVector a14 = LongVector.fromArray(SPECIES, A, 14 * LANES), a15 = LongVector.fromArray(SPECIES, A, 15 * LANES);
+        LongVector a16 = LongVector.fromArray(SPECIES, A, 16 * LANES), a17 = LongVector.fromArray(SPECIES, A, 17 * LANES);
+        LongVector a18 = LongVector.fromArray(SPECIES, A, 18 * LANES), a19 = LongVector.fromArray(SPECIES, A, 19 * LANES);
+        LongVector a20 = LongVector.fromArray(SPECIES, A, 20 * LANES), a21 = LongVector.fromArray(SPECIES, A, 21 * LANES);
+        LongVector a22 = LongVector.fromArray(SPECIES, A, 22 * LANES), a23 = LongVector.fromArray(SPECIES, A, 23 * LANES);
+        LongVector a24 = LongVector.fromArray(SPECIES, A, 24 * LANES);
+        LongVector c0, c1, c2, c3, c4, d0, d1, d2, d3, d4;
+
+        for (int round = 0; round < 24; round++) {
+            // theta
+            c0 = a00.lanewise(XOR, a05).lanewise(XOR, a10).lanewise(XOR, a15).lanewise(XOR, a20);
+            c1 = a01.lanewise(XOR, a06).lanewise(XOR, a11).lanewise(XOR, a16).lanewise(XOR, a21);
+            c2 = a02.lanewise(XOR, a07).lanewise(XOR, a12).lanewise(XOR, a17).lanewise(XOR, a22);
+            c3 = a03.lanewise(XOR, a08).lanewise(XOR, a13).lanewise(XOR, a18).lanewise(XOR, a23);
+            c4 = a04.lanewise(XOR, a09).lanewise(XOR, a14).lanewise(XOR, a19).lanewise(XOR, a24);
+
+            d0 = c1.lanewise(ROL, 1).lanewise(XOR, c4);
+            d1 = c2.lanewise(ROL, 1).lanewise(XOR, c0);
+            d2 = c3.lanewise(ROL, 1).lanewise(XOR, c1);
+            d3 = c4.lanewise(ROL, 1).lanewise(XOR, c2);
+            d4 = c0.lanewise(ROL, 1).lanewise(XOR, c3);
+
+            a00 = a00.lanewise(XOR, d0); a05 = a05.lanewise(XOR, d0); a10 = a10.lanewise(XOR, d0);
+            a15 = a15.lanewise(XOR, d0); a20 = a20.lanewise(XOR, d0);
+            a01 = a01.lanewise(XOR, d1); a06 = a06.lanewise(XOR, d1); a11 = a11.lanewise(XOR, d1);
+            a16 = a16.lanewise(XOR, d1); a21 = a21.lanewise(XOR, d1);
+            a02 = a02.lanewise(XOR, d2); a07 = a07.lanewise(XOR, d2); a12 = a12.lanewise(XOR, d2);
+            a17 = a17.lanewise(XOR, d2); a22 = a22.lanewise(XOR, d2);
+            a03 = a03.lanewise(XOR, d3); a08 = a08.lanewise(XOR, d3); a13 = a13.lanewise(XOR, d3);
+            a18 = a18.lanewise(XOR, d3); a23 = a23.lanewise(XOR, d3);
+            a04 = a04.lanewise(XOR, d4); a09 = a09.lanewise(XOR, d4); a14 = a14.lanewise(XOR, d4);
+            a19 = a19.lanewise(XOR, d4); a24 = a24.lanewise(XOR, d4);
+
+            // rho and pi
+            c1 = a01.lanewise(ROL, 1);
+            a01 = a06.lanewise(ROL, 44);
+            a06 = a09.lanewise(ROL, 20);
+            a09 = a22.lanewise(ROL, 61);
+            a22 = a14.lanewise(ROL, 39);
+            a14 = a20.lanewise(ROL, 18);
+            a20 = a02.lanewise(ROL, 62);
+            a02 = a12.lanewise(ROL, 43);
+            a12 = a13.lanewise(ROL, 25);
+            a13 = a19.lanewise(ROL, 8);
+            a19 = a23.lanewise(ROL, 56);
+            a23 = a15.lanewise(ROL, 41);
+            a15 = a04.lanewise(ROL, 27);
+            a04 = a24.lanewise(ROL, 14);
+            a24 = a21.lanewise(ROL, 2);
+            a21 = a08.lanewise(ROL, 55);
+            a08 = a16.lanewise(ROL, 45);
+            a16 = a05.lanewise(ROL, 36);
+            a05 = a03.lanewise(ROL, 28);
+            a03 = a18.lanewise(ROL, 21);
+            a18 = a17.lanewise(ROL, 15);
+            a17 = a11.lanewise(ROL, 10);
+            a11 = a07.lanewise(ROL, 6);
+            a07 = a10.lanewise(ROL, 3);
+            a10 = c1;
+
+            // chi: x.lanewise(AND_NOT, y) is x & ~y
+            c0 = a00.lanewise(XOR, a02.lanewise(AND_NOT, a01));
+            c1 = a01.lanewise(XOR, a03.lanewise(AND_NOT, a02));
+            a02 = a02.lanewise(XOR, a04.lanewise(AND_NOT, a03));
+            a03 = a03.lanewise(XOR, a00.lanewise(AND_NOT, a04));
+            a04 = a04.lanewise(XOR, a01.lanewise(AND_NOT, a00));
+            a00 = c0;
+            a01 = c1;
+            c0 = a05.lanewise(XOR, a07.lanewise(AND_NOT, a06));
+            c1 = a06.lanewise(XOR, a08.lanewise(AND_NOT, a07));
+            a07 = a07.lanewise(XOR, a09.lanewise(AND_NOT, a08));
+            a08 = a08.lanewise(XOR, a05.lanewise(AND_NOT, a09));
+            a09 = a09.lanewise(XOR, a06.lanewise(AND_NOT, a05));
+            a05 = c0;
+            a06 = c1;
+            c0 = a10.lanewise(XOR, a12.lanewise(AND_NOT, a11));
+            c1 = a11.lanewise(XOR, a13.lanewise(AND_NOT, a12));
+            a12 = a12.lanewise(XOR, a14.lanewise(AND_NOT, a13));
+            a13 = a13.lanewise(XOR, a10.lanewise(AND_NOT, a14));
+            a14 = a14.lanewise(XOR, a11.lanewise(AND_NOT, a10));
+            a10 = c0;
+            a11 = c1;
+            c0 = a15.lanewise(XOR, a17.lanewise(AND_NOT, a16));
+            c1 = a16.lanewise(XOR, a18.lanewise(AND_NOT, a17));
+            a17 = a17.lanewise(XOR, a19.lanewise(AND_NOT, a18));
+            a18 = a18.lanewise(XOR, a15.lanewise(AND_NOT, a19));
+            a19 = a19.lanewise(XOR, a16.lanewise(AND_NOT, a15));
+            a15 = c0;
+            a16 = c1;
+            c0 = a20.lanewise(XOR, a22.lanewise(AND_NOT, a21));
+            c1 = a21.lanewise(XOR, a23.lanewise(AND_NOT, a22));
+            a22 = a22.lanewise(XOR, a24.lanewise(AND_NOT, a23));
+            a23 = a23.lanewise(XOR, a20.lanewise(AND_NOT, a24));
+            a24 = a24.lanewise(XOR, a21.lanewise(AND_NOT, a20));
+            a20 = c0;
+            a21 = c1;
+
+            // iota
+            a00 = a00.lanewise(XOR, Keccak256Digest.ROUND_CONSTANTS[round]);
+        }
+
+        // only the four digest words are read back
+        a00.intoArray(A, 0);
+        a01.intoArray(A, LANES);
+        a02.intoArray(A, 2 * LANES);
+        a03.intoArray(A, 3 * LANES);
+    }
+
+    // Writes the first four words of each lane of the group, little-endian, to the lane's message slot.
+    private static void store(long[] words, int[] group, int size, byte[] out, int outOfs) {
+        for (int l = 0; l < size; l++) {
+            final int dest = outOfs + group[l] * Hash.DIGEST_SIZE;
+            for (int w = 0; w < 4; w++) {
+                Blake2b256Digest.store(out, dest + w * 8, words[w * LANES + l]);
+            }
+        }
+    }
+}
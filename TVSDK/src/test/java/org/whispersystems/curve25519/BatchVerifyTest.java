@@ -0,0 +1,276 @@
+package org.whispersystems.curve25519;
+
+import org.junit.Test;
+import org.whispersystems.curve25519.java.curve_sigs;
+import org.whispersystems.curve25519.java.ge_add;
+import org.whispersystems.curve25519.java.ge_cached;
+import org.whispersystems.curve25519.java.ge_double_scalarmult;
+import org.whispersystems.curve25519.java.ge_frombytes;
+import org.whispersystems.curve25519.java.ge_p1p1;
+import org.whispersystems.curve25519.java.ge_p1p1_to_p3;
+import org.whispersystems.curve25519.java.ge_p2;
+import org.whispersystems.curve25519.java.ge_p3;
+import org.whispersystems.curve25519.java.ge_p3_dbl;
+import org.whispersystems.curve25519.java.ge_p3_to_cached;
+import org.whispersystems.curve25519.java.ge_p3_tobytes;
+import org.whispersystems.curve25519.java.ge_scalarmult_base;
+import org.whispersystems.curve25519.java.ge_tobytes;
+import org.whispersystems.curve25519.java.sc_muladd;
+import org.whispersystems.curve25519.java.sc_reduce;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchVerifyTest {
+
+  private static final int[]    BATCH_SIZES = {1, 3, 4, 8, 200};
+  private static final String[] PROVIDERS   = {Curve25519.JAVA, Curve25519.JAVA64};
+
+  /* A point of order 8 */
+  private static final byte[] ORDER_8 = fromHex("c7176a703d4dd84fba3c0b760d10670f2a2053fa2c39ccc64ec7fd7792ac037a");
+
+  private static byte[] fromHex(String hex) {
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte)Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+    }
+    return bytes;
+  }
+
+  /* u = 1 is Edwards y = 0, a point of order 4; R is the neutral element and s = 0 */
+  private static byte[] smallOrderKey() {
+    byte[] publicKey = new byte[32];
+    publicKey[0] = 1;
+    return publicKey;
+  }
+
+  private static byte[] neutralSignature() {
+    byte[] signature = new byte[64];
+    signature[0] = 1;
+    return signature;
+  }
+
+  private static byte[][] repeat(byte[] value, int count) {
+    byte[][] values = new byte[count][];
+    Arrays.fill(values, value);
+    return values;
+  }
+
+  private static byte[] encode(ge_p3 point) {
+    byte[] encoding = new byte[32];
+    ge_p3_tobytes.ge_p3_tobytes(encoding, point);
+    return encoding;
+  }
+
+  /*
+  An XEdDSA signature made like curve_sigs.curve25519_sign, except that the
+  commitment is R' = rB + T for T of order 8 instead of rB: s = r + h'a with
+  h' = H(R' || A || M) satisfies the cofactored equation 8sB = 8R' + 8h'A, but
+  the encoding of sB - h'A is that of rB, not R'.
+  */
+  private static byte[] torsionCommitmentSignature(byte[] privateKey, byte[] message, Random random)
+      throws NoSuchAlgorithmException
+  {
+    byte[] edPublicKey = new byte[32];
+    curve_sigs.curve25519_privkey_to_ed(edPublicKey, privateKey);
+
+    byte[] r = new byte[64];
+    random.nextBytes(r);
+    sc_reduce.sc_reduce(r);
+    r = Arrays.copyOf(r, 32);
+
+    ge_p3 rB = new ge_p3();
+    ge_scalarmult_base.ge_scalarmult_base(rB, r);
+
+    ge_p3     minusT = new ge_p3();
+    ge_cached cached = new ge_cached();
+    ge_p1p1   sum    = new ge_p1p1();
+    ge_p3     rPrime = new ge_p3();
+    assertEquals(0, ge_frombytes.ge_frombytes_negate_vartime(minusT, ORDER_8));
+    ge_p3_to_cached.ge_p3_to_cached(cached, minusT);
+    ge_add.ge_add(sum, rB, cached);
+    ge_p1p1_to_p3.ge_p1p1_to_p3(rPrime, sum);
+
+    MessageDigest sha512 = MessageDigest.getInstance("SHA-512");
+    byte[]        rBytes = encode(rPrime);
+    sha512.update(rBytes);
+    sha512.update(edPublicKey);
+    byte[] h = sha512.digest(message);
+    sc_reduce.sc_reduce(h);
+
+    byte[] s = new byte[32];
+    sc_muladd.sc_muladd(s, h, privateKey, r);
+
+    /* sB - h'A is exactly rB: only the torsion part of R' is off */
+    ge_p3  minusA = new ge_p3();
+    ge_p2  check  = new ge_p2();
+    byte[] honest = new byte[32];
+    assertEquals(0, ge_frombytes.ge_frombytes_negate_vartime(minusA, edPublicKey));
+    ge_double_scalarmult.ge_double_scalarmult_vartime(check, h, minusA, s);
+    ge_tobytes.ge_tobytes(honest, check);
+    assertArrayEquals(encode(rB), honest);
+    assertFalse(Arrays.equals(rBytes, honest));
+
+    byte[] signature = new byte[64];
+    System.arraycopy(rBytes, 0, signature, 0, 32);
+    System.arraycopy(s, 0, signature, 32, 32);
+    signature[63] &= 0x7F;
+    signature[63] |= (edPublicKey[31] & 0x80);
+    return signature;
+  }
+
+  @Test
+  public void order8PointHasOrder8() {
+    ge_p3   point   = new ge_p3();
+    ge_p1p1 t       = new ge_p1p1();
+    byte[]  neutral = new byte[32];
+    neutral[0] = 1;
+
+    assertEquals(0, ge_frombytes.ge_frombytes_negate_vartime(point, ORDER_8));
+    for (int i = 1; i <= 3; i++) {
+      ge_p3_dbl.ge_p3_dbl(t, point);
+      ge_p1p1_to_p3.ge_p1p1_to_p3(point, t);
+      assertEquals("2^" + i + " T", i == 3, Arrays.equals(neutral, encode(point)));
+    }
+  }
+
+  @Test
+  public void torsionCommitmentIsRejectedAloneAndInBatches() throws NoSuchAlgorithmException {
+    Random random = new Random(41);
+
+    for (String provider : PROVIDERS) {
+      Curve25519        curve   = Curve25519.getInstance(provider);
+      Curve25519KeyPair forger  = curve.generateKeyPair();
+      byte[]            message = "torsion".getBytes();
+      byte[]            forged  = torsionCommitmentSignature(forger.getPrivateKey(), message, random);
+
+      assertFalse(provider, curve.verifySignature(forger.getPublicKey(), message, forged));
+      assertFalse(provider, curve.verifySignature(curve.preparePublicKey(forger.getPublicKey()), message, forged));
+
+      for (int size : BATCH_SIZES) {
+        byte[][]  keys       = new byte[size][];
+        byte[][]  messages   = new byte[size][];
+        byte[][]  signatures = new byte[size][];
+        boolean[] expected   = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+          Curve25519KeyPair keyPair = curve.generateKeyPair();
+          keys[i]       = keyPair.getPublicKey();
+          messages[i]   = ("message " + i).getBytes();
+          signatures[i] = curve.calculateSignature(keyPair.getPrivateKey(), messages[i]);
+          expected[i]   = true;
+        }
+
+        int forgedAt = size / 2;
+        keys[forgedAt]       = forger.getPublicKey();
+        messages[forgedAt]   = message;
+        signatures[forgedAt] = forged;
+        expected[forgedAt]   = false;
+
+        assertArrayEquals(provider + ", batch of " + size, expected,
+                          curve.verifySignatures(keys, messages, signatures));
+      }
+    }
+  }
+
+  /* Whether this verifies alone depends on h mod 4; a batch must say the same at every size */
+  @Test
+  public void smallOrderKeyGetsTheSingleResultAtEveryBatchSize() {
+    for (String provider : PROVIDERS) {
+      Curve25519 curve     = Curve25519.getInstance(provider);
+      byte[]     key       = smallOrderKey();
+      byte[]     signature = neutralSignature();
+
+      for (int m = 0; m < 8; m++) {
+        byte[]  message = ("forged " + m).getBytes();
+        boolean single  = curve.verifySignature(key, message, signature);
+
+        assertEquals(single, curve.verifySignature(curve.preparePublicKey(key), message, signature));
+
+        for (int size : BATCH_SIZES) {
+          boolean[] expected = new boolean[size];
+          Arrays.fill(expected, single);
+          assertArrayEquals(provider + ", batch of " + size, expected,
+                            curve.verifySignatures(repeat(key, size), repeat(message, size), repeat(signature, size)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void honestSignaturesVerifyAtEveryBatchSize() {
+    for (String provider : PROVIDERS) {
+      Curve25519 curve = Curve25519.getInstance(provider);
+
+      for (int size : BATCH_SIZES) {
+        byte[][] keys       = new byte[size][];
+        byte[][] messages   = new byte[size][];
+        byte[][] signatures = new byte[size][];
+
+        for (int i = 0; i < size; i++) {
+          Curve25519KeyPair keyPair = curve.generateKeyPair();
+          keys[i]       = keyPair.getPublicKey();
+          messages[i]   = ("message " + i).getBytes();
+          signatures[i] = curve.calculateSignature(keyPair.getPrivateKey(), messages[i]);
+          assertTrue(curve.verifySignature(keys[i], messages[i], signatures[i]));
+        }
+
+        boolean[] expected = new boolean[size];
+        Arrays.fill(expected, true);
+        assertArrayEquals(provider + ", batch of " + size, expected, curve.verifySignatures(keys, messages, signatures));
+      }
+    }
+  }
+
+  @Test
+  public void tamperedSignaturesInALargeBatchAreSingledOut() {
+    for (String provider : PROVIDERS) {
+      Curve25519        curve      = Curve25519.getInstance(provider);
+      Curve25519KeyPair keyPair    = curve.generateKeyPair();
+      int               size       = 256;
+      byte[][]          keys       = new byte[size][];
+      byte[][]          messages   = new byte[size][];
+      byte[][]          signatures = new byte[size][];
+      boolean[]         expected   = new boolean[size];
+
+      for (int i = 0; i < size; i++) {
+        keys[i]       = keyPair.getPublicKey();
+        messages[i]   = ("message " + i).getBytes();
+        signatures[i] = curve.calculateSignature(keyPair.getPrivateKey(), messages[i]);
+        expected[i]   = true;
+      }
+
+      signatures[37][40] ^= 0x01;     /* s */
+      expected[37]        = false;
+      signatures[130][3] ^= 0x10;     /* R */
+      expected[130]       = false;
+      messages[201]       = "message 202".getBytes();
+      expected[201]       = false;
+      keys[255]           = curve.generateKeyPair().getPublicKey();
+      expected[255]       = false;
+
+      assertArrayEquals(provider, expected, curve.verifySignatures(keys, messages, signatures));
+    }
+  }
+
+  @Test
+  public void malformedEntriesAreInvalid() {
+    Curve25519        curve   = Curve25519.getInstance(Curve25519.JAVA);
+    Curve25519KeyPair keyPair = curve.generateKeyPair();
+    byte[]            message = "message".getBytes();
+    byte[]            good    = curve.calculateSignature(keyPair.getPrivateKey(), message);
+
+    boolean[] valid = curve.verifySignatures(repeat(keyPair.getPublicKey(), 3),
+                                             new byte[][] {message, null, message},
+                                             new byte[][] {good, good, new byte[63]});
+
+    assertArrayEquals(new boolean[] {true, false, false}, valid);
+  }
+}
@@ -0,0 +1,153 @@
+package org.whispersystems.curve25519;
+
+import org.junit.Test;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BufferedSecureRandomProviderTest {
+
+  private static final byte FILL = (byte)0xA7;
+
+  /* Records every generator it creates and every request made of them; output is a constant fill */
+  private static class RecordingProvider extends BufferedSecureRandomProvider {
+    final List<Integer> requests   = new ArrayList<Integer>();
+    int                 generators = 0;
+
+    RecordingProvider(int bufferSize, long reseedInterval) {
+      super(bufferSize, reseedInterval);
+    }
+
+    @Override
+    protected SecureRandom newSecureRandom() {
+      generators++;
+      return new SecureRandom() {
+        @Override
+        public void nextBytes(byte[] bytes) {
+          requests.add(bytes.length);
+          Arrays.fill(bytes, FILL);
+        }
+      };
+    }
+  }
+
+  private static byte[] filled(int length, byte value) {
+    byte[] bytes = new byte[length];
+    Arrays.fill(bytes, value);
+    return bytes;
+  }
+
+  @Test
+  public void smallRequestsShareOneBuffer() {
+    RecordingProvider provider = new RecordingProvider(16, 1 << 20);
+
+    for (int i = 0; i < 3; i++) {
+      byte[] output = new byte[5];
+      provider.nextBytes(output);
+      assertArrayEquals(filled(5, FILL), output);
+    }
+    assertEquals(Arrays.asList(16), provider.requests);
+
+    /* 15 of 16 bytes are used; the next request drains the last one and refills */
+    provider.nextBytes(new byte[5]);
+    assertEquals(Arrays.asList(16, 16), provider.requests);
+  }
+
+  @Test
+  public void largeRequestsBypassTheBuffer() {
+    RecordingProvider provider = new RecordingProvider(16, 1 << 20);
+
+    byte[] output = new byte[40];
+    provider.nextBytes(output);
+
+    assertArrayEquals(filled(40, FILL), output);
+    assertEquals(Arrays.asList(40), provider.requests);
+  }
+
+  @Test
+  public void zeroBufferSizeGeneratesEveryRequestDirectly() {
+    RecordingProvider provider = new RecordingProvider(0, 1 << 20);
+
+    byte[] first  = new byte[3];
+    byte[] second = new byte[64];
+    provider.nextBytes(first);
+    provider.nextBytes(second);
+
+    assertArrayEquals(filled(3, FILL), first);
+    assertArrayEquals(filled(64, FILL), second);
+    assertEquals(Arrays.asList(3, 64), provider.requests);
+  }
+
+  @Test
+  public void reseedsAfterInterval() {
+    RecordingProvider provider = new RecordingProvider(16, 32);
+
+    provider.nextBytes(new byte[16]);
+    provider.nextBytes(new byte[16]);
+    assertEquals(1, provider.generators);
+
+    provider.nextBytes(new byte[1]);
+    assertEquals(2, provider.generators);
+
+    /* the replacement has drawn one 16-byte block; another 16 fit before the next reseed */
+    provider.nextBytes(new byte[15]);
+    provider.nextBytes(new byte[16]);
+    assertEquals(2, provider.generators);
+    provider.nextBytes(new byte[16]);
+    assertEquals(3, provider.generators);
+  }
+
+  @Test
+  public void nextIntCountsTowardsReseed() {
+    RecordingProvider provider = new RecordingProvider(16, 8);
+
+    provider.nextInt(10);
+    provider.nextInt(10);
+    assertEquals(1, provider.generators);
+    provider.nextInt(10);
+    assertEquals(2, provider.generators);
+  }
+
+  @Test
+  public void partialRangeLeavesTheRestUntouched() {
+    RecordingProvider provider = new RecordingProvider(16, 1 << 20);
+    byte[]            expected = filled(64, (byte)0x55);
+    byte[]            output   = expected.clone();
+
+    /* below the buffer size, then above it at a nonzero offset */
+    provider.nextBytes(output, 3, 10);
+    provider.nextBytes(output, 20, 30);
+
+    Arrays.fill(expected, 3, 13, FILL);
+    Arrays.fill(expected, 20, 50, FILL);
+    assertArrayEquals(expected, output);
+  }
+
+  @Test
+  public void emptyRangeDrawsNothing() {
+    RecordingProvider provider = new RecordingProvider(16, 1 << 20);
+
+    provider.nextBytes(new byte[8], 8, 0);
+    assertEquals(0, provider.requests.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rangePastTheEndIsRejected() {
+    new BufferedSecureRandomProvider().nextBytes(new byte[8], 4, 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeOffsetIsRejected() {
+    new BufferedSecureRandomProvider().nextBytes(new byte[8], -1, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeBufferSizeIsRejected() {
+    new BufferedSecureRandomProvider(-1, 1);
+  }
+}
@@ -0,0 +1,190 @@
+package org.whispersystems.curve25519;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class EdwardsKeyCacheTest {
+
+  private static byte[] key(int i) {
+    byte[] publicKey = new byte[32];
+    publicKey[0] = (byte)i;
+    publicKey[1] = (byte)(i >>> 8);
+    publicKey[2] = 9;
+    return publicKey;
+  }
+
+  @Test
+  public void equalKeysHitTheSameEntry() {
+    EdwardsKeyCache       cache = new EdwardsKeyCache(8);
+    byte[]                key   = key(1);
+    EdwardsKeyCache.Entry entry = cache.get(key);
+
+    assertSame(entry, cache.get(key.clone()));
+    assertEquals(1, cache.size());
+    assertArrayEquals(new EdwardsKeyCache.Entry(key).edPublicKey, entry.edPublicKey);
+  }
+
+  @Test
+  public void cachedKeyIsACopy() {
+    EdwardsKeyCache       cache = new EdwardsKeyCache(8);
+    byte[]                key   = key(1);
+    EdwardsKeyCache.Entry entry = cache.get(key);
+
+    key[0] = 2;
+    assertNotSame(entry, cache.get(key));
+    assertSame(entry, cache.get(key(1)));
+  }
+
+  @Test
+  public void differentKeysMiss() {
+    EdwardsKeyCache cache = new EdwardsKeyCache(8);
+
+    assertNotSame(cache.get(key(1)), cache.get(key(2)));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void keysLookedUpAgainSurviveEviction() {
+    EdwardsKeyCache         cache   = new EdwardsKeyCache(8);
+    EdwardsKeyCache.Entry[] entries = new EdwardsKeyCache.Entry[8];
+
+    for (int i = 0; i < 8; i++) {
+      entries[i] = cache.get(key(i));
+    }
+    for (int i = 0; i < 4; i++) {
+      assertSame(entries[i], cache.get(key(i)));
+    }
+    assertEquals(8, cache.size());
+
+    /* one past capacity sweeps an eighth below it, out of the keys never looked up again */
+    cache.get(key(8));
+    assertEquals(7, cache.size());
+    for (int i = 0; i < 4; i++) {
+      assertSame(entries[i], cache.get(key(i)));
+    }
+    assertEquals(7, cache.size());
+  }
+
+  @Test
+  public void sizeStaysWithinCapacity() {
+    EdwardsKeyCache cache = new EdwardsKeyCache(64);
+
+    for (int i = 0; i < 1000; i++) {
+      cache.get(key(i));
+      cache.get(key(i % 16));
+      assertTrue(cache.size() <= 64);
+    }
+  }
+
+  @Test
+  public void capacityOfOneKeepsOneKey() {
+    EdwardsKeyCache cache = new EdwardsKeyCache(1);
+
+    cache.get(key(1));
+    cache.get(key(2));
+    assertEquals(1, cache.size());
+  }
+
+  /* The provider behind BEST (Java64 where Math.multiplyHigh is intrinsic) verifies through the cache */
+  @Test
+  public void bestProviderVerifiesThroughTheCache() {
+    OpportunisticCurve25519Provider best = new OpportunisticCurve25519Provider();
+    assumeTrue(best.delegate() instanceof BaseJavaCurve25519Provider);
+
+    EdwardsKeyCache    cache     = ((BaseJavaCurve25519Provider)best.delegate()).keyCache();
+    Curve25519         curve     = Curve25519.getInstance(Curve25519.JAVA);
+    byte[]             message   = "message".getBytes();
+    Curve25519KeyPair  keyPair   = curve.generateKeyPair();
+    byte[]             signature = curve.calculateSignature(keyPair.getPrivateKey(), message);
+
+    assertEquals(0, cache.size());
+    assertTrue(best.verifySignature(keyPair.getPublicKey(), message, signature));
+    assertEquals(1, cache.size());
+
+    EdwardsKeyCache.Entry entry = cache.get(keyPair.getPublicKey());
+    assertTrue(best.verifySignature(keyPair.getPublicKey(), message, signature));
+    assertSame(entry, cache.get(keyPair.getPublicKey()));
+    assertEquals(1, cache.size());
+  }
+
+  /* Both sign bits, a bad signature and a key that does not decode give the uncached answer */
+  @Test
+  public void java64CachedVerificationMatchesUncached() {
+    Java64Curve25519Provider java64  = new Java64Curve25519Provider();
+    Curve25519               curve   = Curve25519.getInstance(Curve25519.JAVA64);
+    byte[]                   message = "message".getBytes();
+
+    for (int i = 0; i < 32; i++) {
+      Curve25519KeyPair keyPair   = curve.generateKeyPair();
+      byte[]            signature = curve.calculateSignature(keyPair.getPrivateKey(), message);
+      byte[]            tampered  = signature.clone();
+      tampered[63] ^= (byte)0x80;
+
+      for (int repeat = 0; repeat < 2; repeat++) {
+        assertTrue(java64.verifySignature(keyPair.getPublicKey(), message, signature));
+        assertFalse(java64.verifySignature(keyPair.getPublicKey(), message, tampered));
+      }
+    }
+
+    /* about half of these are not the u coordinate of a point on the curve */
+    Curve25519 java        = Curve25519.getInstance(Curve25519.JAVA);
+    byte[]     undecodable = new byte[32];
+    for (int u = 0; u < 256; u++) {
+      undecodable[0] = (byte)u;
+      assertEquals(java.verifySignature(undecodable, message, new byte[64]),
+                   java64.verifySignature(undecodable, message, new byte[64]));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void zeroCapacityIsRejected() {
+    new EdwardsKeyCache(0);
+  }
+
+  @Test
+  public void concurrentLookupsAgree() throws Exception {
+    final EdwardsKeyCache cache    = new EdwardsKeyCache(32);
+    ExecutorService       executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<Void>> results = new ArrayList<Future<Void>>();
+
+      for (int t = 0; t < 8; t++) {
+        final int offset = t;
+
+        results.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            for (int i = 0; i < 500; i++) {
+              byte[] key = key((i * 7 + offset) % 48);
+              assertArrayEquals(new EdwardsKeyCache.Entry(key).edPublicKey, cache.get(key).edPublicKey);
+            }
+            return null;
+          }
+        }));
+      }
+
+      for (Future<Void> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertTrue(cache.size() <= 48);
+  }
+}
@@ -0,0 +1,129 @@
+package org.whispersystems.curve25519.java;
+
+import org.junit.After;
+import org.junit.Test;
+import org.whispersystems.curve25519.Curve25519;
+import org.whispersystems.curve25519.Curve25519KeyPair;
+import org.whispersystems.curve25519.JavaSha512Provider;
+import org.whispersystems.curve25519.PreparedPrivateKey;
+import org.whispersystems.curve25519.PreparedPublicKey;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BaseWindowTest {
+
+  private static final int[] WINDOWS = {0, 4, 5, 6};
+
+  private final int window = ge_scalarmult_base_wide.getWindow();
+
+  @After
+  public void restore() {
+    ge_scalarmult_base_wide.setWindow(window);
+  }
+
+  @Test
+  public void mistypedPropertyLeavesTheEngineOff() {
+    assertNull(ge_scalarmult_base_wide.from_property(null));
+    assertNull(ge_scalarmult_base_wide.from_property(""));
+    assertNull(ge_scalarmult_base_wide.from_property("abc"));
+    assertNull(ge_scalarmult_base_wide.from_property("0"));
+    assertNull(ge_scalarmult_base_wide.from_property("3"));
+    assertNull(ge_scalarmult_base_wide.from_property("7"));
+    assertNull(ge_scalarmult_base_wide.from_property("-4"));
+    assertEquals(5, ge_scalarmult_base_wide.from_property(" 5 ").window);
+  }
+
+  @Test
+  public void everyWindowSignsLikeTheOtherEngines() {
+    Sha512 sha512    = new JavaSha512Provider();
+    Random random    = new Random(47);
+    byte[] expected  = new byte[64];
+    byte[] signature = new byte[64];
+    byte[] publicKey = new byte[32];
+
+    for (int i = 0; i < 20; i++) {
+      byte[] privateKey = new byte[32];
+      byte[] message    = new byte[random.nextInt(200)];
+      byte[] nonce      = new byte[64];
+      random.nextBytes(privateKey);
+      random.nextBytes(message);
+      random.nextBytes(nonce);
+      privateKey[0]  &= (byte)248;
+      privateKey[31] &= 127;
+      privateKey[31] |= 64;
+
+      ge_scalarmult_base_wide.setWindow(0);
+      curve_sigs.curve25519_sign(sha512, expected, privateKey, message, message.length, nonce);
+      curve_sigs.curve25519_keygen(publicKey, privateKey);
+
+      for (int w : WINDOWS) {
+        ge_scalarmult_base_wide.setWindow(w);
+        byte[] keygen = new byte[32];
+
+        curve_sigs.curve25519_sign(sha512, signature, privateKey, message, message.length, nonce);
+        assertArrayEquals("window " + w, expected, signature);
+        curve_sigs.curve25519_keygen(keygen, privateKey);
+        assertArrayEquals("window " + w, publicKey, keygen);
+
+        curve_sigs51.curve25519_sign(sha512, signature, privateKey, message, message.length, nonce);
+        assertArrayEquals("fe51, window " + w, expected, signature);
+        curve_sigs51.curve25519_keygen(keygen, privateKey);
+        assertArrayEquals("fe51, window " + w, publicKey, keygen);
+      }
+    }
+  }
+
+  /* BEST is Java64 where Math.multiplyHigh is intrinsic, so this runs its keygen under each window */
+  @Test
+  public void bestProviderKeysMatchTheRef10Tables() {
+    Curve25519 best = Curve25519.getInstance(Curve25519.BEST);
+
+    for (int w : WINDOWS) {
+      ge_scalarmult_base_wide.setWindow(w);
+
+      for (int i = 0; i < 8; i++) {
+        Curve25519KeyPair keyPair  = best.generateKeyPair();
+        byte[]            expected = new byte[32];
+
+        ge_scalarmult_base_wide.setWindow(0);
+        curve_sigs.curve25519_keygen(expected, keyPair.getPrivateKey());
+        ge_scalarmult_base_wide.setWindow(w);
+        assertArrayEquals("window " + w, expected, keyPair.getPublicKey());
+      }
+    }
+  }
+
+  @Test
+  public void signaturesCrossVerify() {
+    Curve25519[] curves  = {Curve25519.getInstance(Curve25519.JAVA), Curve25519.getInstance(Curve25519.JAVA64),
+                            Curve25519.getInstance(Curve25519.BEST)};
+    byte[]       message = "base point window".getBytes();
+
+    for (int w : WINDOWS) {
+      ge_scalarmult_base_wide.setWindow(w);
+
+      for (Curve25519 signer : curves) {
+        Curve25519KeyPair  keyPair  = signer.generateKeyPair();
+        PreparedPrivateKey prepared = signer.preparePrivateKey(keyPair.getPrivateKey());
+        byte[][]           signatures = {
+            signer.calculateSignature(keyPair.getPrivateKey(), message),
+            signer.calculateSignature(prepared, message)
+        };
+
+        for (Curve25519 verifier : curves) {
+          PreparedPublicKey publicKey = verifier.preparePublicKey(keyPair.getPublicKey());
+
+          for (byte[] signature : signatures) {
+            assertTrue("window " + w, verifier.verifySignature(keyPair.getPublicKey(), message, signature));
+            assertTrue("window " + w, verifier.verifySignature(publicKey, message, signature));
+          }
+        }
+      }
+    }
+  }
+}
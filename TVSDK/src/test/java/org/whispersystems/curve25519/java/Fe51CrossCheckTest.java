@@ -0,0 +1,186 @@
+package org.whispersystems.curve25519.java;
+
+import org.junit.Test;
+import org.whispersystems.curve25519.JavaSha512Provider;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/* fe51/ge51 against the ref10 routines they mirror, on random inputs */
+public class Fe51CrossCheckTest {
+
+  private static final int ROUNDS = 200;
+
+  private final Random random = new Random(0x5EED);
+
+  private byte[] bytes(int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  private byte[] scalar() {
+    byte[] scalar = bytes(32);
+    scalar[31] &= 0x7F;
+    return scalar;
+  }
+
+  private static byte[] encode(int[] f) {
+    byte[] s = new byte[32];
+    fe_tobytes.fe_tobytes(s, f);
+    return s;
+  }
+
+  private static byte[] encode(long[] f) {
+    byte[] s = new byte[32];
+    fe51.fe_tobytes(s, f);
+    return s;
+  }
+
+  @Test
+  public void mulhiJavaMatchesBigInteger() {
+    for (int i = 0; i < 10 * ROUNDS; i++) {
+      long x = random.nextLong() >>> 1;
+      long y = random.nextLong() >>> 1;
+      long expected = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)).shiftRight(64).longValue();
+      assertEquals(expected, fe51.mulhi_java(x, y));
+      assertEquals(expected, fe51.mulhi(x, y));
+    }
+  }
+
+  @Test
+  public void fieldOperationsMatch() {
+    int[]  f = new int[10], g = new int[10], h = new int[10];
+    long[] lf = new long[5], lg = new long[5], lh = new long[5];
+
+    for (int i = 0; i < ROUNDS; i++) {
+      byte[] a = bytes(32);
+      byte[] b = bytes(32);
+
+      fe_frombytes.fe_frombytes(f, a);
+      fe_frombytes.fe_frombytes(g, b);
+      fe51.fe_frombytes(lf, a);
+      fe51.fe_frombytes(lg, b);
+      assertArrayEquals(encode(f), encode(lf));
+
+      fe_add.fe_add(h, f, g);
+      fe51.fe_add(lh, lf, lg);
+      assertArrayEquals("add", encode(h), encode(lh));
+
+      fe_sub.fe_sub(h, f, g);
+      fe51.fe_sub(lh, lf, lg);
+      assertArrayEquals("sub", encode(h), encode(lh));
+
+      fe_neg.fe_neg(h, f);
+      fe51.fe_neg(lh, lf);
+      assertArrayEquals("neg", encode(h), encode(lh));
+
+      fe_mul.fe_mul(h, f, g);
+      fe51.fe_mul(lh, lf, lg);
+      assertArrayEquals("mul", encode(h), encode(lh));
+
+      fe_sq.fe_sq(h, f);
+      fe51.fe_sq(lh, lf);
+      assertArrayEquals("sq", encode(h), encode(lh));
+
+      fe_sq2.fe_sq2(h, f);
+      fe51.fe_sq2(lh, lf);
+      assertArrayEquals("sq2", encode(h), encode(lh));
+
+      fe_mul121666.fe_mul121666(h, f);
+      fe51.fe_mul121666(lh, lf);
+      assertArrayEquals("mul121666", encode(h), encode(lh));
+
+      fe_invert.fe_invert(h, f);
+      fe51.fe_invert(lh, lf);
+      assertArrayEquals("invert", encode(h), encode(lh));
+
+      fe_pow22523.fe_pow22523(h, f);
+      fe51.fe_pow22523(lh, lf);
+      assertArrayEquals("pow22523", encode(h), encode(lh));
+
+      assertEquals("isnegative", fe_isnegative.fe_isnegative(f), fe51.fe_isnegative(lf));
+      assertEquals("isnonzero", fe_isnonzero.fe_isnonzero(f) == 0, fe51.fe_isnonzero(lf) == 0);
+    }
+  }
+
+  @Test
+  public void pointOperationsMatch() {
+    ge_p3    P  = new ge_p3();
+    ge_p2    R  = new ge_p2();
+    ge51.p3  lP = new ge51.p3();
+    ge51.p2  lR = new ge51.p2();
+    byte[]   s  = new byte[32];
+    byte[]   ls = new byte[32];
+
+    for (int i = 0; i < ROUNDS; i++) {
+      byte[] a = scalar();
+      byte[] b = scalar();
+
+      ge_scalarmult_base.ge_scalarmult_base(P, a);
+      ge51.ge_scalarmult_base(lP, a);
+      ge_p3_tobytes.ge_p3_tobytes(s, P);
+      ge51.ge_p3_tobytes(ls, lP);
+      assertArrayEquals("scalarmult_base", s, ls);
+
+      assertEquals("frombytes", ge_frombytes.ge_frombytes_negate_vartime(P, s),
+                   ge51.ge_frombytes_negate_vartime(lP, s));
+      ge_double_scalarmult.ge_double_scalarmult_vartime(R, b, P, a);
+      ge51.ge_double_scalarmult_vartime(lR, b, lP, a);
+      ge_tobytes.ge_tobytes(s, R);
+      ge51.ge_tobytes(ls, lR);
+      assertArrayEquals("double_scalarmult", s, ls);
+
+      /* random encodings decode about half the time */
+      byte[] encoding = bytes(32);
+      int    result   = ge_frombytes.ge_frombytes_negate_vartime(P, encoding);
+      assertEquals("frombytes", result, ge51.ge_frombytes_negate_vartime(lP, encoding));
+      if (result == 0) {
+        ge_p3_tobytes.ge_p3_tobytes(s, P);
+        ge51.ge_p3_tobytes(ls, lP);
+        assertArrayEquals("frombytes", s, ls);
+      }
+    }
+  }
+
+  @Test
+  public void curveOperationsMatch() {
+    Sha512 sha512 = new JavaSha512Provider();
+    byte[] q      = new byte[32];
+    byte[] lq     = new byte[32];
+    byte[] sig    = new byte[64];
+    byte[] lsig   = new byte[64];
+
+    for (int i = 0; i < ROUNDS; i++) {
+      byte[] n = bytes(32);
+      byte[] p = bytes(32);
+
+      scalarmult.crypto_scalarmult(q, n, p);
+      curve_sigs51.crypto_scalarmult(lq, n, p);
+      assertArrayEquals("scalarmult", q, lq);
+
+      byte[] privateKey = scalar();
+      privateKey[0]  &= (byte)248;
+      privateKey[31] |= 64;
+      curve_sigs.curve25519_keygen(q, privateKey);
+      curve_sigs51.curve25519_keygen(lq, privateKey);
+      assertArrayEquals("keygen", q, lq);
+
+      byte[] message = bytes(random.nextInt(100));
+      byte[] nonce   = bytes(64);
+      curve_sigs.curve25519_sign(sha512, sig, privateKey, message, message.length, nonce);
+      curve_sigs51.curve25519_sign(sha512, lsig, privateKey, message, message.length, nonce);
+      assertArrayEquals("sign", sig, lsig);
+
+      assertEquals(0, curve_sigs.curve25519_verify(sha512, sig, q, message, message.length));
+      assertEquals(0, curve_sigs51.curve25519_verify(sha512, sig, q, message, message.length));
+
+      sig[random.nextInt(64)] ^= (byte)(1 << random.nextInt(8));
+      assertEquals("verify", curve_sigs.curve25519_verify(sha512, sig, q, message, message.length),
+                   curve_sigs51.curve25519_verify(sha512, sig, q, message, message.length));
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.whispersystems.curve25519.java;
+
+import org.junit.Test;
+import org.whispersystems.curve25519.Curve25519;
+import org.whispersystems.curve25519.Curve25519KeyPair;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SignatureContextTest {
+
+  @Test
+  public void keepsBuffersUpToTheCap() {
+    SignatureContext ctx = new SignatureContext();
+
+    byte[] grown = ctx.buffer1(1000);
+    assertTrue(grown.length >= 1000);
+    assertSame(grown, ctx.buffer1(1000));
+
+    byte[] capped = ctx.buffer2(SignatureContext.MAX_KEPT_BUFFER);
+    assertEquals(SignatureContext.MAX_KEPT_BUFFER, capped.length);
+    assertSame(capped, ctx.buffer2(SignatureContext.MAX_KEPT_BUFFER));
+  }
+
+  @Test
+  public void doesNotKeepLargerBuffers() {
+    SignatureContext ctx    = new SignatureContext();
+    int              length = SignatureContext.MAX_KEPT_BUFFER + 1;
+
+    byte[] first = ctx.buffer1(length);
+    assertTrue(first.length >= length);
+    assertNotSame(first, ctx.buffer1(length));
+    assertTrue(ctx.buffer1(1).length < length);
+
+    assertNotSame(ctx.buffer2(length), ctx.buffer2(length));
+    assertTrue(ctx.buffer2(1).length < length);
+  }
+
+  @Test
+  public void signsAndVerifiesMessagesAboveTheCap() {
+    byte[] message = new byte[2 * SignatureContext.MAX_KEPT_BUFFER];
+    message[message.length - 1] = 1;
+
+    for (String provider : new String[] {Curve25519.JAVA, Curve25519.JAVA64}) {
+      Curve25519        curve     = Curve25519.getInstance(provider);
+      Curve25519KeyPair keyPair   = curve.generateKeyPair();
+      byte[]            signature = curve.calculateSignature(keyPair.getPrivateKey(), message);
+
+      assertTrue(curve.verifySignature(keyPair.getPublicKey(), message, signature));
+      assertTrue(SignatureContext.get().buffer1(1).length <= SignatureContext.MAX_KEPT_BUFFER);
+      assertTrue(SignatureContext.get().buffer2(1).length <= SignatureContext.MAX_KEPT_BUFFER);
+    }
+  }
+}
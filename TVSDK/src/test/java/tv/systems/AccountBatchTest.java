@@ -0,0 +1,59 @@
+package tv.systems;
+
+import org.junit.Test;
+import tv.systems.error.KeyError;
+import tv.systems.type.NetworkType;
+
+import static org.junit.Assert.assertEquals;
+
+public class AccountBatchTest {
+
+    private static final String SEED = "acid hope pear nut canvas fruit tooth raw stage city cake excess";
+
+    private static void assertMatchesSingleAccounts(NetworkType network, int firstNonce, int count) throws KeyError {
+        AccountBatch batch = AccountBatch.derive(network, SEED, firstNonce, count);
+        assertEquals(count, batch.size());
+        assertEquals(count * AccountBatch.KEY_SIZE, batch.getPrivateKeys().length);
+        assertEquals(count * AccountBatch.KEY_SIZE, batch.getPublicKeys().length);
+        assertEquals(count * AccountBatch.ADDRESS_SIZE, batch.getAddresses().length);
+        for (int i = 0; i < count; i++) {
+            Account expected = new Account(network, SEED, firstNonce + i);
+            Account actual = batch.getAccount(i);
+            assertEquals("account " + i, expected.getPrivateKey(), actual.getPrivateKey());
+            assertEquals("account " + i, expected.getPublicKey(), actual.getPublicKey());
+            assertEquals("account " + i, expected.getAddress(), actual.getAddress());
+            assertEquals("account " + i, expected.getAddress(), batch.getAddress(i));
+        }
+    }
+
+    @Test
+    public void emptyBatch() throws KeyError {
+        assertMatchesSingleAccounts(NetworkType.Testnet, 0, 0);
+    }
+
+    @Test
+    public void singleAccount() throws KeyError {
+        assertMatchesSingleAccounts(NetworkType.Mainnet, 0, 1);
+    }
+
+    // Above the 256-account split and keygen chunk, and a multiple of neither, starting from a nonzero nonce.
+    @Test
+    public void unevenBatchFromNonzeroNonce() throws KeyError {
+        assertMatchesSingleAccounts(NetworkType.Testnet, 7, 601);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeThatOverflowsTheArraysIsRejected() {
+        AccountBatch.derive(NetworkType.Testnet, SEED, 0, Integer.MAX_VALUE / AccountBatch.KEY_SIZE + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonceRangePastMaxValueIsRejected() {
+        AccountBatch.derive(NetworkType.Testnet, SEED, Integer.MAX_VALUE, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexOutsideTheBatchIsRejected() {
+        AccountBatch.derive(NetworkType.Testnet, SEED, 0, 1).getAccount(1);
+    }
+}
@@ -0,0 +1,125 @@
+package tv.systems.transaction;
+
+import org.bitcoinj.core.Base58;
+import org.junit.Test;
+import tv.systems.error.SerializationError;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TransactionBytesTest {
+
+    private static final long TIMESTAMP = 1547722056762119200L;
+
+    private static String base58(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (seed + 31 * i);
+        }
+        return Base58.encode(bytes);
+    }
+
+    @Test
+    public void paymentRoundTrip() throws SerializationError {
+        PaymentTransaction tx = TransactionFactory.buildPaymentTx(base58(26, 5), 123456789L, base58(11, 7), TIMESTAMP);
+        byte[] bytes = tx.toBytes();
+
+        PaymentTransaction parsed = PaymentTransaction.fromBytes(bytes);
+        assertEquals(tx.getType(), parsed.getType());
+        assertEquals(tx.getTimestamp(), parsed.getTimestamp());
+        assertEquals(tx.getAmount(), parsed.getAmount());
+        assertEquals(tx.getFee(), parsed.getFee());
+        assertEquals(tx.getFeeScale(), parsed.getFeeScale());
+        assertEquals(tx.getRecipient(), parsed.getRecipient());
+        assertEquals(tx.getAttachment(), parsed.getAttachment());
+        assertArrayEquals(bytes, parsed.toBytes());
+        assertEquals(tx.getId(), parsed.getId());
+    }
+
+    @Test
+    public void paymentWithEmptyAttachmentRoundTrip() throws SerializationError {
+        PaymentTransaction tx = TransactionFactory.buildPaymentTx(base58(26, 9), 1L, "", TIMESTAMP);
+        byte[] bytes = tx.toBytes();
+
+        PaymentTransaction parsed = PaymentTransaction.fromBytes(bytes);
+        assertEquals(0, parsed.getAttachmentBytes().length);
+        assertArrayEquals(bytes, parsed.toBytes());
+    }
+
+    @Test
+    public void leaseRoundTrip() throws SerializationError {
+        LeaseTransaction tx = TransactionFactory.buildLeaseTx(base58(26, 3), 987654321L, TIMESTAMP);
+        byte[] bytes = tx.toBytes();
+
+        LeaseTransaction parsed = LeaseTransaction.fromBytes(bytes);
+        assertEquals(tx.getType(), parsed.getType());
+        assertEquals(tx.getTimestamp(), parsed.getTimestamp());
+        assertEquals(tx.getAmount(), parsed.getAmount());
+        assertEquals(tx.getFee(), parsed.getFee());
+        assertEquals(tx.getFeeScale(), parsed.getFeeScale());
+        assertEquals(tx.getRecipient(), parsed.getRecipient());
+        assertArrayEquals(bytes, parsed.toBytes());
+        assertEquals(tx.getId(), parsed.getId());
+    }
+
+    @Test
+    public void leaseCancelRoundTrip() throws SerializationError {
+        LeaseCancelTransaction tx = TransactionFactory.buildCancelLeasingTx(base58(32, 1), TIMESTAMP);
+        byte[] bytes = tx.toBytes();
+
+        LeaseCancelTransaction parsed = LeaseCancelTransaction.fromBytes(bytes);
+        assertEquals(tx.getType(), parsed.getType());
+        assertEquals(tx.getTimestamp(), parsed.getTimestamp());
+        assertEquals(tx.getFee(), parsed.getFee());
+        assertEquals(tx.getFeeScale(), parsed.getFeeScale());
+        assertEquals(tx.getLeaseId(), parsed.getLeaseId());
+        assertArrayEquals(bytes, parsed.toBytes());
+        assertEquals(tx.getId(), parsed.getId());
+    }
+
+    @Test
+    public void readsConcatenatedTransactionsFromBuffer() throws SerializationError {
+        PaymentTransaction payment = TransactionFactory.buildPaymentTx(base58(26, 5), 42L, base58(3, 2), TIMESTAMP);
+        LeaseTransaction lease = TransactionFactory.buildLeaseTx(base58(26, 6), 43L, TIMESTAMP);
+        ByteBuffer buffer = ByteBuffer.allocate(payment.getBytesSize() + lease.getBytesSize());
+        payment.writeBytes(buffer);
+        lease.writeBytes(buffer);
+        buffer.flip();
+
+        assertArrayEquals(payment.toBytes(), PaymentTransaction.fromBytes(buffer).toBytes());
+        assertArrayEquals(lease.toBytes(), LeaseTransaction.fromBytes(buffer).toBytes());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void parsedTransactionDoesNotShareTheInput() throws SerializationError {
+        PaymentTransaction tx = TransactionFactory.buildPaymentTx(base58(26, 5), 42L, base58(4, 2), TIMESTAMP);
+        byte[] bytes = tx.toBytes();
+        PaymentTransaction parsed = PaymentTransaction.fromBytes(bytes);
+        byte[] expected = bytes.clone();
+        Arrays.fill(bytes, (byte) 0);
+        assertArrayEquals(expected, parsed.toBytes());
+    }
+
+    @Test(expected = SerializationError.class)
+    public void rejectsTrailingBytes() throws SerializationError {
+        byte[] bytes = TransactionFactory.buildLeaseTx(base58(26, 3), 1L, TIMESTAMP).toBytes();
+        LeaseTransaction.fromBytes(Arrays.copyOf(bytes, bytes.length + 1));
+    }
+
+    @Test(expected = SerializationError.class)
+    public void rejectsTruncatedInput() throws SerializationError {
+        byte[] bytes = TransactionFactory.buildCancelLeasingTx(base58(32, 1), TIMESTAMP).toBytes();
+        LeaseCancelTransaction.fromBytes(Arrays.copyOf(bytes, bytes.length - 1));
+    }
+
+    @Test(expected = SerializationError.class)
+    public void rejectsOtherTransactionType() throws SerializationError {
+        byte[] bytes = TransactionFactory.buildLeaseTx(base58(26, 3), 1L, TIMESTAMP).toBytes();
+        LeaseCancelTransaction.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,207 @@
+package tv.systems.transaction;
+
+import org.bitcoinj.core.Base58;
+import org.junit.Test;
+import tv.systems.error.SerializationError;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public class TransactionCacheTest {
+
+    private static final long TIMESTAMP = 1547722056762119200L;
+
+    private static byte[] pattern(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (seed + 31 * i);
+        }
+        return bytes;
+    }
+
+    private static PaymentTransaction payment() {
+        return TransactionFactory.buildPaymentTx(Base58.encode(pattern(26, 5)), 123456789L,
+                Base58.encode(pattern(11, 7)), TIMESTAMP);
+    }
+
+    private static LeaseTransaction lease() {
+        return TransactionFactory.buildLeaseTx(Base58.encode(pattern(26, 3)), 987654321L, TIMESTAMP);
+    }
+
+    private static LeaseCancelTransaction leaseCancel() {
+        return TransactionFactory.buildCancelLeasingTx(Base58.encode(pattern(32, 11)), TIMESTAMP);
+    }
+
+    private static abstract class Change<T extends ProvenTransaction> {
+        abstract void apply(T tx);
+    }
+
+    // Fills the id and bytes caches, applies the change, and checks both were recomputed.
+    private static <T extends ProvenTransaction> void assertInvalidates(T tx, Change<T> change) throws SerializationError {
+        String id = tx.getId();
+        byte[] bytes = tx.toBytes();
+
+        change.apply(tx);
+
+        assertNotEquals(id, tx.getId());
+        assertFalse(Arrays.equals(bytes, tx.toBytes()));
+        assertEquals(tx.toBytes().length, tx.getBytesSize());
+    }
+
+    @Test
+    public void setTypeInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setType((byte) (tx.getType() + 1)); }
+        });
+    }
+
+    @Test
+    public void setTimestampInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setTimestamp(TIMESTAMP + 1); }
+        });
+    }
+
+    @Test
+    public void setFeeInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setFee(tx.getFee() + 1); }
+        });
+    }
+
+    @Test
+    public void setFeeScaleInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setFeeScale((short) (tx.getFeeScale() + 1)); }
+        });
+    }
+
+    @Test
+    public void paymentSetRecipientInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setRecipient(Base58.encode(pattern(26, 6))); }
+        });
+    }
+
+    @Test
+    public void paymentSetRecipientBytesInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setRecipientBytes(pattern(26, 6)); }
+        });
+    }
+
+    @Test
+    public void paymentSetAmountInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setAmount(tx.getAmount() + 1); }
+        });
+    }
+
+    @Test
+    public void setAttachmentInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setAttachment(Base58.encode(pattern(11, 8))); }
+        });
+    }
+
+    @Test
+    public void setAttachmentBytesInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setAttachmentBytes(pattern(12, 7)); }
+        });
+    }
+
+    @Test
+    public void setAttachmentWithPlainTextInvalidates() throws SerializationError {
+        assertInvalidates(payment(), new Change<PaymentTransaction>() {
+            void apply(PaymentTransaction tx) { tx.setAttachmentWithPlainText("memo"); }
+        });
+    }
+
+    @Test
+    public void leaseSetRecipientInvalidates() throws SerializationError {
+        assertInvalidates(lease(), new Change<LeaseTransaction>() {
+            void apply(LeaseTransaction tx) { tx.setRecipient(Base58.encode(pattern(26, 4))); }
+        });
+    }
+
+    @Test
+    public void leaseSetRecipientBytesInvalidates() throws SerializationError {
+        assertInvalidates(lease(), new Change<LeaseTransaction>() {
+            void apply(LeaseTransaction tx) { tx.setRecipientBytes(pattern(26, 4)); }
+        });
+    }
+
+    @Test
+    public void leaseSetAmountInvalidates() throws SerializationError {
+        assertInvalidates(lease(), new Change<LeaseTransaction>() {
+            void apply(LeaseTransaction tx) { tx.setAmount(tx.getAmount() + 1); }
+        });
+    }
+
+    @Test
+    public void setLeaseIdInvalidates() throws SerializationError {
+        assertInvalidates(leaseCancel(), new Change<LeaseCancelTransaction>() {
+            void apply(LeaseCancelTransaction tx) { tx.setLeaseId(Base58.encode(pattern(32, 12))); }
+        });
+    }
+
+    @Test
+    public void setLeaseIdBytesInvalidates() throws SerializationError {
+        assertInvalidates(leaseCancel(), new Change<LeaseCancelTransaction>() {
+            void apply(LeaseCancelTransaction tx) { tx.setLeaseIdBytes(pattern(32, 12)); }
+        });
+    }
+
+    @Test
+    public void mutatingReturnedBytesDoesNotLeakIntoCache() throws SerializationError {
+        PaymentTransaction tx = payment();
+        String id = tx.getId();
+        byte[] bytes = tx.toBytes();
+        byte[] copy = bytes.clone();
+
+        bytes[0] ^= 1;
+        tx.getRecipientBytes()[0] ^= 1;
+
+        assertArrayEquals(copy, tx.toBytes());
+        assertEquals(id, tx.getId());
+    }
+
+    @Test
+    public void writeBytesMatchesToBytesWithAndWithoutCache() throws SerializationError {
+        byte[] expected = payment().toBytes();
+
+        // Fresh transactions take the direct path, later calls copy from the cache.
+        PaymentTransaction uncached = payment();
+        assertEquals(expected.length, uncached.getBytesSize());
+        byte[] array = new byte[expected.length + 3];
+        assertEquals(expected.length, uncached.writeBytes(array, 3));
+        assertArrayEquals(expected, Arrays.copyOfRange(array, 3, array.length));
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        assertEquals(expected.length, uncached.writeBytes(direct));
+        assertEquals(0, direct.remaining());
+
+        PaymentTransaction cached = payment();
+        cached.getId();
+        assertEquals(expected.length, cached.getBytesSize());
+        ByteBuffer heap = ByteBuffer.allocate(expected.length);
+        assertEquals(expected.length, cached.writeBytes(heap));
+        assertArrayEquals(expected, heap.array());
+
+        direct.flip();
+        byte[] fromDirect = new byte[expected.length];
+        direct.get(fromDirect);
+        assertArrayEquals(expected, fromDirect);
+    }
+
+    @Test(expected = SerializationError.class)
+    public void writeBytesRejectsShortBuffer() throws SerializationError {
+        PaymentTransaction tx = payment();
+        tx.writeBytes(new byte[tx.getBytesSize() - 1], 0);
+    }
+}
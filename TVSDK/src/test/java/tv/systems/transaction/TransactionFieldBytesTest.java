@@ -0,0 +1,114 @@
+package tv.systems.transaction;
+
+import com.google.gson.JsonObject;
+import org.bitcoinj.core.Base58;
+import org.junit.Test;
+import tv.systems.error.SerializationError;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TransactionFieldBytesTest {
+
+    private static final long TIMESTAMP = 1547722056762119200L;
+
+    private static byte[] pattern(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (seed + 31 * i);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void recipientBytesAndStringAgree() {
+        byte[] recipient = pattern(26, 5);
+
+        PaymentTransaction fromBytes = new PaymentTransaction();
+        fromBytes.setRecipientBytes(recipient);
+        assertEquals(Base58.encode(recipient), fromBytes.getRecipient());
+        assertArrayEquals(recipient, fromBytes.getRecipientBytes());
+
+        PaymentTransaction fromString = new PaymentTransaction();
+        fromString.setRecipient(Base58.encode(recipient));
+        assertArrayEquals(recipient, fromString.getRecipientBytes());
+    }
+
+    @Test
+    public void settingOneFormReplacesTheOther() {
+        PaymentTransaction tx = new PaymentTransaction();
+        tx.setRecipient(Base58.encode(pattern(26, 5)));
+        tx.getRecipientBytes();
+        tx.setRecipientBytes(pattern(26, 6));
+        assertEquals(Base58.encode(pattern(26, 6)), tx.getRecipient());
+
+        tx.setRecipient(Base58.encode(pattern(26, 7)));
+        assertArrayEquals(pattern(26, 7), tx.getRecipientBytes());
+    }
+
+    @Test
+    public void nullClearsBothForms() {
+        PaymentTransaction tx = new PaymentTransaction();
+        tx.setAttachment(Base58.encode(pattern(4, 1)));
+        tx.setAttachmentBytes(null);
+        assertNull(tx.getAttachment());
+        assertNull(tx.getAttachmentBytes());
+    }
+
+    @Test
+    public void bytesAreCopiedInAndOut() {
+        byte[] attachment = pattern(8, 3);
+        PaymentTransaction tx = new PaymentTransaction();
+        tx.setAttachmentBytes(attachment);
+
+        attachment[0] ^= 1;
+        tx.getAttachmentBytes()[1] ^= 1;
+
+        assertArrayEquals(pattern(8, 3), tx.getAttachmentBytes());
+    }
+
+    @Test
+    public void plainTextAttachmentIsStoredAsBytes() {
+        PaymentTransaction tx = new PaymentTransaction();
+        tx.setAttachmentWithPlainText("memo");
+        assertArrayEquals("memo".getBytes(), tx.getAttachmentBytes());
+        assertEquals(Base58.encode("memo".getBytes()), tx.getAttachment());
+    }
+
+    @Test
+    public void leaseFieldBytes() {
+        LeaseTransaction lease = new LeaseTransaction();
+        lease.setRecipientBytes(pattern(26, 9));
+        assertEquals(Base58.encode(pattern(26, 9)), lease.getRecipient());
+
+        LeaseCancelTransaction cancel = new LeaseCancelTransaction();
+        cancel.setLeaseIdBytes(pattern(32, 2));
+        assertEquals(Base58.encode(pattern(32, 2)), cancel.getLeaseId());
+        cancel.setLeaseId(Base58.encode(pattern(32, 4)));
+        assertArrayEquals(pattern(32, 4), cancel.getLeaseIdBytes());
+    }
+
+    @Test
+    public void byteFormSerializesLikeStringForm() throws SerializationError {
+        PaymentTransaction viaString = TransactionFactory.buildPaymentTx(Base58.encode(pattern(26, 5)), 42L,
+                Base58.encode(pattern(11, 7)), TIMESTAMP);
+        PaymentTransaction viaBytes = TransactionFactory.buildPaymentTx(Base58.encode(pattern(26, 0)), 42L, "", TIMESTAMP);
+        viaBytes.setRecipientBytes(pattern(26, 5));
+        viaBytes.setAttachmentBytes(pattern(11, 7));
+
+        assertArrayEquals(viaString.toBytes(), viaBytes.toBytes());
+        assertEquals(viaString.getId(), viaBytes.getId());
+    }
+
+    @Test
+    public void parsedTransactionExposesStringsInJson() throws SerializationError {
+        PaymentTransaction tx = TransactionFactory.buildPaymentTx(Base58.encode(pattern(26, 5)), 42L,
+                Base58.encode(pattern(11, 7)), TIMESTAMP);
+        PaymentTransaction parsed = PaymentTransaction.fromBytes(tx.toBytes());
+
+        JsonObject json = parsed.toAPIRequestJson("pk", "sig").getAsJsonObject();
+        assertEquals(tx.getRecipient(), json.get("recipient").getAsString());
+        assertEquals(tx.getAttachment(), json.get("attachment").getAsString());
+    }
+}
@@ -0,0 +1,118 @@
+package tv.systems.utils;
+
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class Blake2b256DigestTest {
+
+    // BLAKE2b-256 of pattern(length); the lengths straddle the 128-byte block boundary
+    private static final Object[][] VECTORS = {
+            {0, "0e5751c026e543b2e8ab2eb06099daa1d1e5df47778f7787faab45cdf12fe3a8"},
+            {1, "e88bd757ad5b9bedf372d8d3f0cf6c962a469db61a265f6418e1ffed86da29ec"},
+            {127, "c9ae3859964b35f04c54b36d33cf299d7290ee621005d28e51598a943560aaaa"},
+            {128, "f0501d06597880592bc49234eef100ec1ff349058d0e9d9b753504e24af86dd6"},
+            {129, "a34a4e1e03c541dfbf3099c4b6c143c022ced65c28bd7e8a10e0a098461aecf0"},
+            {255, "f2d64a40e9412a3414161ff6250075225418fd7c271c1123e162e1bca0de9f93"},
+            {256, "d93ebb9c802f5630ab22516fd82b6c21bc8bd551d531349b715f046ed11ed871"},
+            {257, "4ce481b24d387422d2bc2baa03d1afd55a1327939ff537c71eb9b38709268649"},
+            {1000, "d62b6c768ce1afc8367e0498ab2f8e3f7c178c35b1429f14c4604b545d200f52"},
+    };
+
+    static byte[] pattern(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 7 + 3);
+        }
+        return bytes;
+    }
+
+    static byte[] fromHex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void abc() {
+        assertArrayEquals(fromHex("bddd813c634239723171ef3fee98579b94964e3bb1cb3e427262c8c068d52319"),
+                Hash.blake2b("abc".getBytes()));
+    }
+
+    @Test
+    public void knownAnswers() {
+        for (Object[] vector : VECTORS) {
+            byte[] message = pattern((Integer) vector[0]);
+            byte[] expected = fromHex((String) vector[1]);
+            assertArrayEquals("length " + message.length, expected, Hash.blake2b(message));
+            assertArrayEquals("length " + message.length, expected, Hash.blake2b(ByteBuffer.wrap(message)));
+            ByteBuffer direct = ByteBuffer.allocateDirect(message.length);
+            direct.put(message).flip();
+            assertArrayEquals("length " + message.length, expected, Hash.blake2b(direct));
+        }
+    }
+
+    // The last full block must stay buffered until doFinal sets the final flag, so split right at the boundaries.
+    @Test
+    public void streamingAcrossBlockBoundaries() {
+        int[] splits = {0, 1, 127, 128, 129, 255, 256, 257};
+        Blake2b256Digest digest = new Blake2b256Digest();
+        byte[] out = new byte[Blake2b256Digest.DIGEST_SIZE];
+        for (Object[] vector : VECTORS) {
+            byte[] message = pattern((Integer) vector[0]);
+            byte[] expected = fromHex((String) vector[1]);
+
+            for (byte b : message) {
+                digest.update(b);
+            }
+            digest.doFinal(out, 0);
+            assertArrayEquals("bytewise, length " + message.length, expected, out);
+
+            for (int split : splits) {
+                if (split > message.length) {
+                    break;
+                }
+                digest.update(message, 0, split);
+                digest.update(message, split, 0);
+                digest.update(message, split, message.length - split);
+                digest.doFinal(out, 0);
+                assertArrayEquals("split at " + split + ", length " + message.length, expected, out);
+            }
+        }
+    }
+
+    @Test
+    public void singleBlockMatchesStreaming() {
+        Blake2b256Digest digest = new Blake2b256Digest();
+        byte[] single = new byte[Blake2b256Digest.DIGEST_SIZE];
+        byte[] streamed = new byte[Blake2b256Digest.DIGEST_SIZE];
+        byte[] message = pattern(Blake2b256Digest.BLOCK_SIZE + 3);
+        for (int len = 0; len <= Blake2b256Digest.BLOCK_SIZE; len++) {
+            digest.update((byte) 0x55);
+            digest.digestSingleBlock(message, 3, len, single, 0);
+            digest.update(message, 3, len);
+            digest.doFinal(streamed, 0);
+            assertArrayEquals("length " + len, streamed, single);
+        }
+    }
+
+    @Test
+    public void matchesBouncyCastle() {
+        Random random = new Random(32);
+        Blake2bDigest reference = new Blake2bDigest(256);
+        byte[] expected = new byte[32];
+        for (int i = 0; i < 200; i++) {
+            byte[] message = new byte[random.nextInt(1100)];
+            random.nextBytes(message);
+            reference.update(message, 0, message.length);
+            reference.doFinal(expected, 0);
+            assertArrayEquals("length " + message.length, expected, Hash.blake2b(message));
+        }
+    }
+}
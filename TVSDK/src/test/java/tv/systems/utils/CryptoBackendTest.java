@@ -0,0 +1,46 @@
+package tv.systems.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static tv.systems.utils.Blake2b256DigestTest.fromHex;
+
+public class CryptoBackendTest {
+
+    private final CryptoBackend.Implementation sha256 = CryptoBackend.sha256();
+    private final CryptoBackend.Implementation sha512 = CryptoBackend.sha512();
+
+    @After
+    public void restore() {
+        CryptoBackend.setSha256(sha256);
+        CryptoBackend.setSha512(sha512);
+    }
+
+    @Test
+    public void defaultsToTheJdkAfterJava8() {
+        boolean java8 = System.getProperty("java.specification.version").startsWith("1.");
+        CryptoBackend.Implementation expected = java8 ? CryptoBackend.Implementation.BUNDLED : CryptoBackend.Implementation.JDK;
+        if (System.getProperty(CryptoBackend.SHA256_PROPERTY) == null) {
+            assertEquals(expected, sha256);
+        }
+        if (System.getProperty(CryptoBackend.SHA512_PROPERTY) == null) {
+            assertEquals(expected, sha512);
+        }
+    }
+
+    @Test
+    public void bothSha256ImplementationsAgree() {
+        byte[] message = Blake2b256DigestTest.pattern(1000);
+        byte[] expected = fromHex("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        for (CryptoBackend.Implementation implementation : CryptoBackend.Implementation.values()) {
+            CryptoBackend.setSha256(implementation);
+            assertArrayEquals(implementation.name(), expected, Hash.sha256("abc".getBytes()));
+        }
+        CryptoBackend.setSha256(CryptoBackend.Implementation.JDK);
+        byte[] jdk = Hash.sha256(message);
+        CryptoBackend.setSha256(CryptoBackend.Implementation.BUNDLED);
+        assertArrayEquals(jdk, Hash.sha256(message));
+    }
+}
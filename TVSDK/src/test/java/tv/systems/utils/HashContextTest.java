@@ -0,0 +1,149 @@
+package tv.systems.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class HashContextTest {
+
+    private Hash.DigestCache saved;
+
+    @Before
+    public void saveCache() {
+        saved = Hash.getDigestCache();
+    }
+
+    @After
+    public void restoreCache() {
+        Hash.setDigestCache(saved);
+    }
+
+    @Test
+    public void threadLocalHandsOutOneContextPerThread() {
+        Hash.setDigestCache(Hash.DigestCache.THREAD_LOCAL);
+        HashContext first = HashContext.acquire();
+        HashContext second = HashContext.acquire();
+        assertSame(first, second);
+        HashContext.release(first);
+        assertSame(first, HashContext.acquire());
+    }
+
+    @Test
+    public void poolReusesReleasedContexts() {
+        Hash.setDigestCache(Hash.DigestCache.POOL);
+        HashContext context = HashContext.acquire();
+        HashContext.release(context);
+        HashContext again = HashContext.acquire();
+        assertSame(context, again);
+        HashContext.release(again);
+    }
+
+    @Test
+    public void poolNeverHandsOutAContextTwice() {
+        Hash.setDigestCache(Hash.DigestCache.POOL);
+        HashContext first = HashContext.acquire();
+        HashContext second = HashContext.acquire();
+        assertNotSame(first, second);
+        HashContext.release(second);
+        HashContext.release(first);
+    }
+
+    @Test
+    public void poolDropsContextsBeyondItsCapacity() {
+        Hash.setDigestCache(Hash.DigestCache.POOL);
+        HashContext[] held = new HashContext[1024];
+        Set<HashContext> released = Collections.newSetFromMap(new IdentityHashMap<HashContext, Boolean>());
+        for (int i = 0; i < held.length; i++) {
+            held[i] = HashContext.acquire();
+        }
+        for (HashContext context : held) {
+            released.add(context);
+            HashContext.release(context);
+        }
+
+        int reused = 0;
+        for (int i = 0; i < held.length; i++) {
+            held[i] = HashContext.acquire();
+            if (released.contains(held[i])) {
+                reused++;
+            }
+        }
+        for (HashContext context : held) {
+            HashContext.release(context);
+        }
+        assertTrue(reused > 0);
+        assertTrue(reused < held.length);
+    }
+
+    @Test
+    public void pooledContextGoesBackAfterSwitchingStrategy() {
+        Hash.setDigestCache(Hash.DigestCache.POOL);
+        HashContext pooled = HashContext.acquire();
+        Hash.setDigestCache(Hash.DigestCache.THREAD_LOCAL);
+        HashContext.release(pooled);
+
+        Hash.setDigestCache(Hash.DigestCache.POOL);
+        HashContext again = HashContext.acquire();
+        assertSame(pooled, again);
+        HashContext.release(again);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullStrategyIsRejected() {
+        Hash.setDigestCache(null);
+    }
+
+    @Test
+    public void poolHashesMatchThreadLocalAcrossThreads() throws Exception {
+        final byte[][] messages = new byte[64][];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = Blake2b256DigestTest.pattern(i * 37);
+        }
+        Hash.setDigestCache(Hash.DigestCache.THREAD_LOCAL);
+        final byte[][] expected = new byte[messages.length][];
+        for (int i = 0; i < messages.length; i++) {
+            expected[i] = Hash.secureHash(messages[i]);
+        }
+
+        Hash.setDigestCache(Hash.DigestCache.POOL);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[][]>> results = new ArrayList<Future<byte[][]>>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(new Callable<byte[][]>() {
+                    @Override
+                    public byte[][] call() {
+                        byte[][] hashes = new byte[messages.length][];
+                        for (int i = 0; i < messages.length; i++) {
+                            hashes[i] = Hash.secureHash(messages[i]);
+                        }
+                        return hashes;
+                    }
+                }));
+            }
+            for (Future<byte[][]> result : results) {
+                byte[][] hashes = result.get();
+                for (int i = 0; i < messages.length; i++) {
+                    assertArrayEquals(expected[i], hashes[i]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package tv.systems.utils;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static tv.systems.utils.Blake2b256DigestTest.fromHex;
+import static tv.systems.utils.Blake2b256DigestTest.pattern;
+
+public class Keccak256DigestTest {
+
+    private static final int RATE = Keccak256Digest.RATE;
+
+    private static byte[] keccak(byte[] message) {
+        Keccak256Digest digest = new Keccak256Digest();
+        byte[] out = new byte[Keccak256Digest.DIGEST_SIZE];
+        digest.update(message, 0, message.length);
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    private static byte[] reference(byte[] message, int off, int len) {
+        KeccakDigest digest = new KeccakDigest(256);
+        byte[] out = new byte[32];
+        digest.update(message, off, len);
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    @Test
+    public void emptyAndAbc() {
+        assertArrayEquals(fromHex("c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470"),
+                keccak(new byte[0]));
+        assertArrayEquals(fromHex("4e03657aea45a94fc7d47ba826c8d667c0d1e6e33a64a036ec44f58fa12d6c45"),
+                keccak("abc".getBytes()));
+    }
+
+    // At RATE - 1 both padding bits land in the same byte; at RATE the padding needs a block of its own.
+    @Test
+    public void paddingAroundTheRate() {
+        int[] lengths = {RATE - 9, RATE - 8, RATE - 2, RATE - 1, RATE, RATE + 1, 2 * RATE - 1, 2 * RATE, 2 * RATE + 1};
+        for (int length : lengths) {
+            byte[] message = pattern(length);
+            assertArrayEquals("length " + length, reference(message, 0, length), keccak(message));
+        }
+    }
+
+    // Pieces that start and stop inside a lane and straddle the rate, so the buffered and direct absorb paths mix.
+    @Test
+    public void streamingAcrossRateBoundary() {
+        int[] pieces = {1, 7, 8, 130, RATE - 1, RATE, RATE + 1, 3};
+        byte[] message = pattern(4 * RATE + 11);
+        Keccak256Digest digest = new Keccak256Digest();
+        byte[] out = new byte[Keccak256Digest.DIGEST_SIZE];
+        for (int first = 0; first < pieces.length; first++) {
+            int offset = 0;
+            for (int i = first; offset < message.length; i++) {
+                int piece = Math.min(pieces[i % pieces.length], message.length - offset);
+                if (piece == 1) {
+                    digest.update(message[offset]);
+                } else {
+                    digest.update(message, offset, piece);
+                }
+                offset += piece;
+                digest.doFinal(out, 0);
+                assertArrayEquals("pieces from " + first + ", " + offset + " bytes", reference(message, 0, offset), out);
+                digest.update(message, 0, offset);
+            }
+            digest.reset();
+        }
+    }
+
+    // digestSingleBlock discards what was streamed before, even after that crossed the rate, and leaves the
+    // digest ready to stream the same message in pieces.
+    @Test
+    public void singleBlockMatchesStreaming() {
+        Keccak256Digest digest = new Keccak256Digest();
+        byte[] single = new byte[Keccak256Digest.DIGEST_SIZE];
+        byte[] streamed = new byte[Keccak256Digest.DIGEST_SIZE];
+        byte[] prefix = pattern(RATE + 5);
+        byte[] message = pattern(RATE + 3);
+        for (int len = 0; len < RATE; len++) {
+            digest.update(prefix, 0, RATE - 6);
+            digest.update(prefix, RATE - 6, 11);
+            digest.digestSingleBlock(message, 3, len, single, 0);
+
+            int half = len / 2;
+            digest.update(message, 3, half);
+            for (int i = half; i < len; i++) {
+                digest.update(message[3 + i]);
+            }
+            digest.doFinal(streamed, 0);
+            assertArrayEquals("length " + len, streamed, single);
+            assertArrayEquals("length " + len, reference(message, 3, len), single);
+        }
+    }
+
+    @Test
+    public void matchesBouncyCastle() {
+        Random random = new Random(33);
+        for (int i = 0; i < 200; i++) {
+            byte[] message = new byte[random.nextInt(1100)];
+            random.nextBytes(message);
+            assertArrayEquals("length " + message.length, reference(message, 0, message.length), keccak(message));
+        }
+    }
+
+    @Test
+    public void secureHashIsKeccakOfBlake2b() {
+        byte[][] messages = {new byte[0], "abc".getBytes(), pattern(200)};
+        String[] expected = {
+                "b8ac8f9444c818d16a1b5a6f885322da4795ea2d18e0a757fd45f5723643ec33",
+                "96d996fb20ae684d5ad45107cc28723d6a846a2fd0ad137d60d279a9708bc39d",
+                "1a998498439d282bf320578a090ae4a8fb44a618fa0cdb1b6840c3418ce755ea",
+        };
+        for (int i = 0; i < messages.length; i++) {
+            assertArrayEquals(fromHex(expected[i]), Hash.secureHash(messages[i]));
+            assertArrayEquals(fromHex(expected[i]), Hash.secureHash(ByteBuffer.wrap(messages[i])));
+            assertArrayEquals(keccak(Hash.blake2b(messages[i])), Hash.secureHash(messages[i]));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package tv.systems.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assume.assumeTrue;
+
+public class MultiLaneHashTest {
+
+    private static List<byte[]> messages(Random random, int count, int maxLength) {
+        List<byte[]> messages = new ArrayList<byte[]>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] message = new byte[random.nextInt(maxLength + 1)];
+            random.nextBytes(message);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private static byte[] oneByOne(boolean secure, List<byte[]> messages) {
+        byte[] out = new byte[messages.size() * Hash.DIGEST_SIZE];
+        for (int i = 0; i < messages.size(); i++) {
+            byte[] digest = secure ? Hash.secureHash(messages.get(i)) : Hash.blake2b(messages.get(i));
+            System.arraycopy(digest, 0, out, i * Hash.DIGEST_SIZE, Hash.DIGEST_SIZE);
+        }
+        return out;
+    }
+
+    @Test
+    public void engineMatchesScalarHashing() {
+        MultiLaneHash engine = MultiLaneHash.engine();
+        assumeTrue(engine != null);
+        Random random = new Random(36);
+        int[] counts = {1, engine.lanes() - 1, engine.lanes(), engine.lanes() + 1, 3 * engine.lanes() + 2};
+        int[] maxLengths = {0, 32, 128, 129, 700};
+        for (int count : counts) {
+            for (int maxLength : maxLengths) {
+                List<byte[]> messages = messages(random, count, maxLength);
+                byte[][] arrays = messages.toArray(new byte[0][]);
+                int[] offsets = new int[count];
+                int[] lengths = new int[count];
+                for (int i = 0; i < count; i++) {
+                    lengths[i] = arrays[i].length;
+                }
+                for (boolean secure : new boolean[]{false, true}) {
+                    byte[] out = new byte[3 + count * Hash.DIGEST_SIZE];
+                    engine.hash(secure, arrays, offsets, lengths, count, out, 3);
+                    byte[] expected = new byte[out.length];
+                    System.arraycopy(oneByOne(secure, messages), 0, expected, 3, count * Hash.DIGEST_SIZE);
+                    assertArrayEquals(count + " messages up to " + maxLength + " bytes", expected, out);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void batchesMatchScalarHashing() {
+        Random random = new Random(35);
+        List<byte[]> messages = messages(random, 1000, 300);
+        assertArrayEquals(oneByOne(true, messages), Hash.secureHashBatch(messages));
+        assertArrayEquals(oneByOne(false, messages), Hash.blake2bBatch(messages));
+
+        byte[] data = new byte[20000];
+        random.nextBytes(data);
+        int[] offsets = new int[500];
+        int[] lengths = new int[500];
+        List<byte[]> slices = new ArrayList<byte[]>();
+        for (int i = 0; i < offsets.length; i++) {
+            lengths[i] = random.nextInt(260);
+            offsets[i] = random.nextInt(data.length - lengths[i]);
+            byte[] slice = new byte[lengths[i]];
+            System.arraycopy(data, offsets[i], slice, 0, lengths[i]);
+            slices.add(slice);
+        }
+        byte[] out = new byte[offsets.length * Hash.DIGEST_SIZE];
+        Hash.secureHashBatch(data, offsets, lengths, out, 0);
+        assertArrayEquals(oneByOne(true, slices), out);
+        Hash.blake2bBatch(data, offsets, lengths, out, 0);
+        assertArrayEquals(oneByOne(false, slices), out);
+    }
+}